@@ -8,6 +8,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
 
@@ -18,9 +19,12 @@ public class ItunesController {
 
     private final ItunesService itunesService;
 
+    /**
+     * 곡 검색 (Mono 반환 - MVC 비동기 처리로 iTunes 응답을 기다리는 동안 Tomcat 스레드를 점유하지 않음)
+     */
     @GetMapping("/track/search")
-    public ResponseEntity<List<TrackSearchResponseDto>> searchTracks(@RequestParam("query") String query) {
-        List<TrackSearchResponseDto> tracks = itunesService.searchTracks(query);
-        return ResponseEntity.ok(tracks);
+    public Mono<ResponseEntity<List<TrackSearchResponseDto>>> searchTracks(@RequestParam("query") String query) {
+        return itunesService.searchTracksAsync(query)
+                .map(ResponseEntity::ok);
     }
 }
@@ -0,0 +1,147 @@
+package com.mooddy.backend.external.itunes.service;
+
+import com.mooddy.backend.external.itunes.dto.ItunesResponse;
+import com.mooddy.backend.external.itunes.dto.ItunesTrackDto;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * iTunes 곡 lookup 묶음 요청
+ * <p>
+ * lookup API는 쉼표로 구분한 여러 id를 한 번에 받으므로, 여러 호출의 id를 짧은 시간(window-ms) 동안
+ * 또는 batch-size개가 찰 때까지 모아서 한 번에 조회한다. 응답은 id별로 나눠 각 호출의 future를 따로 완료하며,
+ * iTunes에 없는 id는 빈 값으로 완료한다. 같은 묶음 안에서 같은 id를 요청하면 같은 future를 함께 받는다.
+ */
+@Slf4j
+@Component
+class ItunesLookupBatcher {
+
+    private static final String ITUNES_LOOKUP_URL = "https://itunes.apple.com/lookup";
+    private static final Duration LOOKUP_TIMEOUT = Duration.ofSeconds(5);
+
+    private final WebClient webClient;
+    private final int batchSize;
+    private final long windowMillis;
+    // 모으는 시간만 재는 타이머 (HTTP 호출은 WebClient에서 논블로킹으로 진행)
+    private final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "itunes-lookup-batcher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // 아래 필드는 this로 보호
+    private Map<Long, CompletableFuture<Optional<ItunesTrackDto>>> pending = new LinkedHashMap<>();
+    private ScheduledFuture<?> scheduledFlush;
+
+    ItunesLookupBatcher(WebClient webClient,
+                        @Value("${itunes.lookup-batch.size:100}") int batchSize,
+                        @Value("${itunes.lookup-batch.window-ms:20}") long windowMillis) {
+        this.webClient = webClient;
+        this.batchSize = batchSize;
+        this.windowMillis = windowMillis;
+    }
+
+    /**
+     * 곡 하나 조회 (다른 호출과 묶여서 전송됨)
+     *
+     * @return iTunes 곡 정보 (없는 id면 빈 값), 조회 자체가 실패하면 예외로 완료
+     */
+    CompletableFuture<Optional<ItunesTrackDto>> lookup(Long trackId) {
+        CompletableFuture<Optional<ItunesTrackDto>> future;
+        Map<Long, CompletableFuture<Optional<ItunesTrackDto>>> full = null;
+        synchronized (this) {
+            future = pending.get(trackId);
+            if (future != null) {
+                return future;
+            }
+            future = new CompletableFuture<>();
+            pending.put(trackId, future);
+            if (pending.size() >= batchSize) {
+                full = takePending();
+            } else if (scheduledFlush == null) {
+                scheduledFlush = timer.schedule(this::flush, windowMillis, TimeUnit.MILLISECONDS);
+            }
+        }
+        if (full != null) {
+            send(full);
+        }
+        return future;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        timer.shutdownNow();
+    }
+
+    private void flush() {
+        Map<Long, CompletableFuture<Optional<ItunesTrackDto>>> batch;
+        synchronized (this) {
+            batch = takePending();
+        }
+        if (!batch.isEmpty()) {
+            send(batch);
+        }
+    }
+
+    private Map<Long, CompletableFuture<Optional<ItunesTrackDto>>> takePending() {
+        Map<Long, CompletableFuture<Optional<ItunesTrackDto>>> batch = pending;
+        pending = new LinkedHashMap<>();
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+        return batch;
+    }
+
+    private void send(Map<Long, CompletableFuture<Optional<ItunesTrackDto>>> batch) {
+        String ids = batch.keySet().stream()
+                .map(String::valueOf)
+                .collect(Collectors.joining(","));
+        String uriString = UriComponentsBuilder.fromHttpUrl(ITUNES_LOOKUP_URL)
+                .queryParam("id", ids)
+                .toUriString();
+        log.info("iTunes API로 곡 일괄 조회 - {}곡", batch.size());
+
+        webClient.get()
+                .uri(uriString)
+                .retrieve()
+                .bodyToMono(ItunesResponse.class)
+                .timeout(LOOKUP_TIMEOUT)
+                .subscribe(
+                        response -> complete(batch, response),
+                        e -> {
+                            log.warn("iTunes 곡 일괄 조회 실패 - {}곡: {}", batch.size(), e.getMessage());
+                            batch.values().forEach(future -> future.completeExceptionally(e));
+                        },
+                        // 응답 본문이 없었으면 모두 못 찾은 것으로 처리 (이미 완료된 future에는 영향 없음)
+                        () -> batch.values().forEach(future -> future.complete(Optional.empty())));
+    }
+
+    private void complete(Map<Long, CompletableFuture<Optional<ItunesTrackDto>>> batch, ItunesResponse response) {
+        Map<Long, ItunesTrackDto> found = new HashMap<>();
+        if (response.getResults() != null) {
+            for (ItunesTrackDto result : response.getResults()) {
+                if (result.getTrackId() != null) {
+                    found.put(result.getTrackId(), result);
+                }
+            }
+        }
+        batch.forEach((trackId, future) -> future.complete(Optional.ofNullable(found.get(trackId))));
+    }
+}
@@ -0,0 +1,135 @@
+package com.mooddy.backend.external.itunes.service;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mooddy.backend.feature.track.dto.TrackSearchResponseDto;
+import com.mooddy.backend.global.exception.ItunesUnavailableException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+/**
+ * iTunes 검색 결과 캐시 (정규화한 검색어 -> 결과 목록)
+ * <p>
+ * 크기 제한(LRU에 가까운 Caffeine 정책)과 TTL을 두고, refresh-after가 지난 항목은 일단 기존 결과를 바로 돌려준 뒤
+ * 백그라운드에서 다시 조회해 교체한다 (stale-while-revalidate). 다시 조회에 실패하면 TTL까지 기존 결과를 유지한다.
+ * 같은 검색어의 동시 미적중은 하나의 조회를 함께 기다린다.
+ * <p>
+ * 동시에 진행하는 iTunes 검색 호출은 max-concurrent-loads개로 제한한다. 한도를 넘은 미적중은 기다리지 않고
+ * {@link ItunesUnavailableException}(503)으로 끝내고, 한도를 넘은 백그라운드 갱신은 건너뛰고 기존 결과를 유지한다.
+ */
+@Slf4j
+@Component
+class ItunesSearchCache {
+
+    static final String CACHE_NAME = "itunesSearch";
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final AsyncCache<String, Entry> cache;
+    private final long refreshAfterNanos;
+    // 백그라운드 재조회 중인 검색어 (같은 검색어를 여러 번 재조회하지 않도록)
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+    private final Semaphore loadPermits;
+
+    ItunesSearchCache(@Value("${itunes.search-cache.max-size:10000}") long maxSize,
+                      @Value("${itunes.search-cache.expire-after-write-minutes:60}") long expireAfterWriteMinutes,
+                      @Value("${itunes.search-cache.refresh-after-write-minutes:10}") long refreshAfterWriteMinutes,
+                      @Value("${itunes.search-cache.max-concurrent-loads:32}") int maxConcurrentLoads,
+                      MeterRegistry meterRegistry) {
+        this.loadPermits = new Semaphore(maxConcurrentLoads);
+        this.refreshAfterNanos = Duration.ofMinutes(refreshAfterWriteMinutes).toNanos();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMinutes(expireAfterWriteMinutes))
+                .recordStats()
+                .buildAsync();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache.synchronous(), CACHE_NAME);
+        Gauge.builder("cache.hit.ratio", cache, c -> c.synchronous().stats().hitRate())
+                .tag("cache", CACHE_NAME)
+                .description("iTunes 검색 결과 캐시 적중률 (시작 이후 누적)")
+                .register(meterRegistry);
+        Gauge.builder("itunes.search.in-flight", loadPermits, permits -> maxConcurrentLoads - permits.availablePermits())
+                .description("진행 중인 iTunes 검색 호출 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시 키용 검색어 정규화 (앞뒤 공백 제거, 연속 공백은 하나로, 소문자)
+     */
+    static String normalize(String query) {
+        if (query == null) {
+            return "";
+        }
+        return WHITESPACE.matcher(query.strip()).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 캐시된 결과를 반환하고, 없으면 loader로 조회해서 저장 (실패한 조회는 저장하지 않음)
+     * 반환한 future는 호출 스레드를 막지 않고 iTunes 응답 스레드에서 완료됨
+     *
+     * @throws ItunesUnavailableException 미적중인데 동시 호출 한도에 걸린 경우
+     *
+     * @param term 정규화된 검색어
+     */
+    CompletableFuture<List<TrackSearchResponseDto>> get(String term,
+                                                        Function<String, Mono<List<TrackSearchResponseDto>>> loader) {
+        CompletableFuture<Entry> future = cache.get(term, (key, executor) -> {
+            if (!loadPermits.tryAcquire()) {
+                // 캐시에 남지 않고 호출 측으로 바로 전달됨
+                log.warn("iTunes 검색 동시 호출 한도 초과 - query: {}", key);
+                throw new ItunesUnavailableException("검색 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+            }
+            return load(key, loader)
+                    .doFinally(signal -> loadPermits.release())
+                    .toFuture();
+        });
+        Entry entry = future.getNow(null);
+        if (entry != null && System.nanoTime() - entry.loadedAt() > refreshAfterNanos) {
+            refresh(term, loader);
+        }
+        return future.thenApply(Entry::results);
+    }
+
+    private void refresh(String term, Function<String, Mono<List<TrackSearchResponseDto>>> loader) {
+        if (!refreshing.add(term)) {
+            return;
+        }
+        if (!loadPermits.tryAcquire()) {
+            refreshing.remove(term);
+            return;
+        }
+        load(term, loader)
+                .doFinally(signal -> {
+                    loadPermits.release();
+                    refreshing.remove(term);
+                })
+                .subscribe(
+                        entry -> cache.put(term, CompletableFuture.completedFuture(entry)),
+                        e -> log.warn("iTunes 검색 캐시 갱신 실패 - 기존 결과 유지: query={}, {}", term, e.getMessage()));
+    }
+
+    private static Mono<Entry> load(String term, Function<String, Mono<List<TrackSearchResponseDto>>> loader) {
+        return loader.apply(term).map(results -> new Entry(List.copyOf(results), System.nanoTime()));
+    }
+
+    /**
+     * 조회 결과와 조회 시각 (System.nanoTime)
+     */
+    private record Entry(List<TrackSearchResponseDto> results, long loadedAt) {
+    }
+}
@@ -3,10 +3,26 @@ package com.mooddy.backend.external.itunes.service;
 import com.mooddy.backend.feature.track.domain.Track;
 import com.mooddy.backend.feature.track.dto.TrackSearchResponseDto;
 
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 public interface ItunesService {
     List<TrackSearchResponseDto> searchTracks(String query);
 
+    /**
+     * 곡 검색 (논블로킹) - 컨트롤러에서 반환하면 iTunes 응답을 기다리는 동안 요청 스레드를 반납함
+     */
+    Mono<List<TrackSearchResponseDto>> searchTracksAsync(String query);
+
     Track getOrCreateTrackEntity(Long trackId);
+
+    /**
+     * 여러 곡을 한 번에 조회/생성 (DB에 없는 곡은 iTunes에서 동시 조회)
+     *
+     * @return iTunes trackId -> Track (iTunes에서 찾지 못한 곡은 포함되지 않음)
+     */
+    Map<Long, Track> getOrCreateTrackEntities(Collection<Long> trackIds);
 }
@@ -5,18 +5,33 @@ import com.mooddy.backend.external.itunes.dto.ItunesTrackDto;
 import com.mooddy.backend.feature.track.domain.Track;
 import com.mooddy.backend.feature.track.dto.TrackSearchResponseDto;
 import com.mooddy.backend.feature.track.repository.TrackRepository;
+import com.mooddy.backend.global.exception.ItunesUnavailableException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -26,45 +41,73 @@ public class ItunesServiceImpl implements ItunesService {
 
     private final WebClient webClient;
     private final TrackRepository trackRepository;
+    private final ItunesSearchCache itunesSearchCache;
+    private final ItunesLookupBatcher itunesLookupBatcher;
+    private final TrackSearchIndex trackSearchIndex;
+    private final ItunesTrackWriter itunesTrackWriter;
+
     private static final String ITUNES_SEARCH_URL = "https://itunes.apple.com/search";
-    private static final String ITUNES_LOOKUP_URL = "https://itunes.apple.com/lookup";
+    private static final Duration SEARCH_TIMEOUT = Duration.ofSeconds(5);
+    // 같은 곡을 먼저 생성 중인 요청을 기다리는 최대 시간 (iTunes 조회 타임아웃 5초 + 여유)
+    private static final Duration AWAIT_TIMEOUT = Duration.ofSeconds(10);
+    private static final int SEARCH_LIMIT = 20;
+    // 저장된 곡에서 이만큼 찾으면 iTunes를 호출하지 않음
+    private static final int MIN_LOCAL_HITS = 5;
+
+    // 생성 중인 곡 (iTunes trackId -> 별도 트랜잭션으로 커밋된 tracks.id)
+    private final ConcurrentHashMap<Long, CompletableFuture<Long>> inFlightTracks = new ConcurrentHashMap<>();
 
+    /**
+     * 곡 검색 - 저장된 곡(tracks)에서 먼저 찾고, MIN_LOCAL_HITS건 미만이면 iTunes 결과를 뒤에 붙임
+     * iTunes 결과는 정규화한 검색어 단위로 캐시 (오래된 결과는 먼저 반환하고 백그라운드에서 갱신)
+     */
     @Override
     public List<TrackSearchResponseDto> searchTracks(String query) {
-        log.info("iTunes 검색 시작 (WebClient) - query: {}", query);
-
-        String uriString = UriComponentsBuilder.fromHttpUrl(ITUNES_SEARCH_URL)
-                .queryParam("term", query)
-                .queryParam("media", "music")
-                .queryParam("entity", "song")
-                .queryParam("limit", 20)
-                .toUriString();
+        String term = ItunesSearchCache.normalize(query);
+        if (term.isEmpty()) {
+            return Collections.emptyList();
+        }
 
+        List<TrackSearchResponseDto> local = searchLocalTracks(term);
+        if (local.size() >= MIN_LOCAL_HITS) {
+            return local;
+        }
         try {
-            ItunesResponse response = webClient.get()
-                    .uri(uriString)
-                    .retrieve()
-                    .bodyToMono(ItunesResponse.class)
-                    .timeout(Duration.ofSeconds(5))
-                    .block();
-
-            if (response == null || response.getResults() == null) {
-                log.warn("iTunes API로부터 응답이 없거나 결과가 비어있습니다.");
-                return Collections.emptyList();
-            }
-
-            log.info("iTunes 검색 완료 - 결과 수: {}", response.getResultCount());
+            return merge(local, itunesSearchCache.get(term, this::fetchSearchResults).join());
+        } catch (CompletionException e) {
+            log.error("iTunes 검색 실패 (WebClient)", e.getCause());
+            throw new RuntimeException("Failed to search tracks from iTunes", e.getCause());
+        }
+    }
 
-            return response.getResults().stream()
-                    .map(this::mapToTrackSearchResponseDto)
-                    .collect(Collectors.toList());
+    /**
+     * 곡 검색 (논블로킹) - 캐시 미적중이어도 호출 스레드는 iTunes 응답을 기다리지 않음
+     * 저장된 곡 조회(메모리 인덱스 + IN 쿼리 한 번)는 호출 스레드에서 바로 처리
+     */
+    @Override
+    public Mono<List<TrackSearchResponseDto>> searchTracksAsync(String query) {
+        String term = ItunesSearchCache.normalize(query);
+        if (term.isEmpty()) {
+            return Mono.just(Collections.emptyList());
+        }
 
-        } catch (Exception e) {
-            log.error("iTunes 검색 실패 (WebClient)", e);
-            throw new RuntimeException("Failed to search tracks from iTunes", e);
+        List<TrackSearchResponseDto> local = searchLocalTracks(term);
+        if (local.size() >= MIN_LOCAL_HITS) {
+            return Mono.just(local);
         }
+        return Mono.fromFuture(() -> itunesSearchCache.get(term, this::fetchSearchResults))
+                .map(itunes -> merge(local, itunes))
+                .onErrorMap(e -> !(e instanceof ItunesUnavailableException), e -> {
+                    Throwable cause = e instanceof CompletionException ? e.getCause() : e;
+                    log.error("iTunes 검색 실패 (WebClient)", cause);
+                    return new RuntimeException("Failed to search tracks from iTunes", cause);
+                });
     }
 
+    /**
+     * DB에 있으면 그대로 사용하고, 없으면 iTunes에서 조회해서 저장
+     * 같은 곡을 동시에 요청한 호출은 먼저 온 호출의 iTunes 조회/INSERT 결과를 함께 사용 (single-flight)
+     */
     @Override
     @Transactional
     public Track getOrCreateTrackEntity(Long trackId) {
@@ -75,42 +118,253 @@ public class ItunesServiceImpl implements ItunesService {
             return existingTrack.get();
         }
 
-        try {
-            // iTunes API에서 정보 가져와서 저장
+        Map<Long, CompletableFuture<Long>> claimed = new LinkedHashMap<>();
+        Long id = claimOrAwait(trackId, claimed);
+        if (id == null) {
             log.info("iTunes API에서 Track 생성 - trackId: {}", trackId);
-            ItunesTrackDto itunesTrack = fetchTrackFromApi(trackId);
-            Track track = mapToEntity(itunesTrack);
-            return trackRepository.save(track);
+            id = createTracks(claimed).get(trackId);
+            if (id == null) {
+                log.error("iTunes 곡 조회 실패 - trackId: {}", trackId);
+                throw new RuntimeException("Failed to get track from iTunes API");
+            }
+        } else {
+            log.info("다른 요청이 생성한 Track 사용 - trackId: {}", trackId);
+        }
+        return trackRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("생성된 Track 재조회 실패 - trackId: " + trackId));
+    }
+
+    /**
+     * 여러 곡을 한 번에 조회/생성
+     * DB에 없는 곡은 단건 생성과 같은 inFlightTracks에 등록해서 동시에 같은 곡을 INSERT하지 않고,
+     * 다른 요청이 생성 중인 곡은 그 결과를 기다림 (요청끼리 서로 기다리는 순환이 없도록 trackId 오름차순으로 등록)
+     * 생성은 별도 트랜잭션으로 커밋되고 이 메서드가 끝나기 전에 생성 중 표시를 모두 풀기 때문에,
+     * 여러 묶음으로 나눠 호출하는 요청(가져오기)이 앞 묶음의 곡을 붙잡은 채 다음 묶음을 처리하지 않음
+     */
+    @Override
+    @Transactional
+    public Map<Long, Track> getOrCreateTrackEntities(Collection<Long> trackIds) {
+        Map<Long, Track> result = new LinkedHashMap<>();
+        if (trackIds.isEmpty()) {
+            return result;
+        }
+
+        // DB에 이미 있는 곡은 한 번의 IN 쿼리로 조회
+        for (Track track : trackRepository.findByTrackIdIn(trackIds)) {
+            result.put(track.getTrackId(), track);
+        }
+
+        List<Long> missing = trackIds.stream()
+                .filter(trackId -> !result.containsKey(trackId))
+                .distinct()
+                .sorted()
+                .collect(Collectors.toList());
+        if (missing.isEmpty()) {
+            return result;
+        }
+
+        Map<Long, CompletableFuture<Long>> claimed = new LinkedHashMap<>();
+        List<Long> ids = new ArrayList<>();
+        try {
+            for (Long trackId : missing) {
+                Long id = claimOrAwait(trackId, claimed);
+                if (id != null) {
+                    ids.add(id);
+                }
+            }
+        } catch (RuntimeException e) {
+            release(claimed, Collections.emptyMap());
+            throw e;
+        }
+        log.info("iTunes API에서 Track 일괄 생성 - 요청: {}, DB 미존재: {}, 다른 요청이 생성: {}",
+                trackIds.size(), missing.size(), ids.size());
+        ids.addAll(createTracks(claimed).values());
+
+        // 다른 트랜잭션에서 커밋된 곡을 이 트랜잭션의 엔티티로 한 번에 조회
+        if (!ids.isEmpty()) {
+            for (Track track : trackRepository.findAllById(ids)) {
+                result.put(track.getTrackId(), track);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * trackId 생성을 이 요청이 맡거나(claimed에 등록하고 null 반환), 다른 요청이 생성한 tracks.id를 기다려서 반환
+     */
+    private Long claimOrAwait(Long trackId, Map<Long, CompletableFuture<Long>> claimed) {
+        while (true) {
+            CompletableFuture<Long> created = new CompletableFuture<>();
+            CompletableFuture<Long> inFlight = inFlightTracks.putIfAbsent(trackId, created);
+            if (inFlight == null) {
+                claimed.put(trackId, created);
+                return null;
+            }
+            Long id;
+            try {
+                id = await(inFlight);
+            } catch (ItunesUnavailableException e) {
+                throw e;
+            } catch (RuntimeException e) {
+                // 먼저 생성하던 요청이 실패함 (iTunes에 없는 곡 등) - 직접 다시 시도
+                id = null;
+            }
+            if (id != null) {
+                return id;
+            }
+        }
+    }
 
-        } catch (DataIntegrityViolationException e) {
-            // 동시에 다른 요청이 이미 저장했을 경우
-            log.warn("동시성 충돌 감지 - 다시 조회 시도: trackId={}", trackId);
+    /**
+     * 이 요청이 맡은 곡을 iTunes에서 조회해서 저장 (iTunes에 없는 곡은 제외)
+     * 곡 정보는 batch-size개씩 묶어서 lookup 한 번으로 요청하고, 저장은 별도 트랜잭션에서 바로 커밋
+     * 커밋되면 기다리던 요청이 바로 읽을 수 있으므로 호출 측 트랜잭션을 기다리지 않고 결과 공유 (실패했거나 iTunes에 없는 곡이면 null)
+     *
+     * @return iTunes trackId -> tracks.id
+     */
+    private Map<Long, Long> createTracks(Map<Long, CompletableFuture<Long>> claimed) {
+        if (claimed.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<Long, Long> createdIds;
+        try {
+            List<CompletableFuture<Optional<ItunesTrackDto>>> lookups = claimed.keySet().stream()
+                    .map(itunesLookupBatcher::lookup)
+                    .collect(Collectors.toList());
 
-            // 2차 조회: 다른 요청이 저장한 Track 가져오기
-            return trackRepository.findByTrackId(trackId)
-                    .orElseThrow(() -> new RuntimeException(
-                            "Track 저장 실패 및 재조회 실패 - trackId: " + trackId));
+            List<Track> newTracks = new ArrayList<>();
+            for (CompletableFuture<Optional<ItunesTrackDto>> lookup : lookups) {
+                lookupResult(lookup).map(this::mapToEntity).ifPresent(newTracks::add);
+            }
+            if (newTracks.size() < claimed.size()) {
+                log.warn("iTunes에 없는 곡 - {}곡", claimed.size() - newTracks.size());
+            }
+            createdIds = newTracks.isEmpty() ? Collections.emptyMap() : itunesTrackWriter.insertAll(newTracks);
+        } catch (RuntimeException e) {
+            // iTunes 장애(503)는 기다리던 요청에도 그대로 전달
+            claimed.forEach((trackId, future) -> {
+                inFlightTracks.remove(trackId, future);
+                future.completeExceptionally(e);
+            });
+            throw e;
         }
+        release(claimed, createdIds);
+        return createdIds;
     }
 
-    private ItunesTrackDto fetchTrackFromApi(Long trackId) {
-        log.info("iTunes API로 곡 조회 - trackId: {}", trackId);
-        String uriString = UriComponentsBuilder.fromHttpUrl(ITUNES_LOOKUP_URL)
-                .queryParam("id", trackId)
+    /**
+     * 생성 중 표시를 풀고 기다리던 요청에 결과 전달
+     */
+    private void release(Map<Long, CompletableFuture<Long>> claimed, Map<Long, Long> createdIds) {
+        claimed.forEach((trackId, future) -> {
+            inFlightTracks.remove(trackId, future);
+            future.complete(createdIds.get(trackId));
+        });
+    }
+
+    /**
+     * 저장된 곡 검색 (순위는 메모리 인덱스에서 정하고, 곡 정보는 IN 쿼리 한 번으로 조회)
+     */
+    private List<TrackSearchResponseDto> searchLocalTracks(String term) {
+        List<Long> ids = trackSearchIndex.search(term, SEARCH_LIMIT);
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Map<Long, Track> tracks = trackRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Track::getId, Function.identity()));
+        return ids.stream()
+                .map(tracks::get)
+                .filter(Objects::nonNull)
+                .map(this::mapToTrackSearchResponseDto)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 저장된 곡 결과 뒤에 iTunes 결과 중 겹치지 않는 곡을 SEARCH_LIMIT건까지 붙임
+     */
+    private static List<TrackSearchResponseDto> merge(List<TrackSearchResponseDto> local,
+                                                      List<TrackSearchResponseDto> itunes) {
+        if (local.isEmpty()) {
+            return itunes;
+        }
+        List<TrackSearchResponseDto> merged = new ArrayList<>(local);
+        Set<String> trackIds = new HashSet<>();
+        for (TrackSearchResponseDto track : local) {
+            trackIds.add(track.trackId());
+        }
+        for (TrackSearchResponseDto track : itunes) {
+            if (merged.size() >= SEARCH_LIMIT) {
+                break;
+            }
+            if (trackIds.add(track.trackId())) {
+                merged.add(track);
+            }
+        }
+        return merged;
+    }
+
+    private Mono<List<TrackSearchResponseDto>> fetchSearchResults(String term) {
+        log.info("iTunes 검색 시작 (WebClient) - query: {}", term);
+
+        String uriString = UriComponentsBuilder.fromHttpUrl(ITUNES_SEARCH_URL)
+                .queryParam("term", term)
+                .queryParam("media", "music")
+                .queryParam("entity", "song")
+                .queryParam("limit", SEARCH_LIMIT)
                 .toUriString();
 
-        ItunesResponse response = webClient.get()
+        return webClient.get()
                 .uri(uriString)
                 .retrieve()
                 .bodyToMono(ItunesResponse.class)
-                .timeout(Duration.ofSeconds(5))
-                .block();
+                .timeout(SEARCH_TIMEOUT)
+                .map(response -> {
+                    if (response.getResults() == null) {
+                        log.warn("iTunes API로부터 응답이 없거나 결과가 비어있습니다.");
+                        return Collections.<TrackSearchResponseDto>emptyList();
+                    }
+                    log.info("iTunes 검색 완료 - 결과 수: {}", response.getResultCount());
+                    return response.getResults().stream()
+                            .map(this::mapToTrackSearchResponseDto)
+                            .collect(Collectors.toList());
+                })
+                .defaultIfEmpty(Collections.emptyList());
+    }
+
+    /**
+     * 다른 요청의 Track 생성 결과 대기 (DB 커넥션을 잡은 채 기다리므로 AWAIT_TIMEOUT까지만)
+     */
+    private static Long await(CompletableFuture<Long> future) {
+        try {
+            return future.get(AWAIT_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.warn("진행 중인 Track 생성 대기 시간 초과");
+            throw new ItunesUnavailableException("곡 정보를 가져오는 중입니다. 잠시 후 다시 시도해주세요.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ItunesUnavailableException("곡 정보를 가져오는 중입니다. 잠시 후 다시 시도해주세요.");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new RuntimeException(e.getCause());
+        }
+    }
 
-        if (response == null || response.getResults() == null || response.getResults().isEmpty()) {
-            log.error("iTunes 곡 조회 실패 - trackId: {}", trackId);
-            throw new RuntimeException("Failed to get track from iTunes API");
+    /**
+     * 묶음 조회 결과 대기 (iTunes 호출이 실패했거나 응답이 없으면 503)
+     */
+    private static Optional<ItunesTrackDto> lookupResult(CompletableFuture<Optional<ItunesTrackDto>> lookup) {
+        try {
+            return lookup.get(AWAIT_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException | TimeoutException e) {
+            Throwable cause = e instanceof ExecutionException ? e.getCause() : e;
+            log.warn("iTunes 곡 조회 실패: {}", cause.toString());
+            throw new ItunesUnavailableException("iTunes에서 곡 정보를 가져올 수 없습니다. 잠시 후 다시 시도해주세요.", cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ItunesUnavailableException("iTunes에서 곡 정보를 가져올 수 없습니다. 잠시 후 다시 시도해주세요.", e);
         }
-        return response.getResults().get(0);
     }
 
     private Track mapToEntity(ItunesTrackDto itunesTrack) {
@@ -127,6 +381,20 @@ public class ItunesServiceImpl implements ItunesService {
                 .build();
     }
 
+    private TrackSearchResponseDto mapToTrackSearchResponseDto(Track track) {
+        return new TrackSearchResponseDto(
+                String.valueOf(track.getTrackId()),
+                track.getTitle(),
+                track.getArtist(),
+                track.getAlbum(),
+                track.getDurationMs() != null ? track.getDurationMs() : 0,
+                track.getAlbumCoverUrl(),
+                track.getReleaseDate(),
+                track.getPreviewUrl(),
+                track.getPrimaryGenreName()
+        );
+    }
+
     private TrackSearchResponseDto mapToTrackSearchResponseDto(ItunesTrackDto itunesTrack) {
         return new TrackSearchResponseDto(
                 String.valueOf(itunesTrack.getTrackId()),
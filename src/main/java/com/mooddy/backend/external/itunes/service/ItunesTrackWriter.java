@@ -0,0 +1,58 @@
+package com.mooddy.backend.external.itunes.service;
+
+import com.mooddy.backend.feature.track.domain.Track;
+import com.mooddy.backend.feature.track.repository.TrackJdbcRepository;
+import com.mooddy.backend.feature.track.repository.TrackRepository;
+import com.mooddy.backend.global.exception.PlaylistConflictException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * iTunes에서 가져온 새 곡 저장
+ * 호출 측(곡 추가/가져오기) 트랜잭션과 별도로 바로 커밋해서, 같은 곡을 기다리는 다른 요청이
+ * 호출 측 트랜잭션이 끝날 때까지 기다리지 않게 함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+class ItunesTrackWriter {
+
+    private final TrackRepository trackRepository;
+    private final TrackJdbcRepository trackJdbcRepository;
+    private final TrackSearchIndex trackSearchIndex;
+
+    /**
+     * 새 곡을 JDBC 배치 INSERT로 저장하고 커밋 (이미 저장된 trackId는 건너뜀)
+     * 검색 인덱스에는 이 트랜잭션이 커밋된 뒤 반영
+     *
+     * @return iTunes trackId -> tracks.id
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public Map<Long, Long> insertAll(List<Track> newTracks) {
+        try {
+            trackJdbcRepository.insertAllIfAbsent(newTracks);
+        } catch (DataIntegrityViolationException e) {
+            // 다른 서버 인스턴스가 같은 곡을 동시에 저장함 - 저장된 곡을 다시 조회
+            log.warn("동시성 충돌 감지 - 다시 조회 시도: {}곡", newTracks.size());
+        }
+        List<Long> newTrackIds = newTracks.stream()
+                .map(Track::getTrackId)
+                .collect(Collectors.toList());
+        List<Track> saved = trackRepository.findByTrackIdIn(newTrackIds);
+        if (saved.size() < newTracks.size()) {
+            // 충돌한 곡이 아직 커밋되지 않아 보이지 않음
+            throw new PlaylistConflictException("다른 요청이 같은 곡을 저장하는 중입니다. 잠시 후 다시 시도해주세요.");
+        }
+        trackSearchIndex.indexAll(saved);
+        return saved.stream()
+                .collect(Collectors.toMap(Track::getTrackId, Track::getId));
+    }
+}
@@ -0,0 +1,123 @@
+package com.mooddy.backend.external.itunes.service;
+
+import com.mooddy.backend.feature.track.domain.Track;
+import com.mooddy.backend.feature.track.repository.TrackJdbcRepository;
+import com.mooddy.backend.feature.track.repository.TrackSearchDocument;
+import com.mooddy.backend.global.util.InvertedIndex;
+import com.mooddy.backend.global.util.TransactionCallbacks;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * 저장된 곡(tracks)의 제목/아티스트/앨범 검색용 메모리 역색인
+ * <p>
+ * 곡 정보는 저장된 뒤 바뀌지 않으므로 추가만 한다.
+ * 시작 시 tracks 전체를 스트리밍으로 한 번 읽어 적재하고, 이후에는 곡이 저장될 때 커밋 후 반영한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+class TrackSearchIndex {
+
+    private static final int WARM_UP_BATCH_SIZE = 5000;
+
+    // 제목 > 아티스트 > 앨범, 완전 일치 > 접두어 일치 순으로 높게 평가
+    private static final InvertedIndex.Field TITLE = new InvertedIndex.Field(4f, 2f);
+    private static final InvertedIndex.Field ARTIST = new InvertedIndex.Field(3f, 1.5f);
+    private static final InvertedIndex.Field ALBUM = new InvertedIndex.Field(1f, 0.5f);
+
+    private final TrackJdbcRepository trackJdbcRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final InvertedIndex index = new InvertedIndex("곡", TITLE, ARTIST, ALBUM);
+
+    /**
+     * 애플리케이션 시작 후 tracks 전체를 스트리밍으로 읽어 적재
+     * WARM_UP_BATCH_SIZE건마다 쓰기 잠금을 풀어서 적재 중에도 검색이 가능함
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        long started = System.currentTimeMillis();
+        List<TrackSearchDocument> batch = new ArrayList<>(WARM_UP_BATCH_SIZE);
+        trackJdbcRepository.scanSearchDocuments(document -> {
+            batch.add(document);
+            if (batch.size() == WARM_UP_BATCH_SIZE) {
+                addAll(batch);
+                batch.clear();
+            }
+        });
+        addAll(batch);
+        log.info("곡 검색 인덱스 적재 완료 - 곡: {}, 소요: {}ms", size(), System.currentTimeMillis() - started);
+    }
+
+    /**
+     * 저장된 곡 반영 (트랜잭션 안이면 커밋 후 반영)
+     */
+    void index(Track track) {
+        indexAll(List.of(track));
+    }
+
+    void indexAll(Collection<Track> tracks) {
+        if (tracks.isEmpty()) {
+            return;
+        }
+        List<TrackSearchDocument> documents = tracks.stream()
+                .map(track -> new TrackSearchDocument(track.getId(), track.getTitle(), track.getArtist(), track.getAlbum()))
+                .collect(Collectors.toList());
+        TransactionCallbacks.afterCommit(() -> addAll(documents));
+    }
+
+    /**
+     * 검색어의 모든 단어가 제목/아티스트/앨범 중 하나에 (접두어로) 포함된 곡을 점수 순으로 최대 limit건 조회
+     * 점수가 같으면 최근에 저장된 곡(id 큰 순) 우선
+     *
+     * @return tracks.id 목록
+     */
+    List<Long> search(String query, int limit) {
+        if (limit <= 0) {
+            return Collections.emptyList();
+        }
+        lock.readLock().lock();
+        try {
+            return index.search(query, 0, limit).ids();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return index.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void addAll(List<TrackSearchDocument> documents) {
+        if (documents.isEmpty()) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            for (TrackSearchDocument document : documents) {
+                // 적재와 저장 반영이 겹쳐도 같은 곡이 두 번 들어가지 않도록 이미 있는 곡은 건너뜀
+                if (!index.contains(document.id())) {
+                    index.put(document.id(), document.title(), document.artist(), document.album());
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+}
@@ -1,12 +1,28 @@
 package com.mooddy.backend.feature.playlist.controller;
 
 import com.mooddy.backend.feature.playlist.dto.AddTrackRequestDto;
+import com.mooddy.backend.feature.playlist.dto.AddTracksRequestDto;
+import com.mooddy.backend.feature.playlist.dto.CursorPageResponseDto;
+import com.mooddy.backend.feature.playlist.dto.PlaylistEditRequestDto;
+import com.mooddy.backend.feature.playlist.dto.PlaylistExportFormat;
+import com.mooddy.backend.feature.playlist.dto.PlaylistImportFormat;
+import com.mooddy.backend.feature.playlist.dto.PlaylistImportResultDto;
 import com.mooddy.backend.feature.playlist.dto.PlaylistRequestDto;
 import com.mooddy.backend.feature.playlist.dto.PlaylistResponseDto;
+import com.mooddy.backend.feature.playlist.dto.PlaylistSearchResponseDto;
+import com.mooddy.backend.feature.playlist.dto.PlaylistSummaryDto;
+import com.mooddy.backend.feature.playlist.dto.PlaylistSyncResponseDto;
+import com.mooddy.backend.feature.playlist.dto.PlaylistVersionDto;
+import com.mooddy.backend.feature.playlist.service.PlaylistReadAccess;
 import com.mooddy.backend.feature.playlist.service.PlaylistService;
+import com.mooddy.backend.feature.playlist.domain.Visibility;
 import com.mooddy.backend.feature.user.domain.User;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -18,7 +34,14 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -42,36 +65,171 @@ public class PlaylistController {
         return ResponseEntity.status(HttpStatus.CREATED).body(playlist);
     }
 
+    /**
+     * 파일에서 플레이리스트 가져오기 (CSV/M3U/JSON, 형식을 지정하지 않으면 확장자로 판단)
+     * 제목을 지정하지 않으면 파일 이름을 제목으로 사용
+     */
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<PlaylistImportResultDto> importPlaylist(
+            @AuthenticationPrincipal User user,
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(required = false) String format,
+            @RequestParam(required = false) String title,
+            @RequestParam(required = false) Visibility visibility) throws IOException {
+        PlaylistImportFormat importFormat = PlaylistImportFormat.from(format, file.getOriginalFilename());
+        String playlistTitle = (title != null && !title.isBlank()) ? title : baseName(file.getOriginalFilename());
+
+        try (InputStream in = file.getInputStream()) {
+            PlaylistImportResultDto result = playlistService.importPlaylist(user, importFormat, playlistTitle, visibility, in);
+            return ResponseEntity.status(HttpStatus.CREATED).body(result);
+        }
+    }
+
     /**
      * 특정 사용자의 플레이리스트 목록 조회
      */
     @GetMapping("/user/{userId}")
-    public ResponseEntity<List<PlaylistResponseDto>> getUserPlaylists(
+    public ResponseEntity<List<PlaylistSummaryDto>> getUserPlaylists(
             @PathVariable Long userId,
             @AuthenticationPrincipal User requester
     ) {
-        List<PlaylistResponseDto> playlists = playlistService.getUserPlaylists(userId, requester);
+        List<PlaylistSummaryDto> playlists = playlistService.getUserPlaylists(userId, requester);
         return ResponseEntity.ok(playlists);
     }
 
     /**
-     * 공개 플레이리스트 목록 조회
+     * 내 플레이리스트 변경분 동기화 (since 이후 생성/수정/삭제분만, since 없으면 전체)
+     * http://localhost:8080/api/playlists/sync?since=2025-01-01T00:00:00&sinceId={watermarkId}
+     */
+    @GetMapping("/sync")
+    public ResponseEntity<PlaylistSyncResponseDto> syncPlaylists(
+            @AuthenticationPrincipal User user,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since,
+            @RequestParam(required = false) Long sinceId) {
+        PlaylistSyncResponseDto sync = playlistService.syncPlaylists(user, since, sinceId);
+        return ResponseEntity.ok(sync);
+    }
+
+    /**
+     * 공개 플레이리스트 목록 조회 (최근 수정순, 커서 기반 페이지네이션)
+     * http://localhost:8080/api/playlists/public?size=20&cursor={nextCursor}
      */
     @GetMapping("/public")
-    public ResponseEntity<List<PlaylistResponseDto>> getPublicPlaylists() {
-        List<PlaylistResponseDto> playlists = playlistService.getPublicPlaylists();
+    public ResponseEntity<CursorPageResponseDto<PlaylistSummaryDto>> getPublicPlaylists(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        CursorPageResponseDto<PlaylistSummaryDto> playlists = playlistService.getPublicPlaylists(cursor, size);
+        return ResponseEntity.ok(playlists);
+    }
+
+    /**
+     * 나에게 공유된 플레이리스트 목록 조회 (최근 수정순, 커서 기반 페이지네이션)
+     * http://localhost:8080/api/playlists/shared-with-me?size=20&cursor={nextCursor}
+     */
+    @GetMapping("/shared-with-me")
+    public ResponseEntity<CursorPageResponseDto<PlaylistSummaryDto>> getSharedWithMe(
+            @AuthenticationPrincipal User user,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        CursorPageResponseDto<PlaylistSummaryDto> playlists = playlistService.getSharedWithMe(user, cursor, size);
         return ResponseEntity.ok(playlists);
     }
 
     /**
-     * 특정 플레이리스트 조회
+     * 공개 플레이리스트 검색 (제목/설명, 관련도 순)
+     * http://localhost:8080/api/playlists/search?q=드라이브&page=0&size=20
+     */
+    @GetMapping("/search")
+    public ResponseEntity<PlaylistSearchResponseDto> searchPlaylists(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        PlaylistSearchResponseDto playlists = playlistService.searchPlaylists(q, page, size);
+        return ResponseEntity.ok(playlists);
+    }
+
+    /**
+     * 인기 플레이리스트 (최근 조회/곡 추가/복제가 많은 순, 주기적으로 갱신)
+     * http://localhost:8080/api/playlists/trending?size=20
+     */
+    @GetMapping("/trending")
+    public ResponseEntity<List<PlaylistSummaryDto>> getTrendingPlaylists(
+            @RequestParam(defaultValue = "20") int size) {
+        List<PlaylistSummaryDto> playlists = playlistService.getTrendingPlaylists(size);
+        return ResponseEntity.ok(playlists);
+    }
+
+    /**
+     * 특정 플레이리스트 조회 (ETag/Last-Modified 기반 조건부 GET 지원)
      */
     @GetMapping("/{playlistId}")
     public ResponseEntity<PlaylistResponseDto> getPlaylist(
+            @PathVariable Long playlistId,
+            @AuthenticationPrincipal User user,
+            WebRequest webRequest) {
+        // 버전 정보만 먼저 조회해서 변경이 없으면 곡 목록을 읽지 않고 304 응답
+        PlaylistReadAccess access = playlistService.checkReadAccess(playlistId, user);
+        PlaylistVersionDto version = access.version();
+        if (webRequest.checkNotModified(version.eTag(user), version.lastModifiedMillis())) {
+            return null;
+        }
+
+        PlaylistResponseDto playlist = playlistService.getPlaylist(access);
+        // 두 조회 사이에 수정됐을 수 있으므로 실제 응답 본문 기준으로 ETag 생성
+        return ResponseEntity.ok()
+                .eTag(PlaylistVersionDto.eTag(playlist.id(), playlist.updatedAt(),
+                        PlaylistVersionDto.isOwner(playlist.userId(), user)))
+                .lastModified(PlaylistVersionDto.lastModifiedMillis(playlist.updatedAt()))
+                .body(playlist);
+    }
+
+    /**
+     * 플레이리스트 변경 알림 구독 (Server-Sent Events)
+     * 곡 추가/제거/이동, 정보 수정, 삭제를 짧은 시간 단위로 묶어 "changes" 이벤트(JSON 배열)로 전송
+     * http://localhost:8080/api/playlists/1/changes
+     */
+    @GetMapping(value = "/{playlistId}/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> subscribePlaylistChanges(
             @PathVariable Long playlistId,
             @AuthenticationPrincipal User user) {
-        PlaylistResponseDto playlist = playlistService.getPlaylist(playlistId, user);
-        return ResponseEntity.ok(playlist);
+        SseEmitter emitter = playlistService.subscribePlaylistChanges(playlistId, user);
+        return ResponseEntity.ok()
+                .header("X-Accel-Buffering", "no")   // 프록시(nginx) 응답 버퍼링 끄기
+                .body(emitter);
+    }
+
+    /**
+     * 플레이리스트 곡 내보내기 (NDJSON/CSV 스트리밍 다운로드)
+     * http://localhost:8080/api/playlists/1/export?format=csv
+     */
+    @GetMapping("/{playlistId}/export")
+    public ResponseEntity<StreamingResponseBody> exportPlaylist(
+            @PathVariable Long playlistId,
+            @AuthenticationPrincipal User user,
+            @RequestParam(defaultValue = "ndjson") String format) {
+        PlaylistExportFormat exportFormat = PlaylistExportFormat.from(format);
+        // 본문을 쓰기 시작하면 상태 코드를 바꿀 수 없으므로 권한은 미리 확인
+        playlistService.checkReadAccess(playlistId, user);
+
+        StreamingResponseBody body = out -> playlistService.exportPlaylistTracks(playlistId, user, exportFormat, out);
+        ContentDisposition disposition = ContentDisposition.attachment()
+                .filename("playlist-" + playlistId + "." + exportFormat.extension())
+                .build();
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.contentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, disposition.toString())
+                .body(body);
+    }
+
+    /**
+     * 플레이리스트 복제 (내 비공개 플레이리스트로 복사)
+     */
+    @PostMapping("/{playlistId}/fork")
+    public ResponseEntity<PlaylistResponseDto> forkPlaylist(
+            @PathVariable Long playlistId,
+            @AuthenticationPrincipal User user) {
+        PlaylistResponseDto playlist = playlistService.forkPlaylist(playlistId, user);
+        return ResponseEntity.status(HttpStatus.CREATED).body(playlist);
     }
 
     /**
@@ -109,6 +267,30 @@ public class PlaylistController {
         return ResponseEntity.ok(playlist);
     }
 
+    /**
+     * 플레이리스트에 여러 곡 일괄 추가 (앨범 단위 추가 등)
+     */
+    @PostMapping("/{playlistId}/tracks:batch")
+    public ResponseEntity<PlaylistResponseDto> addTracksToPlaylist(
+            @PathVariable Long playlistId,
+            @AuthenticationPrincipal User user,
+            @RequestBody AddTracksRequestDto request) {
+        PlaylistResponseDto playlist = playlistService.addTracksToPlaylist(playlistId, user, request.trackIds());
+        return ResponseEntity.ok(playlist);
+    }
+
+    /**
+     * 플레이리스트 곡 일괄 편집 (이동/제거/추가를 한 번에 적용)
+     */
+    @PostMapping("/{playlistId}/tracks:edit")
+    public ResponseEntity<PlaylistResponseDto> editPlaylistTracks(
+            @PathVariable Long playlistId,
+            @AuthenticationPrincipal User user,
+            @RequestBody PlaylistEditRequestDto request) {
+        PlaylistResponseDto playlist = playlistService.editPlaylistTracks(playlistId, user, request);
+        return ResponseEntity.ok(playlist);
+    }
+
     /**
      * 플레이리스트에서 곡 제거
      */
@@ -134,4 +316,12 @@ public class PlaylistController {
         PlaylistResponseDto playlist = playlistService.updateTrackPosition(playlistId, user, trackId, newPosition);
         return ResponseEntity.ok(playlist);
     }
+
+    private String baseName(String filename) {
+        if (filename == null || filename.isBlank()) {
+            return null;
+        }
+        int dot = filename.lastIndexOf('.');
+        return dot > 0 ? filename.substring(0, dot) : filename;
+    }
 }
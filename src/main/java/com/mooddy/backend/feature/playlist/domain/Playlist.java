@@ -10,6 +10,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
@@ -28,7 +29,12 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "playlists")
+@Table(name = "playlists",
+        indexes = {
+                @Index(name = "idx_playlist_visibility_updated_at", columnList = "visibility, updated_at, id"),
+                // 사용자 플레이리스트 목록/변경분 동기화 (user_id 범위 안에서 updated_at 순 탐색)
+                @Index(name = "idx_playlist_user_updated_at", columnList = "user_id, updated_at, id")
+        })
 @Getter
 @Setter
 @NoArgsConstructor
@@ -57,7 +63,7 @@ public class Playlist {
 
     // @OneToMany 및 @ManyToMany의 기본 FetchType값은 LAZY
     @OneToMany(mappedBy = "playlist", cascade = CascadeType.ALL, orphanRemoval = true)
-    @OrderBy("position ASC")
+    @OrderBy("sortKey ASC")
     @Builder.Default
     private List<PlaylistTrack> playlistTracks = new ArrayList<>();
 
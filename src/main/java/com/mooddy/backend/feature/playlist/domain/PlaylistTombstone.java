@@ -0,0 +1,42 @@
+package com.mooddy.backend.feature.playlist.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 삭제된 플레이리스트 기록 (변경분 동기화에서 클라이언트가 지울 목록)
+ * 보존 기간이 지나면 정리되며, 그보다 오래된 시점으로 동기화하면 전체 동기화로 처리
+ */
+@Entity
+@Table(name = "playlist_tombstones",
+        indexes = @Index(name = "idx_playlist_tombstone_user_deleted_at", columnList = "user_id, deleted_at"))
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PlaylistTombstone {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 삭제된 playlists.id (행이 없으므로 FK 없음)
+    @Column(nullable = false)
+    private Long playlistId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "deleted_at", nullable = false)
+    private LocalDateTime deletedAt;
+}
@@ -7,6 +7,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
@@ -23,8 +24,10 @@ import java.time.LocalDateTime;
 @Entity
 @Table(name = "playlist_tracks",
         uniqueConstraints = {
-                @UniqueConstraint(name = "uk_playlist_track_track", columnNames = {"playlist_id", "track_id"}),
-                @UniqueConstraint(name = "uk_playlist_track_position", columnNames = {"playlist_id", "position"})
+                @UniqueConstraint(name = "uk_playlist_track_track", columnNames = {"playlist_id", "track_id"})
+        },
+        indexes = {
+                @Index(name = "idx_playlist_track_sort_key", columnList = "playlist_id, sort_key")
         })
 @Getter
 @Setter
@@ -44,8 +47,12 @@ public class PlaylistTrack {
     @JoinColumn(name = "track_id", nullable = false)
     private Track track;
 
+    /**
+     * 곡 순서 정렬 키 (간격을 두고 증가하는 희소 값)
+     * 클라이언트에 노출되는 position(0부터 연속)은 정렬 키 순서로 계산됨
+     */
     @Column(nullable = false)
-    private Integer position;
+    private Long sortKey;
 
     @Column(updatable = false)
     private LocalDateTime addedAt;
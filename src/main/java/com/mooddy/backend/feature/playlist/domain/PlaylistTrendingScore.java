@@ -0,0 +1,36 @@
+package com.mooddy.backend.feature.playlist.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 인기 플레이리스트 점수 스냅샷 (재시작 시 메모리 순위 복원용)
+ * 점수는 scoredAt 시점 기준 값이며, 읽을 때 경과 시간만큼 감쇠해서 사용
+ */
+@Entity
+@Table(name = "playlist_trending_scores")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PlaylistTrendingScore {
+    // playlists.id (플레이리스트 삭제 시 다음 스냅샷에서 함께 정리되므로 FK를 두지 않음)
+    @Id
+    private Long playlistId;
+
+    @Column(nullable = false)
+    private double score;
+
+    @Column(nullable = false)
+    private LocalDateTime scoredAt;
+}
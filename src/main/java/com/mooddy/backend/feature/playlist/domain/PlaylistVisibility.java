@@ -6,6 +6,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -18,7 +19,8 @@ import lombok.Setter;
 
 @Entity
 @Table(name = "playlist_visibilities",
-        uniqueConstraints = @UniqueConstraint(name = "uk_playlist_visibility_user", columnNames = {"playlist_id", "user_id"}))
+        uniqueConstraints = @UniqueConstraint(name = "uk_playlist_visibility_user", columnNames = {"playlist_id", "user_id"}),
+        indexes = @Index(name = "idx_playlist_visibility_user_playlist", columnList = "user_id, playlist_id"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -0,0 +1,14 @@
+package com.mooddy.backend.feature.playlist.dto;
+
+import java.util.List;
+
+/**
+ * 커서 기반 페이지 응답
+ * nextCursor를 다음 요청의 cursor 파라미터로 그대로 전달
+ */
+public record CursorPageResponseDto<T>(
+        List<T> content,
+        String nextCursor,
+        boolean hasNext
+) {
+}
@@ -0,0 +1,19 @@
+package com.mooddy.backend.feature.playlist.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 플레이리스트 변경 알림 (SSE)
+ * 곡 정보는 담지 않으며, 필요하면 클라이언트가 updatedAt을 기준으로 조건부 GET으로 다시 조회
+ *
+ * @param trackIds  변경된 곡의 tracks.id (곡 이벤트가 아니면 빈 목록)
+ * @param updatedAt 변경 후 플레이리스트 updatedAt
+ */
+public record PlaylistChangeEventDto(
+        Long playlistId,
+        PlaylistChangeType type,
+        List<Long> trackIds,
+        LocalDateTime updatedAt
+) {
+}
@@ -0,0 +1,10 @@
+package com.mooddy.backend.feature.playlist.dto;
+
+public enum PlaylistChangeType {
+    TRACK_ADDED,        // 곡 추가 (trackIds: tracks.id)
+    TRACK_REMOVED,      // 곡 제거 (trackIds: tracks.id)
+    TRACK_MOVED,        // 곡 순서 변경 (trackIds: tracks.id)
+    METADATA_UPDATED,   // 제목/설명/커버/공개 범위 변경
+    DELETED,            // 플레이리스트 삭제 (이후 스트림 종료)
+    RESYNC              // 구독자 버퍼가 넘쳐 일부 변경을 버림 (전체를 다시 조회해야 함)
+}
@@ -0,0 +1,36 @@
+package com.mooddy.backend.feature.playlist.dto;
+
+import com.mooddy.backend.global.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 플레이리스트 키셋 페이지네이션 커서 (updatedAt DESC, id DESC 정렬의 마지막 위치)
+ */
+public record PlaylistCursor(
+        LocalDateTime updatedAt,
+        Long id
+) {
+    private static final String DELIMITER = "|";
+
+    public String encode() {
+        String raw = updatedAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static PlaylistCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int idx = raw.lastIndexOf(DELIMITER);
+            return new PlaylistCursor(
+                    LocalDateTime.parse(raw.substring(0, idx)),
+                    Long.parseLong(raw.substring(idx + 1))
+            );
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new BadRequestException("잘못된 커서 값입니다.");
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.mooddy.backend.feature.playlist.dto;
+
+public record PlaylistEditOperationDto(
+        PlaylistEditOperationType type,
+        Long trackId,
+        Integer position
+) {
+}
@@ -0,0 +1,7 @@
+package com.mooddy.backend.feature.playlist.dto;
+
+public enum PlaylistEditOperationType {
+    MOVE,     // 곡 이동 (trackId: tracks.id, position: 이동할 위치)
+    REMOVE,   // 곡 제거 (trackId: tracks.id)
+    INSERT    // 곡 추가 (trackId: iTunes trackId, position: 넣을 위치, 없으면 맨 뒤)
+}
@@ -0,0 +1,15 @@
+package com.mooddy.backend.feature.playlist.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 플레이리스트 곡 일괄 편집 요청
+ * baseUpdatedAt: 클라이언트가 편집을 시작한 시점의 플레이리스트 updatedAt (다르면 409)
+ * operations: 앞에서부터 순서대로 적용되며, position은 직전 연산까지 적용된 목록 기준
+ */
+public record PlaylistEditRequestDto(
+        LocalDateTime baseUpdatedAt,
+        List<PlaylistEditOperationDto> operations
+) {
+}
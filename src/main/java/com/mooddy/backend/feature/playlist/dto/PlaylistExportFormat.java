@@ -0,0 +1,37 @@
+package com.mooddy.backend.feature.playlist.dto;
+
+import com.mooddy.backend.global.exception.BadRequestException;
+
+import java.util.Locale;
+
+public enum PlaylistExportFormat {
+    NDJSON("application/x-ndjson", "ndjson"),   // 곡 하나당 JSON 객체 한 줄
+    CSV("text/csv;charset=UTF-8", "csv");         // 첫 줄은 헤더
+
+    private final String contentType;
+    private final String extension;
+
+    PlaylistExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String contentType() {
+        return contentType;
+    }
+
+    public String extension() {
+        return extension;
+    }
+
+    /**
+     * 쿼리 파라미터 값(대소문자 무관)을 형식으로 변환
+     */
+    public static PlaylistExportFormat from(String value) {
+        try {
+            return PlaylistExportFormat.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("지원하지 않는 내보내기 형식입니다: " + value + " (ndjson, csv)");
+        }
+    }
+}
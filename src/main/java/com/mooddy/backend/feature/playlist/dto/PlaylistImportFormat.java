@@ -0,0 +1,36 @@
+package com.mooddy.backend.feature.playlist.dto;
+
+import com.mooddy.backend.global.exception.BadRequestException;
+
+import java.util.Locale;
+
+public enum PlaylistImportFormat {
+    CSV,    // 헤더에 trackId 열이 있는 CSV (헤더가 없으면 첫 열)
+    M3U,    // 한 줄에 iTunes trackId 또는 Apple Music 곡 URL 하나, #으로 시작하는 줄은 무시
+    JSON;   // trackId 필드가 있는 객체(또는 숫자)의 배열, 또는 NDJSON (내보내기 결과 그대로)
+
+    /**
+     * 형식 파라미터(대소문자 무관)가 없으면 파일 확장자로 판단
+     */
+    public static PlaylistImportFormat from(String format, String filename) {
+        if (format != null && !format.isBlank()) {
+            try {
+                return PlaylistImportFormat.valueOf(format.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new BadRequestException("지원하지 않는 가져오기 형식입니다: " + format + " (csv, m3u, json)");
+            }
+        }
+
+        String name = filename != null ? filename.toLowerCase(Locale.ROOT) : "";
+        if (name.endsWith(".csv")) {
+            return CSV;
+        }
+        if (name.endsWith(".m3u") || name.endsWith(".m3u8")) {
+            return M3U;
+        }
+        if (name.endsWith(".json") || name.endsWith(".ndjson")) {
+            return JSON;
+        }
+        throw new BadRequestException("파일 형식을 알 수 없습니다. format 파라미터를 지정해주세요. (csv, m3u, json)");
+    }
+}
@@ -0,0 +1,30 @@
+package com.mooddy.backend.feature.playlist.dto;
+
+import java.util.List;
+
+/**
+ * 플레이리스트 가져오기 결과
+ *
+ * @param parsed           파일에서 읽은 곡 항목 수
+ * @param imported         플레이리스트에 추가된 곡 수
+ * @param duplicates       파일 안에서 중복되어 건너뛴 곡 수
+ * @param notFound         iTunes에서 찾지 못한 곡 수
+ * @param invalid          trackId를 읽을 수 없는 항목 수
+ * @param notFoundTrackIds 찾지 못한 iTunes trackId 일부 (최대 20개)
+ * @param chunks           처리한 청크 수
+ * @param tracksPerSecond  초당 처리한 곡 항목 수 (parsed 기준)
+ */
+public record PlaylistImportResultDto(
+        Long playlistId,
+        String title,
+        int parsed,
+        int imported,
+        int duplicates,
+        int notFound,
+        int invalid,
+        List<Long> notFoundTrackIds,
+        int chunks,
+        long elapsedMs,
+        double tracksPerSecond
+) {
+}
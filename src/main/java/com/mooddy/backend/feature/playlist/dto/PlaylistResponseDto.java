@@ -10,6 +10,7 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 public record PlaylistResponseDto(
         Long id,
@@ -34,6 +35,11 @@ public record PlaylistResponseDto(
                 .collect(Collectors.toList())
                 : Collections.emptyList();  // 소유자가 아니면 목록 숨김
 
+        // sortKey 순서대로 0부터 연속된 position 부여
+        List<PlaylistTrack> orderedTracks = playlist.getPlaylistTracks().stream()
+                .sorted(Comparator.comparing(PlaylistTrack::getSortKey).thenComparing(PlaylistTrack::getId))
+                .collect(Collectors.toList());
+
         return new PlaylistResponseDto(
                 playlist.getId(),
                 playlist.getTitle(),
@@ -42,9 +48,8 @@ public record PlaylistResponseDto(
                 playlist.getVisibility(),
                 playlist.getUser().getId(),
                 playlist.getUser().getNickname(),
-                playlist.getPlaylistTracks().stream()
-                        .sorted(Comparator.comparingInt(PlaylistTrack::getPosition))
-                        .map(PlaylistTrackResponseDto::from)
+                IntStream.range(0, orderedTracks.size())
+                        .mapToObj(i -> PlaylistTrackResponseDto.from(orderedTracks.get(i), i))
                         .collect(Collectors.toList()),
                 sharedUserIds,
                 playlist.getCreatedAt(),
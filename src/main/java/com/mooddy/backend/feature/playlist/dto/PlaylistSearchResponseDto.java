@@ -0,0 +1,18 @@
+package com.mooddy.backend.feature.playlist.dto;
+
+import java.util.List;
+
+/**
+ * 플레이리스트 검색 결과 페이지 (관련도 순)
+ * 다음 페이지는 page + 1로 요청
+ *
+ * @param totalHits 검색어에 일치하는 전체 플레이리스트 수
+ */
+public record PlaylistSearchResponseDto(
+        List<PlaylistSummaryDto> content,
+        int page,
+        int size,
+        int totalHits,
+        boolean hasNext
+) {
+}
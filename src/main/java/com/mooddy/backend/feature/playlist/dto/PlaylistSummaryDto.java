@@ -0,0 +1,32 @@
+package com.mooddy.backend.feature.playlist.dto;
+
+import com.mooddy.backend.feature.playlist.domain.Visibility;
+
+import java.time.LocalDateTime;
+
+/**
+ * 플레이리스트 목록 화면용 요약 정보 (곡 목록 없이 곡 수/총 재생 시간만 포함)
+ * PlaylistRepository의 JPQL 생성자 표현식으로 바로 조회됨
+ */
+public record PlaylistSummaryDto(
+        Long id,
+        String title,
+        String coverImageUrl,
+        Visibility visibility,
+        Long userId,
+        String userNickname,
+        long trackCount,
+        long totalDurationMs,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+    // 집계 결과가 없는 경우(곡이 없는 플레이리스트) SUM이 null이므로 0으로 변환
+    public PlaylistSummaryDto(Long id, String title, String coverImageUrl, Visibility visibility,
+                              Long userId, String userNickname, Long trackCount, Long totalDurationMs,
+                              LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this(id, title, coverImageUrl, visibility, userId, userNickname,
+                trackCount != null ? trackCount : 0L,
+                totalDurationMs != null ? totalDurationMs : 0L,
+                createdAt, updatedAt);
+    }
+}
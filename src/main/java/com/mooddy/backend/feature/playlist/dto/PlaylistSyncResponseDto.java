@@ -0,0 +1,24 @@
+package com.mooddy.backend.feature.playlist.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 내 플레이리스트 변경분 동기화 결과
+ * 다음 요청의 since/sinceId에는 watermark/watermarkId를 그대로 넘기면 되고, hasMore면 바로 이어서 요청
+ * 경계 근처의 변경은 다음 응답에 한 번 더 올 수 있으므로 클라이언트는 id 기준으로 덮어씀
+ *
+ * @param upserted  since 이후 생성/수정된 플레이리스트 (updatedAt 오름차순)
+ * @param deletedIds since 이후 삭제된 플레이리스트 id
+ * @param watermarkId 같은 watermark 시각의 변경 중 어디까지 받았는지 (플레이리스트 id, 없으면 null)
+ * @param reset     전체 동기화 결과 (클라이언트는 로컬 목록을 upserted로 통째로 교체)
+ */
+public record PlaylistSyncResponseDto(
+        List<PlaylistSummaryDto> upserted,
+        List<Long> deletedIds,
+        LocalDateTime watermark,
+        Long watermarkId,
+        boolean reset,
+        boolean hasMore
+) {
+}
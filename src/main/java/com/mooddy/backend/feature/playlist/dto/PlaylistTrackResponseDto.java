@@ -8,11 +8,11 @@ public record PlaylistTrackResponseDto(
         TrackResponseDto track,
         Integer position
 ) {
-    public static PlaylistTrackResponseDto from(PlaylistTrack playlistTrack) {
+    public static PlaylistTrackResponseDto from(PlaylistTrack playlistTrack, int position) {
         return new PlaylistTrackResponseDto(
                 playlistTrack.getId(),
                 TrackResponseDto.from(playlistTrack.getTrack()),
-                playlistTrack.getPosition()
+                position
         );
     }
 }
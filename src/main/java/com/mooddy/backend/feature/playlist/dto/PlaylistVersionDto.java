@@ -0,0 +1,40 @@
+package com.mooddy.backend.feature.playlist.dto;
+
+import com.mooddy.backend.feature.playlist.domain.Visibility;
+import com.mooddy.backend.feature.user.domain.User;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 플레이리스트 버전 정보 (조건부 GET 판단용, 곡 목록을 로딩하지 않음)
+ * ETag = 플레이리스트 id + updatedAt + 요청자 뷰(소유자는 공유 대상 목록까지 보이므로 구분)
+ */
+public record PlaylistVersionDto(
+        Long id,
+        Long userId,
+        Visibility visibility,
+        LocalDateTime updatedAt
+) {
+    public String eTag(User requester) {
+        return eTag(id, updatedAt, isOwner(userId, requester));
+    }
+
+    public long lastModifiedMillis() {
+        return lastModifiedMillis(updatedAt);
+    }
+
+    public static String eTag(Long playlistId, LocalDateTime updatedAt, boolean ownerView) {
+        long micros = ChronoUnit.MICROS.between(LocalDateTime.of(1970, 1, 1, 0, 0), updatedAt);
+        return "\"" + playlistId + "-" + Long.toHexString(micros) + (ownerView ? "-o" : "-v") + "\"";
+    }
+
+    public static long lastModifiedMillis(LocalDateTime updatedAt) {
+        return updatedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    public static boolean isOwner(Long ownerId, User requester) {
+        return requester != null && ownerId.equals(requester.getId());
+    }
+}
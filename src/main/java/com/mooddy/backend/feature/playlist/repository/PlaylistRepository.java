@@ -2,11 +2,19 @@ package com.mooddy.backend.feature.playlist.repository;
 
 import com.mooddy.backend.feature.playlist.domain.Playlist;
 import com.mooddy.backend.feature.playlist.domain.Visibility;
+import com.mooddy.backend.feature.playlist.dto.PlaylistSummaryDto;
+import com.mooddy.backend.feature.playlist.dto.PlaylistVersionDto;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,12 +25,168 @@ public interface PlaylistRepository extends JpaRepository<Playlist, Long> {
     List<Playlist> findByVisibility(Visibility visibility);
 
     /**
-     * 플레이리스트를 tracks와 함께 조회 (Fetch Join)
+     * 플레이리스트를 작성자, tracks와 함께 조회 (Fetch Join)
      * Lazy Loading 문제 해결을 위해 한 번에 모든 데이터를 가져옴
+     * 작성자를 프록시로 두면 초기화될 때 공유 대상 User 프록시까지 배치로 로딩되고,
+     * 각 User의 spotifyToken(OneToOne 역방향)이 한 건씩 조회되므로 함께 조회
      */
     @Query("SELECT p FROM Playlist p " +
+            "JOIN FETCH p.user u " +
+            "LEFT JOIN FETCH u.spotifyToken " +
             "LEFT JOIN FETCH p.playlistTracks pt " +
             "LEFT JOIN FETCH pt.track " +
             "WHERE p.id = :id")
     Optional<Playlist> findByIdWithTracks(@Param("id") Long id);
+
+    /**
+     * 플레이리스트 행 잠금 조회 (곡 정렬 키 재정렬 시 동시 수정 방지)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Playlist p WHERE p.id = :id")
+    Optional<Playlist> findByIdForUpdate(@Param("id") Long id);
+
+    /**
+     * 플레이리스트 행 직접 삭제 (자식 행은 먼저 일괄 삭제해야 함)
+     *
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("DELETE FROM Playlist p WHERE p.id = :id")
+    int deletePlaylistById(@Param("id") Long id);
+
+    /**
+     * 플레이리스트 버전 정보만 조회 (조건부 GET 304 판단용, 곡 목록 미조회)
+     */
+    @Query("SELECT new com.mooddy.backend.feature.playlist.dto.PlaylistVersionDto(" +
+            "p.id, p.user.id, p.visibility, p.updatedAt) " +
+            "FROM Playlist p " +
+            "WHERE p.id = :id")
+    Optional<PlaylistVersionDto> findVersionById(@Param("id") Long id);
+
+    /**
+     * 곡 수/총 재생 시간은 상관 서브쿼리로 계산해서, ORDER BY + LIMIT으로 고른 페이지의 행만 집계함
+     * (곡과 조인해서 GROUP BY 하면 조건에 맞는 플레이리스트 전체를 집계한 뒤에야 정렬/LIMIT이 적용됨)
+     */
+    String SUMMARY_SELECT = "SELECT new com.mooddy.backend.feature.playlist.dto.PlaylistSummaryDto(" +
+            "p.id, p.title, p.coverImageUrl, p.visibility, u.id, u.nickname, " +
+            "(SELECT COUNT(pt.id) FROM PlaylistTrack pt WHERE pt.playlist = p), " +
+            "(SELECT SUM(t.durationMs) FROM PlaylistTrack pt JOIN pt.track t WHERE pt.playlist = p), " +
+            "p.createdAt, p.updatedAt) " +
+            "FROM Playlist p " +
+            "JOIN p.user u ";
+
+    /**
+     * 사용자 플레이리스트 요약 목록 조회 (소유자 본인용, 전체 공개 범위)
+     * 엔티티/곡 목록을 만들지 않고 곡 수와 총 재생 시간만 집계해서 한 번에 조회
+     */
+    @Query(SUMMARY_SELECT +
+            "WHERE u.id = :userId " +
+            "ORDER BY p.updatedAt DESC, p.id DESC")
+    List<PlaylistSummaryDto> findSummariesByUserId(@Param("userId") Long userId);
+
+    /**
+     * 사용자 플레이리스트 요약 전체 조회 (전체 동기화용, updatedAt 오름차순)
+     */
+    @Query(SUMMARY_SELECT +
+            "WHERE u.id = :userId " +
+            "ORDER BY p.updatedAt ASC, p.id ASC")
+    List<PlaylistSummaryDto> findSummariesByUserIdOldestFirst(@Param("userId") Long userId);
+
+    /**
+     * 사용자 플레이리스트 요약 목록 조회 (다른 사용자용)
+     * PUBLIC 이거나, SHARED 이면서 요청자가 공유 대상인 플레이리스트만 조회
+     */
+    @Query(SUMMARY_SELECT +
+            "WHERE u.id = :userId " +
+            "AND (p.visibility = com.mooddy.backend.feature.playlist.domain.Visibility.PUBLIC " +
+            "OR (p.visibility = com.mooddy.backend.feature.playlist.domain.Visibility.SHARED " +
+            "AND EXISTS (SELECT 1 FROM PlaylistVisibility pv " +
+            "WHERE pv.playlist = p AND pv.user.id = :requesterId))) " +
+            "ORDER BY p.updatedAt DESC, p.id DESC")
+    List<PlaylistSummaryDto> findVisibleSummariesByUserId(
+            @Param("userId") Long userId,
+            @Param("requesterId") Long requesterId
+    );
+
+    /**
+     * 사용자 플레이리스트 중 id 목록에 해당하는 요약 조회 (변경분 동기화용, updatedAt 오름차순)
+     */
+    @Query(SUMMARY_SELECT +
+            "WHERE u.id = :userId AND p.id IN :ids " +
+            "ORDER BY p.updatedAt ASC, p.id ASC")
+    List<PlaylistSummaryDto> findSummariesByUserIdAndIdIn(
+            @Param("userId") Long userId,
+            @Param("ids") Collection<Long> ids
+    );
+
+    /**
+     * 공개 범위별 플레이리스트 요약 첫 페이지 조회 (updatedAt DESC, id DESC)
+     */
+    @Query(SUMMARY_SELECT +
+            "WHERE p.visibility = :visibility " +
+            "ORDER BY p.updatedAt DESC, p.id DESC")
+    List<PlaylistSummaryDto> findFeedByVisibility(@Param("visibility") Visibility visibility, Limit limit);
+
+    /**
+     * 공개 범위별 플레이리스트 요약 다음 페이지 조회 (키셋 페이지네이션)
+     * 커서 위치부터 인덱스를 타고 읽기 때문에 페이지 깊이와 무관하게 비용이 일정함
+     */
+    @Query(SUMMARY_SELECT +
+            "WHERE p.visibility = :visibility " +
+            "AND (p.updatedAt < :updatedAt OR (p.updatedAt = :updatedAt AND p.id < :id)) " +
+            "ORDER BY p.updatedAt DESC, p.id DESC")
+    List<PlaylistSummaryDto> findFeedByVisibilityAfter(
+            @Param("visibility") Visibility visibility,
+            @Param("updatedAt") LocalDateTime updatedAt,
+            @Param("id") Long id,
+            Limit limit
+    );
+
+    /**
+     * 사용자에게 공유된 플레이리스트 요약 첫 페이지 조회 (updatedAt DESC, id DESC)
+     * playlist_visibilities(user_id, playlist_id) 인덱스로 공유 행을 찾고 플레이리스트와 조인
+     */
+    @Query(SUMMARY_SELECT +
+            "JOIN PlaylistVisibility pv ON pv.playlist = p AND pv.user.id = :userId " +
+            "WHERE p.visibility = com.mooddy.backend.feature.playlist.domain.Visibility.SHARED " +
+            "ORDER BY p.updatedAt DESC, p.id DESC")
+    List<PlaylistSummaryDto> findSharedWith(@Param("userId") Long userId, Limit limit);
+
+    /**
+     * 사용자에게 공유된 플레이리스트 요약 다음 페이지 조회 (키셋 페이지네이션)
+     */
+    @Query(SUMMARY_SELECT +
+            "JOIN PlaylistVisibility pv ON pv.playlist = p AND pv.user.id = :userId " +
+            "WHERE p.visibility = com.mooddy.backend.feature.playlist.domain.Visibility.SHARED " +
+            "AND (p.updatedAt < :updatedAt OR (p.updatedAt = :updatedAt AND p.id < :id)) " +
+            "ORDER BY p.updatedAt DESC, p.id DESC")
+    List<PlaylistSummaryDto> findSharedWithAfter(
+            @Param("userId") Long userId,
+            @Param("updatedAt") LocalDateTime updatedAt,
+            @Param("id") Long id,
+            Limit limit
+    );
+
+    /**
+     * 검색 결과/인기 순위 id 목록의 PUBLIC 플레이리스트 요약 조회 (순서는 호출 측에서 맞춤)
+     * 인덱스/순위 반영 전 비공개로 바뀐 플레이리스트가 노출되지 않도록 공개 범위를 다시 확인
+     */
+    @Query(SUMMARY_SELECT +
+            "WHERE p.id IN :ids " +
+            "AND p.visibility = com.mooddy.backend.feature.playlist.domain.Visibility.PUBLIC ")
+    List<PlaylistSummaryDto> findPublicSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 검색 인덱스 적재용 제목/설명 조회 (id 오름차순 키셋 페이지네이션)
+     */
+    @Query("SELECT new com.mooddy.backend.feature.playlist.repository.PlaylistSearchDocument(" +
+            "p.id, p.title, p.description) " +
+            "FROM Playlist p " +
+            "WHERE p.visibility = :visibility AND p.id > :afterId " +
+            "ORDER BY p.id ASC")
+    List<PlaylistSearchDocument> findSearchDocuments(
+            @Param("visibility") Visibility visibility,
+            @Param("afterId") Long afterId,
+            Limit limit
+    );
 }
@@ -0,0 +1,15 @@
+package com.mooddy.backend.feature.playlist.repository;
+
+/**
+ * 검색 인덱스 적재용 경량 조회 결과 (엔티티를 로딩하지 않음)
+ *
+ * @param id          playlists.id
+ * @param title       제목
+ * @param description 설명 (없으면 null)
+ */
+public record PlaylistSearchDocument(
+        Long id,
+        String title,
+        String description
+) {
+}
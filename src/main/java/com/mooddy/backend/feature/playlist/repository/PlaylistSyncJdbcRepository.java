@@ -0,0 +1,55 @@
+package com.mooddy.backend.feature.playlist.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 사용자 플레이리스트 변경분 조회 (변경분 동기화용)
+ * 변경/생성된 플레이리스트와 삭제 기록을 UNION ALL 한 문장으로 조회해서,
+ * 바뀐 것이 없는 계정은 (user_id, updated_at) / (user_id, deleted_at) 인덱스 범위 탐색 한 번으로 끝남
+ */
+@Repository
+@RequiredArgsConstructor
+public class PlaylistSyncJdbcRepository {
+
+    private static final String CHANGES_SQL =
+            "SELECT id AS playlist_id, updated_at AS changed_at, FALSE AS deleted " +
+            "FROM playlists WHERE user_id = ? " +
+            "AND (updated_at > ? OR (updated_at = ? AND id > ?)) " +
+            "UNION ALL " +
+            "SELECT playlist_id, deleted_at, TRUE " +
+            "FROM playlist_tombstones WHERE user_id = ? " +
+            "AND (deleted_at > ? OR (deleted_at = ? AND playlist_id > ?)) " +
+            "ORDER BY changed_at, playlist_id " +
+            "LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * (since, sinceId) 이후 변경된 플레이리스트 ((변경 시각, id) 오름차순, 최대 limit개)
+     * 같은 시각의 변경이 많아도 페이지 경계에서 빠지거나 반복되지 않도록 id로 순서를 나눔
+     *
+     * @param sinceId 이전 페이지 마지막 변경의 플레이리스트 id (null이면 since 시각의 변경은 모두 제외)
+     */
+    public List<PlaylistChange> findChanges(Long userId, LocalDateTime since, Long sinceId, int limit) {
+        Timestamp after = Timestamp.valueOf(since);
+        long afterId = sinceId != null ? sinceId : Long.MAX_VALUE;
+        return jdbcTemplate.query(CHANGES_SQL,
+                (rs, rowNum) -> new PlaylistChange(
+                        rs.getLong("playlist_id"),
+                        rs.getTimestamp("changed_at").toLocalDateTime(),
+                        rs.getBoolean("deleted")),
+                userId, after, after, afterId, userId, after, after, afterId, limit);
+    }
+
+    /**
+     * @param changedAt 생성/수정 시각 (updatedAt) 또는 삭제 시각
+     */
+    public record PlaylistChange(Long playlistId, LocalDateTime changedAt, boolean deleted) {
+    }
+}
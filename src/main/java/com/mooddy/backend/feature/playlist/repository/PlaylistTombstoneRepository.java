@@ -0,0 +1,23 @@
+package com.mooddy.backend.feature.playlist.repository;
+
+import com.mooddy.backend.feature.playlist.domain.PlaylistTombstone;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface PlaylistTombstoneRepository extends JpaRepository<PlaylistTombstone, Long> {
+
+    /**
+     * 보존 기간이 지난 삭제 기록 일괄 정리
+     *
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("DELETE FROM PlaylistTombstone t WHERE t.deletedAt < :before")
+    int deleteByDeletedAtBefore(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,92 @@
+package com.mooddy.backend.feature.playlist.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * playlist_tracks 대량 INSERT/UPDATE 전용 (JDBC 배치)
+ * PlaylistTrack은 IDENTITY 전략이라 Hibernate가 INSERT를 배치로 묶지 못하므로 JdbcTemplate 사용
+ * 영속성 컨텍스트를 거치지 않으므로 호출 후 필요하면 엔티티를 다시 조회해야 함
+ */
+@Repository
+@RequiredArgsConstructor
+public class PlaylistTrackJdbcRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO playlist_tracks (playlist_id, track_id, sort_key, added_at) VALUES (?, ?, ?, ?)";
+    private static final String UPDATE_SORT_KEY_SQL =
+            "UPDATE playlist_tracks SET sort_key = ? WHERE id = ?";
+    private static final String COPY_SQL =
+            "INSERT INTO playlist_tracks (playlist_id, track_id, sort_key, added_at) " +
+            "SELECT ?, track_id, sort_key, ? FROM playlist_tracks WHERE playlist_id = ?";
+    // 현재 순서(sort_key, id)대로 번호를 매겨 간격을 다시 벌림 (키가 이미 맞는 행은 건드리지 않음)
+    private static final String REBALANCE_SQL =
+            "MERGE INTO playlist_tracks pt " +
+            "USING (SELECT id, ROW_NUMBER() OVER (ORDER BY sort_key, id) AS rn " +
+            "FROM playlist_tracks WHERE playlist_id = ?) ranked " +
+            "ON pt.id = ranked.id " +
+            "WHEN MATCHED AND pt.sort_key <> ranked.rn * ? THEN UPDATE SET sort_key = ranked.rn * ?";
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertAll(Long playlistId, List<NewPlaylistTrack> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        Timestamp addedAt = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows, BATCH_SIZE, (ps, row) -> {
+            ps.setLong(1, playlistId);
+            ps.setLong(2, row.trackId());
+            ps.setLong(3, row.sortKey());
+            ps.setTimestamp(4, addedAt);
+        });
+    }
+
+    public void updateSortKeys(List<SortKeyUpdate> updates) {
+        if (updates.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(UPDATE_SORT_KEY_SQL, updates, BATCH_SIZE, (ps, update) -> {
+            ps.setLong(1, update.sortKey());
+            ps.setLong(2, update.id());
+        });
+    }
+
+    /**
+     * 한 플레이리스트의 정렬 키를 순서는 그대로 두고 gap, 2*gap, 3*gap ... 으로 DB 안에서 한 번에 재정렬
+     * 곡 행을 엔티티로 읽지 않으므로, 같은 트랜잭션에서 이미 읽은 PlaylistTrack의 sortKey는 갱신되지 않음
+     *
+     * @return 정렬 키가 바뀐 행 수
+     */
+    public int rebalanceSortKeys(Long playlistId, long gap) {
+        return jdbcTemplate.update(REBALANCE_SQL, playlistId, gap, gap);
+    }
+
+    /**
+     * 한 플레이리스트의 곡 행을 다른 플레이리스트로 DB 안에서 한 번에 복사 (정렬 키 유지)
+     *
+     * @return 복사된 행 수
+     */
+    public int copyTracks(Long sourcePlaylistId, Long targetPlaylistId) {
+        return jdbcTemplate.update(COPY_SQL,
+                targetPlaylistId, Timestamp.valueOf(LocalDateTime.now()), sourcePlaylistId);
+    }
+
+    /**
+     * @param trackId tracks.id (iTunes trackId가 아님)
+     */
+    public record NewPlaylistTrack(Long trackId, long sortKey) {
+    }
+
+    /**
+     * @param id playlist_tracks.id
+     */
+    public record SortKeyUpdate(Long id, long sortKey) {
+    }
+}
@@ -0,0 +1,15 @@
+package com.mooddy.backend.feature.playlist.repository;
+
+/**
+ * 곡 순서 계산용 경량 조회 결과 (엔티티를 로딩하지 않음)
+ *
+ * @param id      playlist_tracks.id
+ * @param trackId tracks.id
+ * @param sortKey 정렬 키
+ */
+public record PlaylistTrackKey(
+        Long id,
+        Long trackId,
+        Long sortKey
+) {
+}
@@ -1,37 +1,114 @@
 package com.mooddy.backend.feature.playlist.repository;
 
 import com.mooddy.backend.feature.playlist.domain.PlaylistTrack;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface PlaylistTrackRepository extends JpaRepository<PlaylistTrack, Long> {
-    List<PlaylistTrack> findByPlaylistIdOrderByPositionAsc(Long playlistId);
+    List<PlaylistTrack> findByPlaylistIdOrderBySortKeyAscIdAsc(Long playlistId);
 
-    void deleteByPlaylistIdAndTrackId(Long playlistId, Long trackId);
+    int EXPORT_FETCH_SIZE = 500;
+
+    /**
+     * 플레이리스트 곡을 정렬 키 순서로 스트리밍 조회 (내보내기용, 트랜잭션 안에서 사용)
+     * 결과 전체를 메모리에 올리지 않고 fetch size 단위로 읽으며, 읽기 전용이라 스냅샷을 만들지 않음
+     */
+    @QueryHints({
+            @QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "" + EXPORT_FETCH_SIZE),
+            @QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT pt FROM PlaylistTrack pt " +
+            "JOIN FETCH pt.track " +
+            "WHERE pt.playlist.id = :playlistId " +
+            "ORDER BY pt.sortKey ASC, pt.id ASC")
+    Stream<PlaylistTrack> streamByPlaylistId(@Param("playlistId") Long playlistId);
 
     Optional<PlaylistTrack> findByPlaylistIdAndTrackId(Long playlistId, Long trackId);
 
+    long countByPlaylistId(Long playlistId);
+
     /**
-     * 특정 position보다 큰 곡들의 position을 -1 감소시킴(곡 삭제시 position 재정렬)
+     * 플레이리스트에서 곡 한 건 삭제 (정렬 키 방식이라 나머지 곡은 수정하지 않음)
      *
-     * @param playlistId      플레이리스트 ID
-     * @param deletedPosition 삭제된 곡의 position
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("DELETE FROM PlaylistTrack pt " +
+            "WHERE pt.playlist.id = :playlistId " +
+            "AND pt.track.id = :trackId")
+    int deleteByPlaylistIdAndTrackId(
+            @Param("playlistId") Long playlistId,
+            @Param("trackId") Long trackId
+    );
+
+    /**
+     * 여러 곡 일괄 삭제 (곡 일괄 편집)
+     *
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("DELETE FROM PlaylistTrack pt " +
+            "WHERE pt.playlist.id = :playlistId " +
+            "AND pt.id IN :ids")
+    int deleteByPlaylistIdAndIdIn(
+            @Param("playlistId") Long playlistId,
+            @Param("ids") Collection<Long> ids
+    );
+
+    /**
+     * 플레이리스트의 곡 전체 일괄 삭제 (플레이리스트 삭제용)
+     *
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("DELETE FROM PlaylistTrack pt WHERE pt.playlist.id = :playlistId")
+    int deleteByPlaylistId(@Param("playlistId") Long playlistId);
+
+    /**
+     * 플레이리스트의 곡 순서 정보만 정렬 키 순서로 조회 (곡 일괄 편집용)
+     */
+    @Query("SELECT new com.mooddy.backend.feature.playlist.repository.PlaylistTrackKey(pt.id, pt.track.id, pt.sortKey) " +
+            "FROM PlaylistTrack pt " +
+            "WHERE pt.playlist.id = :playlistId " +
+            "ORDER BY pt.sortKey ASC, pt.id ASC")
+    List<PlaylistTrackKey> findKeysByPlaylistId(@Param("playlistId") Long playlistId);
+
+    @Query("SELECT MAX(pt.sortKey) FROM PlaylistTrack pt WHERE pt.playlist.id = :playlistId")
+    Long findMaxSortKey(@Param("playlistId") Long playlistId);
+
+    /**
+     * 주어진 곡들 중 이미 플레이리스트에 들어있는 곡의 tracks.id 조회 (일괄 추가 시 중복 제거용)
+     */
+    @Query("SELECT pt.track.id FROM PlaylistTrack pt " +
+            "WHERE pt.playlist.id = :playlistId " +
+            "AND pt.track.id IN :trackIds")
+    List<Long> findExistingTrackIds(
+            @Param("playlistId") Long playlistId,
+            @Param("trackIds") Collection<Long> trackIds
+    );
+
+    /**
+     * 특정 곡을 제외한 나머지 곡들의 정렬 키를 순서대로 조회 (곡 이동 시 이웃 키 계산용)
      */
-    @Modifying  // UPDATE/DELETE 쿼리를 실행할 때 필요한 어노테이션
-    @Query("UPDATE PlaylistTrack pt " +
-            "SET pt.position = pt.position - 1 " +
+    @Query("SELECT pt.sortKey FROM PlaylistTrack pt " +
             "WHERE pt.playlist.id = :playlistId " +
-            "AND pt.position > :deletedPosition")
-    void decrementPositionsAfter(
+            "AND pt.id <> :excludedId " +
+            "ORDER BY pt.sortKey ASC, pt.id ASC")
+    List<Long> findSortKeysExcluding(
             @Param("playlistId") Long playlistId,
-            @Param("deletedPosition") Integer deletedPosition
+            @Param("excludedId") Long excludedId
     );
 
 }
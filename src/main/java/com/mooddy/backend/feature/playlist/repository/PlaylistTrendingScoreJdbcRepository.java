@@ -0,0 +1,75 @@
+package com.mooddy.backend.feature.playlist.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * playlist_trending_scores 스냅샷 일괄 저장/정리 전용 (JDBC 배치)
+ * 바뀐 점수만 UPDATE 배치로 먼저 반영하고, 행이 없던 플레이리스트만 INSERT 배치로 추가
+ */
+@Repository
+@RequiredArgsConstructor
+public class PlaylistTrendingScoreJdbcRepository {
+
+    private static final String UPDATE_SQL =
+            "UPDATE playlist_trending_scores SET score = ?, scored_at = ? WHERE playlist_id = ?";
+    private static final String INSERT_SQL =
+            "INSERT INTO playlist_trending_scores (playlist_id, score, scored_at) VALUES (?, ?, ?)";
+    private static final String DELETE_SQL =
+            "DELETE FROM playlist_trending_scores WHERE playlist_id = ?";
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Transactional
+    public void upsertAll(List<ScoreRow> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        int[][] updated = jdbcTemplate.batchUpdate(UPDATE_SQL, rows, BATCH_SIZE, (ps, row) -> {
+            ps.setDouble(1, row.score());
+            ps.setTimestamp(2, Timestamp.valueOf(row.scoredAt()));
+            ps.setLong(3, row.playlistId());
+        });
+
+        List<ScoreRow> missing = new ArrayList<>();
+        int index = 0;
+        for (int[] batch : updated) {
+            for (int count : batch) {
+                if (count == 0) {
+                    missing.add(rows.get(index));
+                }
+                index++;
+            }
+        }
+        if (missing.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, missing, BATCH_SIZE, (ps, row) -> {
+            ps.setLong(1, row.playlistId());
+            ps.setDouble(2, row.score());
+            ps.setTimestamp(3, Timestamp.valueOf(row.scoredAt()));
+        });
+    }
+
+    public void deleteAll(Collection<Long> playlistIds) {
+        if (playlistIds.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(DELETE_SQL, playlistIds, BATCH_SIZE, (ps, playlistId) -> ps.setLong(1, playlistId));
+    }
+
+    /**
+     * @param score scoredAt 시점 기준 점수
+     */
+    public record ScoreRow(Long playlistId, double score, LocalDateTime scoredAt) {
+    }
+}
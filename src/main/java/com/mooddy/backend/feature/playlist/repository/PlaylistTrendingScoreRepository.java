@@ -0,0 +1,9 @@
+package com.mooddy.backend.feature.playlist.repository;
+
+import com.mooddy.backend.feature.playlist.domain.PlaylistTrendingScore;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface PlaylistTrendingScoreRepository extends JpaRepository<PlaylistTrendingScore, Long> {
+}
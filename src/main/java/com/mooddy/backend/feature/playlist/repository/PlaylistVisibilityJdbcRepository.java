@@ -0,0 +1,33 @@
+package com.mooddy.backend.feature.playlist.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+
+/**
+ * playlist_visibilities 대량 INSERT 전용 (JDBC 배치)
+ * PlaylistVisibility도 IDENTITY 전략이라 Hibernate가 INSERT를 배치로 묶지 못하므로 JdbcTemplate 사용
+ * 영속성 컨텍스트를 거치지 않으므로 호출 후 필요하면 엔티티를 다시 조회해야 함
+ */
+@Repository
+@RequiredArgsConstructor
+public class PlaylistVisibilityJdbcRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO playlist_visibilities (playlist_id, user_id) VALUES (?, ?)";
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertAll(Long playlistId, Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, userIds, BATCH_SIZE, (ps, userId) -> {
+            ps.setLong(1, playlistId);
+            ps.setLong(2, userId);
+        });
+    }
+}
@@ -4,7 +4,11 @@ import com.mooddy.backend.feature.playlist.domain.Playlist;
 import com.mooddy.backend.feature.playlist.domain.PlaylistVisibility;
 import com.mooddy.backend.feature.user.domain.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,6 +18,32 @@ public interface PlaylistVisibilityRepository extends JpaRepository<PlaylistVisi
 
     Optional<PlaylistVisibility> findByPlaylistAndUser(Playlist playlist, User user);
 
+    @Query("SELECT pv.user.id FROM PlaylistVisibility pv WHERE pv.playlist.id = :playlistId")
+    List<Long> findUserIdsByPlaylistId(@Param("playlistId") Long playlistId);
+
+    /**
+     * 공유 대상 일괄 해제
+     *
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("DELETE FROM PlaylistVisibility pv " +
+            "WHERE pv.playlist.id = :playlistId " +
+            "AND pv.user.id IN :userIds")
+    int deleteByPlaylistIdAndUserIdIn(
+            @Param("playlistId") Long playlistId,
+            @Param("userIds") Collection<Long> userIds
+    );
+
+    /**
+     * 플레이리스트의 공유 대상 전체 해제
+     *
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("DELETE FROM PlaylistVisibility pv WHERE pv.playlist.id = :playlistId")
+    int deleteByPlaylistId(@Param("playlistId") Long playlistId);
+
     void deleteByPlaylistAndUser(Playlist playlist, User user);
 }
 
@@ -0,0 +1,71 @@
+package com.mooddy.backend.feature.playlist.service;
+
+import com.mooddy.backend.feature.playlist.repository.PlaylistVisibilityRepository;
+import com.mooddy.backend.global.util.TransactionCallbacks;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * SHARED 플레이리스트 접근 권한 인덱스 (playlistId -> 정렬된 공유 대상 userId 배열)
+ * <p>
+ * 처음 조회할 때 DB에서 userId만 읽어 채우고, 이후에는 syncSharedUsers가 커밋 후 통째로 교체한다.
+ * SHARED 플레이리스트만 보관하며, 공개 범위가 바뀌거나 삭제되면 항목을 제거해서 크기가 SHARED 플레이리스트 수를 넘지 않는다.
+ * 배열은 교체만 되고 수정되지 않으므로 조회 시 잠금/할당 없이 이진 탐색만 한다.
+ */
+@Component
+@RequiredArgsConstructor
+class PlaylistAccessIndex {
+
+    private static final long[] EMPTY = new long[0];
+
+    private final PlaylistVisibilityRepository playlistVisibilityRepository;
+
+    private final Map<Long, long[]> sharedUserIds = new ConcurrentHashMap<>();
+
+    /**
+     * 해당 플레이리스트가 사용자에게 공유되어 있는지 여부
+     */
+    boolean isSharedWith(Long playlistId, long userId) {
+        long[] userIds = sharedUserIds.get(playlistId);
+        if (userIds == null) {
+            // 로딩 중 커밋된 교체가 있으면 put이 이 계산이 끝날 때까지 기다렸다가 덮어씀
+            userIds = sharedUserIds.computeIfAbsent(playlistId,
+                    id -> toSortedArray(playlistVisibilityRepository.findUserIdsByPlaylistId(id)));
+        }
+        return Arrays.binarySearch(userIds, userId) >= 0;
+    }
+
+    /**
+     * 공유 대상 목록 교체 (SHARED 플레이리스트만, 트랜잭션 안이면 커밋 후 반영)
+     */
+    void replace(Long playlistId, Collection<Long> userIds) {
+        long[] sorted = toSortedArray(userIds);
+        TransactionCallbacks.afterCommit(() -> sharedUserIds.put(playlistId, sorted));
+    }
+
+    /**
+     * 삭제되었거나 SHARED가 아니게 된 플레이리스트 제거 (트랜잭션 안이면 커밋 후 반영)
+     */
+    void remove(Long playlistId) {
+        TransactionCallbacks.afterCommit(() -> sharedUserIds.remove(playlistId));
+    }
+
+    /**
+     * 보관 중인 플레이리스트 수
+     */
+    int size() {
+        return sharedUserIds.size();
+    }
+
+    private static long[] toSortedArray(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return EMPTY;
+        }
+        return userIds.stream().mapToLong(Long::longValue).sorted().distinct().toArray();
+    }
+}
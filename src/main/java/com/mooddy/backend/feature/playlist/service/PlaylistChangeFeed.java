@@ -0,0 +1,338 @@
+package com.mooddy.backend.feature.playlist.service;
+
+import com.mooddy.backend.feature.playlist.dto.PlaylistChangeEventDto;
+import com.mooddy.backend.feature.playlist.dto.PlaylistChangeType;
+import com.mooddy.backend.global.util.TransactionCallbacks;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 플레이리스트 변경 알림 SSE 구독 관리
+ * <p>
+ * 변경은 커밋 후 구독자별 대기열에 넣고, 짧은 시간(coalesce-ms) 동안 모인 변경을 한 번의 SSE 메시지로 보낸다.
+ * 연속된 같은 종류의 곡 이벤트는 하나로 합친다.
+ * <p>
+ * 구독자마다 전송은 한 번에 하나만 진행되므로 느린 클라이언트의 변경은 대기열에만 쌓이고,
+ * 대기열이 가득 차면 쌓인 변경을 버리고 RESYNC 하나로 바꿔서 메모리 사용량을 제한한다.
+ * 조회 권한은 구독 시점에 검사하고, 공개 범위/공유 대상이 바뀌면 소유자 외 구독을 끊어 다시 구독(재검사)하게 한다.
+ */
+@Slf4j
+@Component
+class PlaylistChangeFeed {
+
+    static final String EVENT_NAME = "changes";
+    private static final int MAX_PENDING = 64;
+
+    private final long coalesceMillis;
+    private final long timeoutMillis;
+    private final ScheduledExecutorService dispatcher;
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+
+    PlaylistChangeFeed(@Value("${playlist.changes.coalesce-ms:200}") long coalesceMillis,
+                       @Value("${playlist.changes.timeout-ms:1800000}") long timeoutMillis,
+                       @Value("${playlist.changes.dispatcher-threads:4}") int dispatcherThreads,
+                       MeterRegistry meterRegistry) {
+        this.coalesceMillis = coalesceMillis;
+        this.timeoutMillis = timeoutMillis;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.dispatcher = Executors.newScheduledThreadPool(dispatcherThreads, runnable -> {
+            Thread thread = new Thread(runnable, "playlist-changes-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        Gauge.builder("playlist.changes.subscribers", subscriberCount, AtomicInteger::get)
+                .description("플레이리스트 변경 알림 SSE 구독 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 구독 등록 (조회 권한은 호출 측에서 검사)
+     */
+    SseEmitter subscribe(Long playlistId, Long userId) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(playlistId, userId, emitter);
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(() -> unsubscribe(subscriber));
+        emitter.onError(e -> unsubscribe(subscriber));
+
+        subscribers.computeIfAbsent(playlistId, id -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        subscriberCount.incrementAndGet();
+        try {
+            // 연결 직후 프록시/브라우저가 응답 헤더를 바로 받도록 주석 한 줄 전송
+            emitter.send(SseEmitter.event().comment("subscribed"));
+        } catch (IOException e) {
+            unsubscribe(subscriber);
+        }
+        log.debug("변경 알림 구독 - playlistId: {}, userId: {}", playlistId, userId);
+        return emitter;
+    }
+
+    /**
+     * 변경 알림 발행 (트랜잭션 안이면 커밋 후 반영)
+     */
+    void publish(PlaylistChangeEventDto event) {
+        TransactionCallbacks.afterCommit(() -> {
+            for (Subscriber subscriber : subscribers.getOrDefault(event.playlistId(), Collections.emptySet())) {
+                subscriber.offer(event);
+            }
+        });
+    }
+
+    /**
+     * 소유자가 아닌 구독을 대기 중인 변경을 보낸 뒤 종료 (트랜잭션 안이면 커밋 후 반영)
+     * 공개 범위/공유 대상이 바뀌었을 때 다시 구독하면서 권한을 재검사하도록 함
+     */
+    void closeOthers(Long playlistId, Long ownerId) {
+        TransactionCallbacks.afterCommit(() -> {
+            for (Subscriber subscriber : subscribers.getOrDefault(playlistId, Collections.emptySet())) {
+                if (!Objects.equals(subscriber.userId, ownerId)) {
+                    subscriber.close();
+                }
+            }
+        });
+    }
+
+    /**
+     * 플레이리스트의 모든 구독을 대기 중인 변경을 보낸 뒤 종료 (삭제 시)
+     */
+    void closeAll(Long playlistId) {
+        TransactionCallbacks.afterCommit(() -> {
+            for (Subscriber subscriber : subscribers.getOrDefault(playlistId, Collections.emptySet())) {
+                subscriber.close();
+            }
+        });
+    }
+
+    /**
+     * 유휴 구독에 주기적으로 주석을 보내 끊긴 연결을 정리하고 중간 프록시의 유휴 타임아웃을 막음
+     */
+    @Scheduled(fixedDelayString = "${playlist.changes.heartbeat-ms:30000}")
+    public void heartbeat() {
+        for (Set<Subscriber> playlistSubscribers : subscribers.values()) {
+            for (Subscriber subscriber : playlistSubscribers) {
+                subscriber.ping();
+            }
+        }
+    }
+
+    /**
+     * 종료가 시작되면(웹 서버가 요청을 정리하기 전) 모든 구독 종료
+     * 열린 SSE 요청이 graceful shutdown을 붙잡지 않고, 서버가 멈춘 뒤 이미 정리된 응답에 쓰지 않도록 함
+     */
+    @EventListener(ContextClosedEvent.class)
+    public void shutdown() {
+        dispatcher.shutdownNow();
+        for (Set<Subscriber> playlistSubscribers : subscribers.values()) {
+            for (Subscriber subscriber : playlistSubscribers) {
+                unsubscribe(subscriber);
+                try {
+                    subscriber.emitter.complete();
+                } catch (RuntimeException e) {
+                    // 이미 끊긴 연결 - 나머지 구독은 계속 종료
+                    log.debug("변경 알림 구독 종료 실패 - playlistId: {}, userId: {}, {}",
+                            subscriber.playlistId, subscriber.userId, e.getMessage());
+                }
+            }
+        }
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        if (!subscriber.markClosed()) {
+            return;
+        }
+        subscriberCount.decrementAndGet();
+        subscribers.computeIfPresent(subscriber.playlistId, (id, set) -> {
+            set.remove(subscriber);
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    /**
+     * 연속된 같은 종류의 곡 이벤트 / 메타데이터 이벤트를 하나로 합침 (합칠 수 없으면 null)
+     */
+    private static PlaylistChangeEventDto merge(PlaylistChangeEventDto last, PlaylistChangeEventDto next) {
+        if (last.type() != next.type()) {
+            return null;
+        }
+        return switch (next.type()) {
+            case TRACK_ADDED, TRACK_REMOVED, TRACK_MOVED -> {
+                Set<Long> trackIds = new LinkedHashSet<>(last.trackIds());
+                trackIds.addAll(next.trackIds());
+                yield new PlaylistChangeEventDto(next.playlistId(), next.type(), List.copyOf(trackIds), next.updatedAt());
+            }
+            case METADATA_UPDATED -> next;
+            default -> null;
+        };
+    }
+
+    /**
+     * 구독자 하나 (대기열과 전송 상태는 this로 보호)
+     */
+    private final class Subscriber {
+
+        private final Long playlistId;
+        private final Long userId;
+        private final SseEmitter emitter;
+
+        private final ArrayDeque<PlaylistChangeEventDto> pending = new ArrayDeque<>();
+        private PlaylistChangeEventDto latest;
+        private boolean overflowed;
+        private boolean pingRequested;
+        private boolean closing;
+        // 전송 작업이 예약/진행 중이면 true (구독자당 전송은 한 번에 하나)
+        private boolean scheduled;
+        private boolean closed;
+
+        private Subscriber(Long playlistId, Long userId, SseEmitter emitter) {
+            this.playlistId = playlistId;
+            this.userId = userId;
+            this.emitter = emitter;
+        }
+
+        void offer(PlaylistChangeEventDto event) {
+            synchronized (this) {
+                if (closed || closing) {
+                    return;
+                }
+                latest = event;
+                if (!overflowed) {
+                    PlaylistChangeEventDto merged = pending.isEmpty() ? null : merge(pending.peekLast(), event);
+                    if (merged != null) {
+                        pending.pollLast();
+                        pending.addLast(merged);
+                    } else if (pending.size() < MAX_PENDING) {
+                        pending.addLast(event);
+                    } else {
+                        pending.clear();
+                        overflowed = true;
+                    }
+                }
+                if (scheduled) {
+                    return;
+                }
+                scheduled = true;
+            }
+            schedule(coalesceMillis);
+        }
+
+        void ping() {
+            synchronized (this) {
+                if (closed || scheduled) {
+                    return;
+                }
+                scheduled = true;
+                pingRequested = true;
+            }
+            schedule(0);
+        }
+
+        void close() {
+            synchronized (this) {
+                if (closed || closing) {
+                    return;
+                }
+                closing = true;
+                if (scheduled) {
+                    return;
+                }
+                scheduled = true;
+            }
+            schedule(0);
+        }
+
+        synchronized boolean markClosed() {
+            if (closed) {
+                return false;
+            }
+            closed = true;
+            pending.clear();
+            return true;
+        }
+
+        private void schedule(long delayMillis) {
+            try {
+                dispatcher.schedule(this::flush, delayMillis, TimeUnit.MILLISECONDS);
+            } catch (RuntimeException e) {
+                // 종료 중
+                unsubscribe(this);
+            }
+        }
+
+        private void flush() {
+            List<PlaylistChangeEventDto> batch;
+            boolean ping;
+            boolean complete;
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                if (overflowed) {
+                    batch = List.of(new PlaylistChangeEventDto(
+                            playlistId, PlaylistChangeType.RESYNC, List.of(), latest.updatedAt()));
+                } else {
+                    batch = new ArrayList<>(pending);
+                }
+                pending.clear();
+                overflowed = false;
+                ping = pingRequested;
+                pingRequested = false;
+                complete = closing;
+            }
+
+            try {
+                if (!batch.isEmpty()) {
+                    emitter.send(SseEmitter.event().name(EVENT_NAME).data(batch, MediaType.APPLICATION_JSON));
+                } else if (ping) {
+                    emitter.send(SseEmitter.event().comment("ping"));
+                }
+                if (complete) {
+                    emitter.complete();
+                    unsubscribe(this);
+                    return;
+                }
+            } catch (IOException | IllegalStateException e) {
+                // 클라이언트 연결 끊김
+                log.debug("변경 알림 전송 실패 - playlistId: {}, userId: {}, {}", playlistId, userId, e.getMessage());
+                unsubscribe(this);
+                emitter.completeWithError(e);
+                return;
+            }
+
+            // 전송하는 동안 쌓인 변경이 있으면 다시 예약
+            long delayMillis;
+            synchronized (this) {
+                if (closed || (pending.isEmpty() && !overflowed && !closing)) {
+                    scheduled = false;
+                    return;
+                }
+                delayMillis = closing ? 0 : coalesceMillis;
+            }
+            schedule(delayMillis);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.mooddy.backend.feature.playlist.service;
+
+import com.mooddy.backend.feature.playlist.dto.PlaylistVersionDto;
+import com.mooddy.backend.feature.user.domain.User;
+
+/**
+ * 조회 권한 검사를 통과한 결과 (checkReadAccess에서만 만들어짐)
+ * 조건부 GET에서 검사할 때 받은 버전 정보를 다시 조회하지 않고 본문 조회에 넘기기 위함
+ */
+public final class PlaylistReadAccess {
+
+    private final PlaylistVersionDto version;
+    private final User user;
+
+    PlaylistReadAccess(PlaylistVersionDto version, User user) {
+        this.version = version;
+        this.user = user;
+    }
+
+    public PlaylistVersionDto version() {
+        return version;
+    }
+
+    public User user() {
+        return user;
+    }
+}
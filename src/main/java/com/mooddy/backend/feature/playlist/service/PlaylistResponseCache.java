@@ -0,0 +1,114 @@
+package com.mooddy.backend.feature.playlist.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.mooddy.backend.feature.playlist.dto.PlaylistResponseDto;
+import com.mooddy.backend.feature.playlist.dto.PlaylistVersionDto;
+import com.mooddy.backend.global.util.TransactionCallbacks;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 렌더링된 플레이리스트 상세 응답 캐시
+ * <p>
+ * 키에 updatedAt이 포함되어 있어 플레이리스트가 수정되면 이전 항목은 자연히 조회되지 않는다.
+ * 수정 시 invalidate는 더 이상 쓰이지 않을 항목의 메모리를 바로 회수하기 위한 것.
+ * 소유자 뷰(공유 대상 목록 포함)와 그 외 사용자 뷰를 따로 저장한다.
+ * <p>
+ * 응답에 들어가는 작성자 닉네임은 플레이리스트 updatedAt과 무관하게 바뀔 수 있으므로,
+ * 자주 조회되는 항목도 저장 후 ttl이 지나면 다시 렌더링한다 (닉네임 변경은 최대 ttl만큼 늦게 반영).
+ */
+@Slf4j
+@Component
+class PlaylistResponseCache {
+
+    static final String CACHE_NAME = "playlistResponse";
+
+    // 응답 크기 추정치 (바이트)
+    private static final int BASE_WEIGHT = 512;
+    private static final int TRACK_WEIGHT = 400;
+    private static final int SHARED_USER_WEIGHT = 16;
+
+    private final Cache<Key, PlaylistResponseDto> cache;
+    private final Map<Long, Set<Key>> keysByPlaylist = new ConcurrentHashMap<>();
+
+    PlaylistResponseCache(@Value("${playlist.cache.max-weight-bytes:67108864}") long maxWeightBytes,
+                          @Value("${playlist.cache.ttl-seconds:600}") long ttlSeconds,
+                          MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxWeightBytes)
+                .weigher((Key key, PlaylistResponseDto value) -> weigh(value))
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .executor(Runnable::run)    // 제거 리스너를 호출 스레드에서 바로 실행해 키 인덱스와 어긋나지 않게 함
+                .removalListener((Key key, PlaylistResponseDto value, RemovalCause cause) -> {
+                    if (key != null) {
+                        forget(key);
+                    }
+                })
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        Gauge.builder("cache.weight.bytes", cache, c -> c.policy().eviction()
+                        .map(eviction -> eviction.weightedSize().orElse(0L))
+                        .orElse(0L))
+                .tag("cache", CACHE_NAME)
+                .description("렌더링된 플레이리스트 응답 캐시의 추정 사용량")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 해당 버전/뷰의 응답이 있으면 반환하고, 없으면 renderer로 만들어 저장
+     */
+    PlaylistResponseDto get(PlaylistVersionDto version, boolean ownerView, Supplier<PlaylistResponseDto> renderer) {
+        Key key = new Key(version.id(), version.updatedAt(), ownerView);
+        return cache.get(key, k -> {
+            keysByPlaylist.computeIfAbsent(k.playlistId(), id -> ConcurrentHashMap.newKeySet()).add(k);
+            return renderer.get();
+        });
+    }
+
+    /**
+     * 플레이리스트의 모든 버전/뷰 항목 제거
+     * 커밋 전 동시 조회로 다시 채워진 이전 버전 항목도 정리하도록 커밋 후에 한 번 더 제거
+     */
+    void invalidate(Long playlistId) {
+        evict(playlistId);
+        TransactionCallbacks.afterCommit(() -> evict(playlistId));
+    }
+
+    private void evict(Long playlistId) {
+        Set<Key> keys = keysByPlaylist.remove(playlistId);
+        if (keys != null) {
+            cache.invalidateAll(keys);
+        }
+    }
+
+    private void forget(Key key) {
+        keysByPlaylist.computeIfPresent(key.playlistId(), (id, keys) -> {
+            keys.remove(key);
+            return keys.isEmpty() ? null : keys;
+        });
+    }
+
+    private static int weigh(PlaylistResponseDto value) {
+        return BASE_WEIGHT
+                + value.tracks().size() * TRACK_WEIGHT
+                + value.sharedUserIds().size() * SHARED_USER_WEIGHT;
+    }
+
+    private record Key(Long playlistId, LocalDateTime updatedAt, boolean ownerView) {
+    }
+}
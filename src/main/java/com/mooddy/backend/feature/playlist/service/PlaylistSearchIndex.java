@@ -0,0 +1,129 @@
+package com.mooddy.backend.feature.playlist.service;
+
+import com.mooddy.backend.feature.playlist.domain.Playlist;
+import com.mooddy.backend.feature.playlist.domain.Visibility;
+import com.mooddy.backend.feature.playlist.repository.PlaylistRepository;
+import com.mooddy.backend.feature.playlist.repository.PlaylistSearchDocument;
+import com.mooddy.backend.global.util.InvertedIndex;
+import com.mooddy.backend.global.util.TransactionCallbacks;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * PUBLIC 플레이리스트 제목/설명 검색용 메모리 역색인
+ * <p>
+ * 시작 시 DB에서 한 번 적재하고, 이후에는 플레이리스트 생성/수정/삭제가 커밋 후 반영한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+class PlaylistSearchIndex {
+
+    private static final int WARM_UP_PAGE_SIZE = 5000;
+
+    // 제목 일치를 설명 일치보다, 완전 일치를 접두어 일치보다 높게 평가
+    private static final InvertedIndex.Field TITLE = new InvertedIndex.Field(4f, 2f);
+    private static final InvertedIndex.Field DESCRIPTION = new InvertedIndex.Field(1f, 0.5f);
+
+    private final PlaylistRepository playlistRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final InvertedIndex index = new InvertedIndex("플레이리스트", TITLE, DESCRIPTION);
+
+    // 초기 적재 중 먼저 반영된 변경을 적재 결과가 덮어쓰지 않도록 기록
+    private final Set<Long> changedDuringWarmUp = ConcurrentHashMap.newKeySet();
+    private volatile boolean warmingUp;
+
+    /**
+     * 애플리케이션 시작 후 PUBLIC 플레이리스트를 id 순으로 나눠서 적재
+     * 페이지마다 쓰기 잠금을 풀어서 적재 중에도 검색이 가능함
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        warmingUp = true;
+        long started = System.currentTimeMillis();
+        int loaded = 0;
+        try {
+            long afterId = 0L;
+            List<PlaylistSearchDocument> page;
+            do {
+                page = playlistRepository.findSearchDocuments(
+                        Visibility.PUBLIC, afterId, Limit.of(WARM_UP_PAGE_SIZE));
+                lock.writeLock().lock();
+                try {
+                    for (PlaylistSearchDocument document : page) {
+                        if (!changedDuringWarmUp.contains(document.id())) {
+                            index.put(document.id(), document.title(), document.description());
+                            loaded++;
+                        }
+                    }
+                } finally {
+                    lock.writeLock().unlock();
+                }
+                if (!page.isEmpty()) {
+                    afterId = page.get(page.size() - 1).id();
+                }
+            } while (page.size() == WARM_UP_PAGE_SIZE);
+        } finally {
+            warmingUp = false;
+            changedDuringWarmUp.clear();
+        }
+        log.info("플레이리스트 검색 인덱스 적재 완료 - 문서: {}, 소요: {}ms", loaded, System.currentTimeMillis() - started);
+    }
+
+    /**
+     * 생성/수정된 플레이리스트 반영 (트랜잭션 안이면 커밋 후 반영)
+     * PUBLIC이 아니면 검색 대상에서 제외
+     */
+    void index(Playlist playlist) {
+        Long playlistId = playlist.getId();
+        if (playlist.getVisibility() != Visibility.PUBLIC) {
+            remove(playlistId);
+            return;
+        }
+        String title = playlist.getTitle();
+        String description = playlist.getDescription();
+        TransactionCallbacks.afterCommit(() -> write(playlistId, () -> index.put(playlistId, title, description)));
+    }
+
+    /**
+     * 삭제된 플레이리스트 제거 (트랜잭션 안이면 커밋 후 반영)
+     */
+    void remove(Long playlistId) {
+        TransactionCallbacks.afterCommit(() -> write(playlistId, () -> index.remove(playlistId)));
+    }
+
+    /**
+     * 검색어의 모든 단어가 제목 또는 설명에 (접두어로) 포함된 플레이리스트를 점수 순으로 조회
+     * 점수가 같으면 최근에 만들어진 플레이리스트(id 큰 순) 우선
+     */
+    InvertedIndex.SearchResult search(String query, int offset, int limit) {
+        lock.readLock().lock();
+        try {
+            return index.search(query, offset, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void write(Long playlistId, Runnable action) {
+        lock.writeLock().lock();
+        try {
+            if (warmingUp) {
+                changedDuringWarmUp.add(playlistId);
+            }
+            action.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+}
@@ -1,27 +1,69 @@
 package com.mooddy.backend.feature.playlist.service;
 
+import com.mooddy.backend.feature.playlist.dto.CursorPageResponseDto;
+import com.mooddy.backend.feature.playlist.dto.PlaylistEditRequestDto;
+import com.mooddy.backend.feature.playlist.dto.PlaylistExportFormat;
+import com.mooddy.backend.feature.playlist.dto.PlaylistImportFormat;
+import com.mooddy.backend.feature.playlist.dto.PlaylistImportResultDto;
 import com.mooddy.backend.feature.playlist.dto.PlaylistRequestDto;
 import com.mooddy.backend.feature.playlist.dto.PlaylistResponseDto;
+import com.mooddy.backend.feature.playlist.dto.PlaylistSearchResponseDto;
+import com.mooddy.backend.feature.playlist.dto.PlaylistSummaryDto;
+import com.mooddy.backend.feature.playlist.dto.PlaylistSyncResponseDto;
+import com.mooddy.backend.feature.playlist.dto.PlaylistVersionDto;
+import com.mooddy.backend.feature.playlist.domain.Visibility;
 import com.mooddy.backend.feature.user.domain.User;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface PlaylistService {
     PlaylistResponseDto createPlaylist(User user, PlaylistRequestDto request);
 
-    List<PlaylistResponseDto> getUserPlaylists(Long userId, User requester);
+    List<PlaylistSummaryDto> getUserPlaylists(Long userId, User requester);
 
-    List<PlaylistResponseDto> getPublicPlaylists();
+    PlaylistSyncResponseDto syncPlaylists(User user, LocalDateTime since, Long sinceId);
+
+    CursorPageResponseDto<PlaylistSummaryDto> getPublicPlaylists(String cursor, int size);
+
+    CursorPageResponseDto<PlaylistSummaryDto> getSharedWithMe(User user, String cursor, int size);
+
+    PlaylistSearchResponseDto searchPlaylists(String query, int page, int size);
+
+    List<PlaylistSummaryDto> getTrendingPlaylists(int size);
 
     PlaylistResponseDto getPlaylist(Long playlistId, User user);
 
+    PlaylistResponseDto getPlaylist(PlaylistReadAccess access);
+
+    SseEmitter subscribePlaylistChanges(Long playlistId, User user);
+
+    PlaylistVersionDto getPlaylistVersion(Long playlistId, User user);
+
+    PlaylistReadAccess checkReadAccess(Long playlistId, User user);
+
+    int exportPlaylistTracks(Long playlistId, User user, PlaylistExportFormat format, OutputStream out) throws IOException;
+
+    PlaylistImportResultDto importPlaylist(User user, PlaylistImportFormat format, String title, Visibility visibility,
+                                           InputStream in) throws IOException;
+
+    PlaylistResponseDto forkPlaylist(Long playlistId, User user);
+
     PlaylistResponseDto updatePlaylist(Long playlistId, User user, PlaylistRequestDto request);
 
     void deletePlaylist(Long playlistId, User user);
 
     PlaylistResponseDto addTrackToPlaylist(Long playlistId, User user, Long trackId);
 
+    PlaylistResponseDto addTracksToPlaylist(Long playlistId, User user, List<Long> trackIds);
+
     void removeTrackFromPlaylist(Long playlistId, User user, Long trackId);
 
     PlaylistResponseDto updateTrackPosition(Long playlistId, User user, Long trackId, Integer newPosition);
+
+    PlaylistResponseDto editPlaylistTracks(Long playlistId, User user, PlaylistEditRequestDto request);
 }
\ No newline at end of file
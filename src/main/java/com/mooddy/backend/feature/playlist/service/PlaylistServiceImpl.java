@@ -1,29 +1,73 @@
 package com.mooddy.backend.feature.playlist.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.mooddy.backend.external.itunes.service.ItunesService;
 import com.mooddy.backend.feature.playlist.domain.Playlist;
+import com.mooddy.backend.feature.playlist.domain.PlaylistTombstone;
 import com.mooddy.backend.feature.playlist.domain.PlaylistTrack;
-import com.mooddy.backend.feature.playlist.domain.PlaylistVisibility;
 import com.mooddy.backend.feature.playlist.domain.Visibility;
+import com.mooddy.backend.feature.playlist.dto.CursorPageResponseDto;
+import com.mooddy.backend.feature.playlist.dto.PlaylistChangeEventDto;
+import com.mooddy.backend.feature.playlist.dto.PlaylistChangeType;
+import com.mooddy.backend.feature.playlist.dto.PlaylistCursor;
+import com.mooddy.backend.feature.playlist.dto.PlaylistEditOperationDto;
+import com.mooddy.backend.feature.playlist.dto.PlaylistEditOperationType;
+import com.mooddy.backend.feature.playlist.dto.PlaylistEditRequestDto;
+import com.mooddy.backend.feature.playlist.dto.PlaylistExportFormat;
+import com.mooddy.backend.feature.playlist.dto.PlaylistImportFormat;
+import com.mooddy.backend.feature.playlist.dto.PlaylistImportResultDto;
 import com.mooddy.backend.feature.playlist.dto.PlaylistRequestDto;
 import com.mooddy.backend.feature.playlist.dto.PlaylistResponseDto;
+import com.mooddy.backend.feature.playlist.dto.PlaylistSearchResponseDto;
+import com.mooddy.backend.feature.playlist.dto.PlaylistSummaryDto;
+import com.mooddy.backend.feature.playlist.dto.PlaylistSyncResponseDto;
+import com.mooddy.backend.feature.playlist.dto.PlaylistVersionDto;
 import com.mooddy.backend.feature.playlist.repository.PlaylistRepository;
+import com.mooddy.backend.feature.playlist.repository.PlaylistSyncJdbcRepository;
+import com.mooddy.backend.feature.playlist.repository.PlaylistSyncJdbcRepository.PlaylistChange;
+import com.mooddy.backend.feature.playlist.repository.PlaylistTombstoneRepository;
+import com.mooddy.backend.feature.playlist.repository.PlaylistTrackJdbcRepository;
+import com.mooddy.backend.feature.playlist.repository.PlaylistTrackJdbcRepository.NewPlaylistTrack;
+import com.mooddy.backend.feature.playlist.repository.PlaylistTrackJdbcRepository.SortKeyUpdate;
+import com.mooddy.backend.feature.playlist.repository.PlaylistTrackKey;
 import com.mooddy.backend.feature.playlist.repository.PlaylistTrackRepository;
+import com.mooddy.backend.feature.playlist.repository.PlaylistVisibilityJdbcRepository;
 import com.mooddy.backend.feature.playlist.repository.PlaylistVisibilityRepository;
 import com.mooddy.backend.feature.track.domain.Track;
 import com.mooddy.backend.feature.user.domain.User;
 import com.mooddy.backend.feature.user.repository.UserRepository;
+import com.mooddy.backend.global.exception.BadRequestException;
+import com.mooddy.backend.global.exception.PlaylistConflictException;
+import com.mooddy.backend.global.util.InvertedIndex;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
@@ -35,6 +79,31 @@ public class PlaylistServiceImpl implements PlaylistService {
     private final PlaylistVisibilityRepository playlistVisibilityRepository;
     private final UserRepository userRepository;
     private final ItunesService itunesService;
+    private final PlaylistTrackJdbcRepository playlistTrackJdbcRepository;
+    private final PlaylistTrackRebalancer playlistTrackRebalancer;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManager entityManager;
+    private final PlaylistResponseCache playlistResponseCache;
+    private final PlaylistAccessIndex playlistAccessIndex;
+    private final PlaylistVisibilityJdbcRepository playlistVisibilityJdbcRepository;
+    private final PlaylistSearchIndex playlistSearchIndex;
+    private final PlaylistTrendingRanking playlistTrendingRanking;
+    private final PlaylistChangeFeed playlistChangeFeed;
+    private final PlaylistTombstoneRepository playlistTombstoneRepository;
+    private final PlaylistSyncJdbcRepository playlistSyncJdbcRepository;
+    private final PlaylistTombstoneCleaner playlistTombstoneCleaner;
+    private final ObjectMapper objectMapper;
+
+    private static final int MAX_PAGE_SIZE = 50;
+    private static final int MAX_BATCH_TRACKS = 200;
+    private static final int MAX_EDIT_OPERATIONS = 500;
+    // 관련도 순 결과는 키셋으로 넘길 수 없으므로 조회 가능한 깊이를 제한
+    private static final int MAX_SEARCH_RESULTS = 1000;
+    private static final int MAX_IMPORT_TRACKS = 10000;
+    private static final int MAX_NOT_FOUND_SAMPLES = 20;
+    private static final int MAX_SYNC_CHANGES = 500;
+    // updatedAt은 커밋 전에 정해지므로, 조회 시점에 아직 커밋되지 않은 변경을 놓치지 않도록 워터마크를 이만큼 당김
+    private static final Duration SYNC_OVERLAP = Duration.ofSeconds(10);
 
     /**
      * 플레이리스트 생성
@@ -54,102 +123,423 @@ public class PlaylistServiceImpl implements PlaylistService {
 
         Playlist savedPlaylist = playlistRepository.save(playlist);
         syncSharedUsers(savedPlaylist, savedPlaylist.getVisibility(), request.sharedUserIds(), true);
+        playlistSearchIndex.index(savedPlaylist);
         log.info("플레이리스트 생성 완료 - id: {}", savedPlaylist.getId());
 
-        Playlist reloaded = playlistRepository.findById(savedPlaylist.getId())
-                .orElseThrow(() -> new RuntimeException("플레이리스트를 찾을 수 없습니다."));
-        return PlaylistResponseDto.from(reloaded, user);
+        return PlaylistResponseDto.from(reloadWithTracks(savedPlaylist.getId()), user);
     }
 
     /**
-     * 특정 사용자의 플레이리스트 목록 조회
+     * 특정 사용자의 플레이리스트 목록 조회 (요약)
      */
     @Override
     @Transactional(readOnly = true)
-    public List<PlaylistResponseDto> getUserPlaylists(Long userId, User requester) {
+    public List<PlaylistSummaryDto> getUserPlaylists(Long userId, User requester) {
+        boolean isOwner = requester != null && requester.getId().equals(userId);
 
-        List<Playlist> allPlaylists = playlistRepository.findByUserId(userId);
+        if (isOwner) {
+            return playlistRepository.findSummariesByUserId(userId);
+        }
+        Long requesterId = requester != null ? requester.getId() : null;
+        return playlistRepository.findVisibleSummariesByUserId(userId, requesterId);
+    }
 
-        boolean isOwner = requester != null && requester.getId().equals(userId);
+    /**
+     * 내 플레이리스트 변경분 동기화
+     * since 이후 생성/수정/삭제된 플레이리스트만 반환하며, 변경이 없으면 변경분 조회 한 번으로 끝남
+     * since가 없거나 삭제 기록 보존 기간보다 오래되었으면 전체 목록을 reset으로 반환
+     * 커서는 (since, sinceId)라서 같은 시각에 바뀐 플레이리스트가 한 페이지보다 많아도 빠짐없이 이어서 받음
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public PlaylistSyncResponseDto syncPlaylists(User user, LocalDateTime since, Long sinceId) {
+        LocalDateTime safeWatermark = LocalDateTime.now().minus(SYNC_OVERLAP);
 
-        return allPlaylists.stream()
-                .filter(playlist -> {
-                    Visibility visibility = playlist.getVisibility();
+        if (since == null || since.isBefore(playlistTombstoneCleaner.retainedSince())) {
+            List<PlaylistSummaryDto> all = playlistRepository.findSummariesByUserIdOldestFirst(user.getId());
+            return new PlaylistSyncResponseDto(all, Collections.emptyList(), safeWatermark, null, true, false);
+        }
 
-                    if (visibility == Visibility.PUBLIC) return true;
+        List<PlaylistChange> changes = playlistSyncJdbcRepository.findChanges(
+                user.getId(), since, sinceId, MAX_SYNC_CHANGES + 1);
+        boolean hasMore = changes.size() > MAX_SYNC_CHANGES;
+        LocalDateTime watermark;
+        Long watermarkId;
+        if (hasMore) {
+            changes = changes.subList(0, MAX_SYNC_CHANGES);
+            // 다음 페이지는 마지막 변경 바로 다음부터 (같은 시각이면 id로 이어감)
+            PlaylistChange last = changes.get(changes.size() - 1);
+            watermark = last.changedAt();
+            watermarkId = last.playlistId();
+        } else if (since.isAfter(safeWatermark)) {
+            watermark = since;
+            watermarkId = sinceId;
+        } else {
+            watermark = safeWatermark;
+            watermarkId = null;
+        }
 
-                    if (isOwner) return true;
+        List<Long> upsertedIds = new ArrayList<>();
+        List<Long> deletedIds = new ArrayList<>();
+        for (PlaylistChange change : changes) {
+            (change.deleted() ? deletedIds : upsertedIds).add(change.playlistId());
+        }
+        List<PlaylistSummaryDto> upserted = upsertedIds.isEmpty()
+                ? Collections.emptyList()
+                : playlistRepository.findSummariesByUserIdAndIdIn(user.getId(), upsertedIds);
 
-                    if (visibility == Visibility.SHARED && requester != null) {
-                        return playlist.getPlaylistVisibilities().stream()
-                                .anyMatch(pv -> pv.getUser().getId().equals(requester.getId()));
-                    }
-                    return false;
-                })
-                .map(playlist -> PlaylistResponseDto.from(playlist, requester))
-                .collect(Collectors.toList());
+        return new PlaylistSyncResponseDto(upserted, deletedIds, watermark, watermarkId, false, hasMore);
     }
 
     /**
-     * 공개 플레이리스트 목록 조회
+     * 공개 플레이리스트 목록 조회 (요약, 커서 기반 페이지네이션)
      */
     @Override
     @Transactional(readOnly = true)
-    public List<PlaylistResponseDto> getPublicPlaylists() {
-        return playlistRepository.findByVisibility(Visibility.PUBLIC).stream()
-                .map(playlist -> PlaylistResponseDto.from(playlist, null))
+    public CursorPageResponseDto<PlaylistSummaryDto> getPublicPlaylists(String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<PlaylistSummaryDto> playlists;
+        if (cursor == null || cursor.isBlank()) {
+            playlists = playlistRepository.findFeedByVisibility(Visibility.PUBLIC, limit);
+        } else {
+            PlaylistCursor after = PlaylistCursor.decode(cursor);
+            playlists = playlistRepository.findFeedByVisibilityAfter(
+                    Visibility.PUBLIC, after.updatedAt(), after.id(), limit);
+        }
+
+        return toCursorPage(playlists, pageSize);
+    }
+
+    /**
+     * 나에게 공유된 플레이리스트 목록 조회 (요약, 커서 기반 페이지네이션)
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponseDto<PlaylistSummaryDto> getSharedWithMe(User user, String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<PlaylistSummaryDto> playlists;
+        if (cursor == null || cursor.isBlank()) {
+            playlists = playlistRepository.findSharedWith(user.getId(), limit);
+        } else {
+            PlaylistCursor after = PlaylistCursor.decode(cursor);
+            playlists = playlistRepository.findSharedWithAfter(user.getId(), after.updatedAt(), after.id(), limit);
+        }
+
+        return toCursorPage(playlists, pageSize);
+    }
+
+    /**
+     * pageSize + 1건 조회 결과를 한 페이지와 다음 커서로 변환
+     */
+    private CursorPageResponseDto<PlaylistSummaryDto> toCursorPage(List<PlaylistSummaryDto> playlists, int pageSize) {
+        boolean hasNext = playlists.size() > pageSize;
+        List<PlaylistSummaryDto> content = hasNext
+                ? new ArrayList<>(playlists.subList(0, pageSize))
+                : playlists;
+
+        String nextCursor = null;
+        if (hasNext) {
+            PlaylistSummaryDto last = content.get(content.size() - 1);
+            nextCursor = new PlaylistCursor(last.updatedAt(), last.id()).encode();
+        }
+
+        return new CursorPageResponseDto<>(content, nextCursor, hasNext);
+    }
+
+    /**
+     * 공개 플레이리스트 검색 (제목/설명, 접두어 일치, 관련도 순 페이지네이션)
+     * 순위는 메모리 검색 인덱스에서 정하고, 해당 페이지의 요약만 한 번에 조회
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public PlaylistSearchResponseDto searchPlaylists(String query, int page, int size) {
+        if (query == null || query.isBlank()) {
+            throw new BadRequestException("검색어를 입력해야 합니다.");
+        }
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        int pageNumber = Math.max(page, 0);
+        long offset = (long) pageNumber * pageSize;
+        if (offset + pageSize > MAX_SEARCH_RESULTS) {
+            throw new BadRequestException("검색 결과는 최대 " + MAX_SEARCH_RESULTS + "건까지 조회할 수 있습니다.");
+        }
+
+        InvertedIndex.SearchResult result = playlistSearchIndex.search(query, (int) offset, pageSize);
+        boolean hasNext = offset + pageSize < Math.min(result.totalHits(), MAX_SEARCH_RESULTS);
+        if (result.ids().isEmpty()) {
+            return new PlaylistSearchResponseDto(Collections.emptyList(), pageNumber, pageSize, result.totalHits(), hasNext);
+        }
+
+        Map<Long, PlaylistSummaryDto> summaries = playlistRepository.findPublicSummariesByIdIn(result.ids()).stream()
+                .collect(Collectors.toMap(PlaylistSummaryDto::id, Function.identity()));
+        List<PlaylistSummaryDto> content = result.ids().stream()
+                .map(summaries::get)
+                .filter(Objects::nonNull)
                 .collect(Collectors.toList());
+
+        return new PlaylistSearchResponseDto(content, pageNumber, pageSize, result.totalHits(), hasNext);
+    }
+
+    /**
+     * 인기 플레이리스트 조회 (미리 계산된 상위 목록에서 잘라서 반환, DB 조회 없음)
+     */
+    @Override
+    public List<PlaylistSummaryDto> getTrendingPlaylists(int size) {
+        int limit = Math.min(Math.max(size, 1), PlaylistTrendingRanking.MAX_TRENDING);
+        return playlistTrendingRanking.top(limit);
     }
 
     /**
      * 특정 플레이리스트 조회
+     * 권한 검사는 버전 조회에서 하고, 응답 본문은 (플레이리스트, updatedAt, 뷰) 단위로 캐시
      */
     @Override
     @Transactional(readOnly = true)
     public PlaylistResponseDto getPlaylist(Long playlistId, User user) {
-        Playlist playlist = playlistRepository.findById(playlistId)
+        return getPlaylist(checkReadAccess(playlistId, user));
+    }
+
+    /**
+     * 권한 검사를 마친 결과로 플레이리스트 조회 (조건부 GET에서 버전을 다시 조회하지 않도록)
+     * 결과는 checkReadAccess에서만 만들어지므로 검사 없이 호출할 수 없음
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public PlaylistResponseDto getPlaylist(PlaylistReadAccess access) {
+        PlaylistVersionDto version = access.version();
+        User user = access.user();
+        Long playlistId = version.id();
+        boolean ownerView = PlaylistVersionDto.isOwner(version.userId(), user);
+        // 소유자 본인 조회는 인기도에 반영하지 않음
+        if (!ownerView) {
+            playlistTrendingRanking.record(playlistId, version.visibility(), PlaylistTrendingRanking.Signal.VIEW);
+        }
+
+        return playlistResponseCache.get(version, ownerView, () -> {
+            Playlist playlist = playlistRepository.findByIdWithTracks(playlistId)
+                    .orElseThrow(() -> new RuntimeException("플레이리스트를 찾을 수 없습니다."));
+            return PlaylistResponseDto.from(playlist, user);
+        });
+    }
+
+    /**
+     * 플레이리스트 버전 조회 (조건부 GET용)
+     * getPlaylist와 같은 권한 검사를 하되, 곡 목록 없이 버전 정보만 조회
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public PlaylistVersionDto getPlaylistVersion(Long playlistId, User user) {
+        PlaylistVersionDto version = playlistRepository.findVersionById(playlistId)
                 .orElseThrow(() -> new RuntimeException("플레이리스트를 찾을 수 없습니다."));
 
-        // ===== 권한 검사 로직 추가 =====
-        Visibility visibility = playlist.getVisibility();
-        Long ownerId = playlist.getUser().getId();
+        Visibility visibility = version.visibility();
         Long requesterId = (user != null) ? user.getId() : null;
 
-        // 1. PUBLIC: 모두 접근 가능 → 아무 검사 없이 통과
         if (visibility == Visibility.PUBLIC) {
-            return PlaylistResponseDto.from(playlist, user);
+            return version;
         }
-
-        // 인증되지 않은 사용자는 PUBLIC이 아닌 경우 접근 불가
         if (requesterId == null) {
             throw new RuntimeException("이 플레이리스트에 접근할 권한이 없습니다.");
         }
-
-        // 2. PRIVATE: 소유자만 접근 가능
+        if (version.userId().equals(requesterId)) {
+            return version;
+        }
         if (visibility == Visibility.PRIVATE) {
-            if (!ownerId.equals(requesterId)) {
-                throw new RuntimeException("비공개 플레이리스트는 작성자만 볼 수 있습니다.");
-            }
-            return PlaylistResponseDto.from(playlist, user);
+            throw new RuntimeException("비공개 플레이리스트는 작성자만 볼 수 있습니다.");
         }
+        if (!playlistAccessIndex.isSharedWith(playlistId, requesterId)) {
+            throw new RuntimeException("이 플레이리스트에 접근할 권한이 없습니다.");
+        }
+        return version;
+    }
 
-        // 3. SHARED: 소유자 또는 공유받은 사람만 접근 가능
-        if (visibility == Visibility.SHARED) {
-            if (ownerId.equals(requesterId)) {
-                return PlaylistResponseDto.from(playlist, user);
-            }
+    /**
+     * 조회 권한 검사 (getPlaylist와 같은 규칙, 권한이 없거나 없는 플레이리스트면 예외)
+     *
+     * @return 검사한 버전 정보 (getPlaylist(PlaylistReadAccess)에 넘길 수 있음)
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public PlaylistReadAccess checkReadAccess(Long playlistId, User user) {
+        return new PlaylistReadAccess(getPlaylistVersion(playlistId, user), user);
+    }
 
-            boolean isSharedUser = playlist.getPlaylistVisibilities().stream()
-                    .anyMatch(pv -> pv.getUser().getId().equals(requesterId));
+    /**
+     * 플레이리스트 변경 알림 구독 (SSE)
+     * 조회 권한은 구독 시점에 getPlaylist와 같은 규칙으로 검사
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public SseEmitter subscribePlaylistChanges(Long playlistId, User user) {
+        checkReadAccess(playlistId, user);
+        return playlistChangeFeed.subscribe(playlistId, user != null ? user.getId() : null);
+    }
 
-            if (!isSharedUser) {
-                throw new RuntimeException("이 플레이리스트에 접근할 권한이 없습니다.");
+    /**
+     * 플레이리스트 곡 내보내기 (NDJSON/CSV 스트리밍)
+     * 곡을 DB 커서로 fetch size 단위로 읽으면서 바로 쓰고, 다 쓴 엔티티는 영속성 컨텍스트에서 비워서
+     * 곡 수와 무관하게 힙 사용량을 일정하게 유지
+     * StreamingResponseBody(요청 스레드가 아닌 스레드)에서 호출되므로 스트림은 이 메서드의 트랜잭션 안에서 염
+     *
+     * @return 내보낸 곡 수
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public int exportPlaylistTracks(Long playlistId, User user, PlaylistExportFormat format, OutputStream out)
+            throws IOException {
+        checkReadAccess(playlistId, user);
+
+        int exported = 0;
+        try (Stream<PlaylistTrack> tracks = playlistTrackRepository.streamByPlaylistId(playlistId);
+             PlaylistTrackExportWriter writer = new PlaylistTrackExportWriter(format, out, objectMapper.getFactory())) {
+            Iterator<PlaylistTrack> iterator = tracks.iterator();
+            while (iterator.hasNext()) {
+                writer.write(exported++, iterator.next());
+                if (exported % PlaylistTrackRepository.EXPORT_FETCH_SIZE == 0) {
+                    writer.flush();
+                    entityManager.clear();
+                }
             }
+        }
+        log.info("플레이리스트 내보내기 완료 - playlistId: {}, 형식: {}, 곡 수: {}", playlistId, format, exported);
+        return exported;
+    }
 
-            return PlaylistResponseDto.from(playlist, user);
+    /**
+     * 파일에서 플레이리스트 가져오기 (CSV/M3U/JSON)
+     * 파일을 청크 단위로 읽어서 청크마다 곡을 한 번에 조회/생성하고 JDBC 배치로 추가
+     * 청크마다 영속성 컨텍스트를 비우므로 메모리 사용량은 곡 수가 아니라 청크 크기에 비례
+     * 하나의 트랜잭션이라 중간에 실패하면 플레이리스트가 만들어지지 않음
+     * SHARED로 가져오면 createPlaylist처럼 공유 대상(처음엔 없음)을 접근 인덱스에 등록
+     */
+    @Override
+    @Transactional
+    public PlaylistImportResultDto importPlaylist(User user, PlaylistImportFormat format, String title,
+                                                  Visibility visibility, InputStream in) throws IOException {
+        long started = System.nanoTime();
+        Playlist playlist = playlistRepository.save(Playlist.builder()
+                .title(title != null && !title.isBlank() ? title : "가져온 플레이리스트")
+                .visibility(visibility != null ? visibility : Visibility.PRIVATE)
+                .user(user)
+                .build());
+        Long playlistId = playlist.getId();
+        syncSharedUsers(playlist, playlist.getVisibility(), Collections.emptyList(), true);
+        log.info("플레이리스트 가져오기 시작 - userId: {}, playlistId: {}, 형식: {}", user.getId(), playlistId, format);
+
+        // 파일 안의 중복 제거용 (iTunes trackId)
+        Set<Long> seenTrackIds = new HashSet<>();
+        List<Long> notFoundSamples = new ArrayList<>();
+        int imported = 0;
+        int duplicates = 0;
+        int notFound = 0;
+        int chunks = 0;
+        int parsed;
+        int invalid;
+        Long lastSortKey = null;
+
+        try (PlaylistTrackImportReader reader = new PlaylistTrackImportReader(format, in, objectMapper.getFactory())) {
+            List<Long> chunk;
+            while (!(chunk = reader.nextChunk(MAX_BATCH_TRACKS)).isEmpty()) {
+                if (reader.parsed() > MAX_IMPORT_TRACKS) {
+                    throw new BadRequestException("한 번에 가져올 수 있는 곡은 최대 " + MAX_IMPORT_TRACKS + "개입니다.");
+                }
+
+                List<Long> requested = new ArrayList<>(chunk.size());
+                for (Long trackId : chunk) {
+                    if (seenTrackIds.add(trackId)) {
+                        requested.add(trackId);
+                    } else {
+                        duplicates++;
+                    }
+                }
+                Map<Long, Track> tracks = requested.isEmpty()
+                        ? Collections.emptyMap()
+                        : itunesService.getOrCreateTrackEntities(requested);
+
+                List<NewPlaylistTrack> rows = new ArrayList<>(tracks.size());
+                for (Long trackId : requested) {
+                    Track track = tracks.get(trackId);
+                    if (track == null) {
+                        notFound++;
+                        if (notFoundSamples.size() < MAX_NOT_FOUND_SAMPLES) {
+                            notFoundSamples.add(trackId);
+                        }
+                        continue;
+                    }
+                    lastSortKey = PlaylistTrackOrdering.after(lastSortKey);
+                    rows.add(new NewPlaylistTrack(track.getId(), lastSortKey));
+                }
+                playlistTrackJdbcRepository.insertAll(playlistId, rows);
+                imported += rows.size();
+                chunks++;
+
+                // 청크에서 조회/생성한 Track 엔티티가 쌓이지 않도록 비움
+                entityManager.flush();
+                entityManager.clear();
+                log.info("플레이리스트 가져오기 진행 - playlistId: {}, 청크: {}, 읽은 항목: {}, 추가: {}, {} 곡/초",
+                        playlistId, chunks, reader.parsed(), imported,
+                        String.format("%.1f", tracksPerSecond(reader.parsed(), started)));
+            }
+            parsed = reader.parsed();
+            invalid = reader.invalid();
+        } catch (JsonProcessingException e) {
+            throw new BadRequestException("JSON 파일을 읽을 수 없습니다: " + e.getOriginalMessage());
         }
 
-        return PlaylistResponseDto.from(playlist, user);
+        // 가져오기가 동기화 겹침 구간(SYNC_OVERLAP)보다 오래 걸려도 since 기준에서 빠지지 않도록
+        // 생성 시각이 아니라 커밋 직전 시각을 수정 시각으로 기록
+        playlist = playlistRepository.findById(playlistId)
+                .orElseThrow(() -> new RuntimeException("플레이리스트를 찾을 수 없습니다."));
+        playlist.touch();
+        playlistRepository.save(playlist);
+        playlistSearchIndex.index(playlist);
+        long elapsedMs = (System.nanoTime() - started) / 1_000_000;
+        double tracksPerSecond = tracksPerSecond(parsed, started);
+        log.info("플레이리스트 가져오기 완료 - playlistId: {}, 읽은 항목: {}, 추가: {}, 중복: {}, 미발견: {}, 잘못된 항목: {}, {}ms ({} 곡/초)",
+                playlistId, parsed, imported, duplicates, notFound, invalid, elapsedMs, String.format("%.1f", tracksPerSecond));
+
+        return new PlaylistImportResultDto(playlistId, playlist.getTitle(), parsed, imported, duplicates, notFound,
+                invalid, notFoundSamples, chunks, elapsedMs, tracksPerSecond);
+    }
+
+    private double tracksPerSecond(int tracks, long startedNanos) {
+        long elapsedNanos = Math.max(System.nanoTime() - startedNanos, 1);
+        return tracks * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    /**
+     * 플레이리스트 복제 (fork)
+     * 조회 권한이 있는 플레이리스트를 요청자 소유의 비공개 플레이리스트로 복사
+     * 곡 행은 INSERT ... SELECT 한 번으로 복사하고, 공유 대상은 복사하지 않음
+     */
+    @Override
+    @Transactional
+    public PlaylistResponseDto forkPlaylist(Long playlistId, User user) {
+        log.info("플레이리스트 복제 - playlistId: {}, userId: {}", playlistId, user.getId());
+
+        // 원본 조회 권한 검사 (PRIVATE/SHARED 규칙은 조회와 동일)
+        checkReadAccess(playlistId, user);
+        Playlist source = playlistRepository.findById(playlistId)
+                .orElseThrow(() -> new RuntimeException("플레이리스트를 찾을 수 없습니다."));
+
+        Playlist fork = playlistRepository.save(Playlist.builder()
+                .title(source.getTitle())
+                .description(source.getDescription())
+                .coverImageUrl(source.getCoverImageUrl())
+                .visibility(Visibility.PRIVATE)
+                .user(user)
+                .build());
+
+        int copied = playlistTrackJdbcRepository.copyTracks(playlistId, fork.getId());
+        playlistTrendingRanking.record(playlistId, source.getVisibility(), PlaylistTrendingRanking.Signal.FORK);
+        log.info("플레이리스트 복제 완료 - 새 id: {}, 복사된 곡 수: {}", fork.getId(), copied);
+
+        return PlaylistResponseDto.from(reloadWithTracks(fork.getId()), user);
     }
 
     /**
@@ -181,35 +571,62 @@ public class PlaylistServiceImpl implements PlaylistService {
         }
 
         playlist.touch();
+        playlistResponseCache.invalidate(playlistId);
 
         Playlist updatedPlaylist = playlistRepository.save(playlist);
         boolean shouldUpdateSharedUsers = updatedPlaylist.getVisibility() != Visibility.SHARED
                 || request.sharedUserIds() != null;
         syncSharedUsers(updatedPlaylist, updatedPlaylist.getVisibility(), request.sharedUserIds(), shouldUpdateSharedUsers);
+        playlistSearchIndex.index(updatedPlaylist);
+        if (updatedPlaylist.getVisibility() != Visibility.PUBLIC) {
+            // 비공개/공유로 바뀐 플레이리스트가 인기 목록에 남지 않도록 바로 제거
+            playlistTrendingRanking.remove(playlistId);
+        }
+        publishChange(updatedPlaylist, PlaylistChangeType.METADATA_UPDATED, List.of());
+        if (request.visibility() != null || request.sharedUserIds() != null) {
+            // 구독자의 조회 권한이 바뀌었을 수 있으므로 다시 구독하면서 재검사하도록 함
+            playlistChangeFeed.closeOthers(playlistId, user.getId());
+        }
         log.info("플레이리스트 수정 완료");
 
-        Playlist reloaded = playlistRepository.findById(updatedPlaylist.getId())
-                .orElseThrow(() -> new RuntimeException("플레이리스트를 찾을 수 없습니다."));
-        return PlaylistResponseDto.from(reloaded, user);
+        return PlaylistResponseDto.from(reloadWithTracks(playlistId), user);
     }
 
     /**
      * 플레이리스트 삭제
+     * 곡/공유 대상을 엔티티로 로딩하지 않고 각각 한 번의 DELETE로 지운 뒤 플레이리스트 행 삭제
      */
     @Override
     @Transactional
     public void deletePlaylist(Long playlistId, User user) {
         log.info("🗑플레이리스트 삭제 - playlistId: {}, userId: {}", playlistId, user.getId());
 
-        Playlist playlist = playlistRepository.findById(playlistId)
+        // 곡 추가 등 동시 수정이 자식 행을 다시 넣지 못하도록 플레이리스트 행 잠금
+        Playlist playlist = playlistRepository.findByIdForUpdate(playlistId)
                 .orElseThrow(() -> new RuntimeException("플레이리스트를 찾을 수 없습니다."));
 
         if (!playlist.getUser().getId().equals(user.getId())) {
             throw new RuntimeException("플레이리스트를 삭제할 권한이 없습니다.");
         }
 
-        playlistRepository.delete(playlist);
-        log.info("플레이리스트 삭제 완료");
+        int deletedTracks = playlistTrackRepository.deleteByPlaylistId(playlistId);
+        int deletedShares = playlistVisibilityRepository.deleteByPlaylistId(playlistId);
+        playlistRepository.deletePlaylistById(playlistId);
+        entityManager.detach(playlist);
+        // 다른 기기가 변경분 동기화로 삭제를 알 수 있도록 기록
+        playlistTombstoneRepository.save(PlaylistTombstone.builder()
+                .playlistId(playlistId)
+                .userId(user.getId())
+                .deletedAt(LocalDateTime.now())
+                .build());
+
+        playlistResponseCache.invalidate(playlistId);
+        playlistAccessIndex.remove(playlistId);
+        playlistSearchIndex.remove(playlistId);
+        playlistTrendingRanking.remove(playlistId);
+        publishChange(playlist, PlaylistChangeType.DELETED, List.of());
+        playlistChangeFeed.closeAll(playlistId);
+        log.info("플레이리스트 삭제 완료 - 곡: {}, 공유 대상: {}", deletedTracks, deletedShares);
     }
 
     /**
@@ -220,7 +637,8 @@ public class PlaylistServiceImpl implements PlaylistService {
     public PlaylistResponseDto addTrackToPlaylist(Long playlistId, User user, Long trackId) {
         log.info("트랙 추가 - playlistId: {}, trackId: {}", playlistId, trackId);
 
-        Playlist playlist = playlistRepository.findById(playlistId)
+        // 정렬 키 계산이 백그라운드 재정렬과 섞이지 않도록 플레이리스트 행 잠금
+        Playlist playlist = playlistRepository.findByIdForUpdate(playlistId)
                 .orElseThrow(() -> new RuntimeException("플레이리스트를 찾을 수 없습니다."));
 
         if (!playlist.getUser().getId().equals(user.getId())) {
@@ -229,30 +647,93 @@ public class PlaylistServiceImpl implements PlaylistService {
 
         Track track = itunesService.getOrCreateTrackEntity(trackId);
 
-        boolean alreadyExists = playlist.getPlaylistTracks().stream()
-                .anyMatch(pt -> pt.getTrack().getId().equals(track.getId()));
-
-        if (alreadyExists) {
+        // 곡 컬렉션을 로딩하지 않고 중복 여부와 마지막 정렬 키만 조회
+        if (playlistTrackRepository.findByPlaylistIdAndTrackId(playlistId, track.getId()).isPresent()) {
             throw new IllegalArgumentException("이미 플레이리스트에 추가된 곡입니다.");
         }
 
-        int nextPosition = playlist.getPlaylistTracks().size();
+        Long lastSortKey = playlistTrackRepository.findMaxSortKey(playlistId);
 
         PlaylistTrack playlistTrack = PlaylistTrack.builder()
                 .playlist(playlist)
                 .track(track)
-                .position(nextPosition)
+                .sortKey(PlaylistTrackOrdering.after(lastSortKey))
                 .build();
 
-        playlist.getPlaylistTracks().add(playlistTrack);
         playlistTrackRepository.save(playlistTrack);
+        playlistTrendingRanking.record(playlistId, playlist.getVisibility(), PlaylistTrendingRanking.Signal.TRACK_ADD);
         log.info("곡 추가 완료");
 
         playlist.touch();
+        playlistResponseCache.invalidate(playlistId);
         playlistRepository.save(playlist);
+        publishChange(playlist, PlaylistChangeType.TRACK_ADDED, List.of(track.getId()));
         log.info("플레이리스트 갱신 완료");
 
-        return PlaylistResponseDto.from(playlist, user);
+        return PlaylistResponseDto.from(reloadWithTracks(playlistId), user);
+    }
+
+    /**
+     * 플레이리스트에 여러 곡 일괄 추가
+     * 요청 순서대로 뒤에 붙이며, 이미 들어있는 곡과 요청 내 중복은 건너뜀
+     * iTunes에 없는 곡이 있으면 400, iTunes 호출이 실패하면 503 (ItunesUnavailableException)
+     */
+    @Override
+    @Transactional
+    public PlaylistResponseDto addTracksToPlaylist(Long playlistId, User user, List<Long> trackIds) {
+        if (trackIds == null || trackIds.isEmpty()) {
+            throw new BadRequestException("추가할 곡을 하나 이상 지정해야 합니다.");
+        }
+        if (trackIds.size() > MAX_BATCH_TRACKS) {
+            throw new BadRequestException("한 번에 추가할 수 있는 곡은 최대 " + MAX_BATCH_TRACKS + "개입니다.");
+        }
+        log.info("트랙 일괄 추가 - playlistId: {}, 요청 곡 수: {}", playlistId, trackIds.size());
+
+        // 정렬 키 계산이 백그라운드 재정렬과 섞이지 않도록 플레이리스트 행 잠금
+        Playlist playlist = playlistRepository.findByIdForUpdate(playlistId)
+                .orElseThrow(() -> new RuntimeException("플레이리스트를 찾을 수 없습니다."));
+
+        if (!playlist.getUser().getId().equals(user.getId())) {
+            throw new RuntimeException("플레이리스트를 수정할 권한이 없습니다.");
+        }
+
+        List<Long> requested = new ArrayList<>(new LinkedHashSet<>(trackIds));
+        Map<Long, Track> tracks = itunesService.getOrCreateTrackEntities(requested);
+
+        List<Long> notFound = requested.stream()
+                .filter(trackId -> !tracks.containsKey(trackId))
+                .collect(Collectors.toList());
+        if (!notFound.isEmpty()) {
+            throw new BadRequestException("iTunes에서 찾을 수 없는 곡이 있습니다: " + notFound);
+        }
+
+        Set<Long> alreadyAdded = new HashSet<>(playlistTrackRepository.findExistingTrackIds(
+                playlistId, tracks.values().stream().map(Track::getId).collect(Collectors.toList())));
+
+        Long lastSortKey = playlistTrackRepository.findMaxSortKey(playlistId);
+        List<NewPlaylistTrack> rows = new ArrayList<>();
+        for (Long trackId : requested) {
+            Track track = tracks.get(trackId);
+            if (alreadyAdded.contains(track.getId())) {
+                continue;
+            }
+            lastSortKey = PlaylistTrackOrdering.after(lastSortKey);
+            rows.add(new NewPlaylistTrack(track.getId(), lastSortKey));
+        }
+
+        playlistTrackJdbcRepository.insertAll(playlistId, rows);
+        if (!rows.isEmpty()) {
+            playlistTrendingRanking.record(playlistId, playlist.getVisibility(), PlaylistTrendingRanking.Signal.TRACK_ADD);
+        }
+        log.info("곡 일괄 추가 완료 - 추가: {}, 중복 제외: {}", rows.size(), requested.size() - rows.size());
+
+        playlist.touch();
+        playlistResponseCache.invalidate(playlistId);
+        playlistRepository.save(playlist);
+        publishChange(playlist, PlaylistChangeType.TRACK_ADDED,
+                rows.stream().map(NewPlaylistTrack::trackId).collect(Collectors.toList()));
+
+        return PlaylistResponseDto.from(reloadWithTracks(playlistId), user);
     }
 
     /**
@@ -263,28 +744,25 @@ public class PlaylistServiceImpl implements PlaylistService {
     public void removeTrackFromPlaylist(Long playlistId, User user, Long trackId) {
         log.info("트랙 제거 - playlistId: {}, trackId: {}", playlistId, trackId);
 
-        Playlist playlist = playlistRepository.findById(playlistId)
+        // 백그라운드 재정렬/다른 곡 편집과 섞이지 않도록 플레이리스트 행 잠금
+        Playlist playlist = playlistRepository.findByIdForUpdate(playlistId)
                 .orElseThrow(() -> new RuntimeException("플레이리스트를 찾을 수 없습니다."));
 
         if (!playlist.getUser().getId().equals(user.getId())) {
             throw new RuntimeException("플레이리스트를 수정할 권한이 없습니다.");
         }
 
-        PlaylistTrack playlistTrack = playlistTrackRepository
-                .findByPlaylistIdAndTrackId(playlistId, trackId)
-                .orElseThrow(() -> new RuntimeException("플레이리스트에 해당 곡이 없습니다."));
-
-        Integer deletedPosition = playlistTrack.getPosition();
-        log.info("삭제할 곡의 position: {}", deletedPosition);
-
-        playlistTrackRepository.deleteByPlaylistIdAndTrackId(playlistId, trackId);
+        // 정렬 키 방식이므로 뒤 곡들의 순서를 당길 필요 없이 한 행만 삭제
+        int deleted = playlistTrackRepository.deleteByPlaylistIdAndTrackId(playlistId, trackId);
+        if (deleted == 0) {
+            throw new RuntimeException("플레이리스트에 해당 곡이 없습니다.");
+        }
         log.info("곡 삭제 완료");
 
-        playlistTrackRepository.decrementPositionsAfter(playlistId, deletedPosition);
-        log.info("순서 재정렬 완료 (position > {} 인 곡들 -1)", deletedPosition);
-
         playlist.touch();
+        playlistResponseCache.invalidate(playlistId);
         playlistRepository.save(playlist);
+        publishChange(playlist, PlaylistChangeType.TRACK_REMOVED, List.of(trackId));
         log.info("플레이리스트 갱신 완료");
     }
 
@@ -296,14 +774,15 @@ public class PlaylistServiceImpl implements PlaylistService {
     public PlaylistResponseDto updateTrackPosition(Long playlistId, User user, Long trackId, Integer newPosition) {
         log.info("트랙 순서 변경 - playlistId: {}, trackId: {}, newPosition: {}", playlistId, trackId, newPosition);
 
-        Playlist playlist = playlistRepository.findById(playlistId)
+        // 정렬 키 계산이 백그라운드 재정렬과 섞이지 않도록 플레이리스트 행 잠금
+        Playlist playlist = playlistRepository.findByIdForUpdate(playlistId)
                 .orElseThrow(() -> new RuntimeException("플레이리스트를 찾을 수 없습니다."));
 
         if (!playlist.getUser().getId().equals(user.getId())) {
             throw new RuntimeException("플레이리스트를 수정할 권한이 없습니다.");
         }
 
-        int playlistSize = playlist.getPlaylistTracks().size();
+        long playlistSize = playlistTrackRepository.countByPlaylistId(playlistId);
         if (newPosition < 0 || newPosition >= playlistSize) {
             throw new IllegalArgumentException("요청한 position이 유효한 범위를 벗어났습니다. (유효 범위: 0 ~ " + (playlistSize - 1) + ")");
         }
@@ -311,65 +790,271 @@ public class PlaylistServiceImpl implements PlaylistService {
         PlaylistTrack playlistTrack = playlistTrackRepository.findByPlaylistIdAndTrackId(playlistId, trackId)
                 .orElseThrow(() -> new RuntimeException("플레이리스트에 해당 곡이 없습니다."));
 
-        int oldPosition = playlistTrack.getPosition();
+        // 이동할 곡을 뺀 나머지 곡들의 정렬 키 (순서대로)
+        List<Long> otherKeys = playlistTrackRepository.findSortKeysExcluding(playlistId, playlistTrack.getId());
+        int oldPosition = countKeysBefore(otherKeys, playlistTrack.getSortKey());
 
         if (oldPosition == newPosition) {
-            return PlaylistResponseDto.from(playlist, user);
+            return PlaylistResponseDto.from(reloadWithTracks(playlistId), user);
         }
 
-        playlistTrack.setPosition(-1);
-        playlistTrackRepository.save(playlistTrack);
-        playlistTrackRepository.flush();
+        Long prevKey = newPosition > 0 ? otherKeys.get(newPosition - 1) : null;
+        Long nextKey = newPosition < otherKeys.size() ? otherKeys.get(newPosition) : null;
+        Long newSortKey = PlaylistTrackOrdering.between(prevKey, nextKey);
+
+        if (newSortKey == null) {
+            // 이웃 키 사이 간격이 소진된 경우에만 즉시 재정렬 후 다시 계산
+            log.info("정렬 키 간격 소진 - 즉시 재정렬: playlistId: {}", playlistId);
+            playlistTrackRebalancer.rebalance(playlistId);
+            // 재정렬은 JDBC로 처리되므로 이미 읽은 이동 대상 행의 정렬 키를 다시 읽음
+            entityManager.refresh(playlistTrack);
+            otherKeys = playlistTrackRepository.findSortKeysExcluding(playlistId, playlistTrack.getId());
+            prevKey = newPosition > 0 ? otherKeys.get(newPosition - 1) : null;
+            nextKey = newPosition < otherKeys.size() ? otherKeys.get(newPosition) : null;
+            newSortKey = PlaylistTrackOrdering.between(prevKey, nextKey);
+        } else if (PlaylistTrackOrdering.isCrowded(prevKey, nextKey)) {
+            eventPublisher.publishEvent(new PlaylistTrackRebalanceEvent(playlistId));
+        }
 
-        if (newPosition < oldPosition) {
-            List<PlaylistTrack> tracksToShift = playlist.getPlaylistTracks().stream()
-                    .filter(ps -> ps.getPosition() >= newPosition && ps.getPosition() < oldPosition)
-                    .collect(Collectors.toList());
+        // 이동한 곡 한 행만 수정
+        playlistTrack.setSortKey(newSortKey);
+        log.info("곡 순서 변경 완료 - {} -> {}", oldPosition, newPosition);
 
-            for (PlaylistTrack ps : tracksToShift) {
-                ps.setPosition(ps.getPosition() + 1);
-            }
+        playlist.touch();
+        playlistResponseCache.invalidate(playlistId);
+        playlistRepository.save(playlist);
+        publishChange(playlist, PlaylistChangeType.TRACK_MOVED, List.of(trackId));
+        log.info("플레이리스트 갱신 완료");
 
-            playlistTrackRepository.saveAll(tracksToShift);
-            playlistTrackRepository.flush();
+        return PlaylistResponseDto.from(reloadWithTracks(playlistId), user);
+    }
 
-        } else {
-            List<PlaylistTrack> tracksToShift = playlist.getPlaylistTracks().stream()
-                    .filter(ps -> ps.getPosition() > oldPosition && ps.getPosition() <= newPosition)
-                    .collect(Collectors.toList());
+    /**
+     * 플레이리스트 곡 일괄 편집 (이동/제거/추가)
+     * 모든 연산을 메모리에서 먼저 적용해 검증한 뒤, 실제 변경분만 묶어서 반영 (전부 성공하거나 전부 실패)
+     */
+    @Override
+    @Transactional
+    public PlaylistResponseDto editPlaylistTracks(Long playlistId, User user, PlaylistEditRequestDto request) {
+        List<PlaylistEditOperationDto> operations = request.operations();
+        if (operations == null || operations.isEmpty()) {
+            throw new BadRequestException("편집 연산을 하나 이상 지정해야 합니다.");
+        }
+        if (operations.size() > MAX_EDIT_OPERATIONS) {
+            throw new BadRequestException("한 번에 적용할 수 있는 연산은 최대 " + MAX_EDIT_OPERATIONS + "개입니다.");
+        }
+        if (request.baseUpdatedAt() == null) {
+            throw new BadRequestException("baseUpdatedAt은 필수입니다.");
+        }
+        log.info("트랙 일괄 편집 - playlistId: {}, 연산 수: {}", playlistId, operations.size());
 
-            for (PlaylistTrack ps : tracksToShift) {
-                ps.setPosition(ps.getPosition() - 1);
+        // 정렬 키 계산이 백그라운드 재정렬과 섞이지 않도록 플레이리스트 행 잠금
+        Playlist playlist = playlistRepository.findByIdForUpdate(playlistId)
+                .orElseThrow(() -> new RuntimeException("플레이리스트를 찾을 수 없습니다."));
+
+        if (!playlist.getUser().getId().equals(user.getId())) {
+            throw new RuntimeException("플레이리스트를 수정할 권한이 없습니다.");
+        }
+
+        if (!isSameVersion(playlist.getUpdatedAt(), request.baseUpdatedAt())) {
+            throw new PlaylistConflictException("플레이리스트가 다른 곳에서 변경되었습니다. 최신 상태를 다시 불러온 뒤 편집해주세요.");
+        }
+
+        // 추가할 곡은 한 번에 조회/생성
+        List<Long> insertTrackIds = operations.stream()
+                .filter(op -> op.type() == PlaylistEditOperationType.INSERT && op.trackId() != null)
+                .map(PlaylistEditOperationDto::trackId)
+                .distinct()
+                .collect(Collectors.toList());
+        Map<Long, Track> insertTracks = insertTrackIds.isEmpty()
+                ? Collections.emptyMap()
+                : itunesService.getOrCreateTrackEntities(insertTrackIds);
+
+        List<PlaylistTrackKey> current = playlistTrackRepository.findKeysByPlaylistId(playlistId);
+        List<PlaylistTrackKey> edited = applyEditOperations(current, operations, insertTracks);
+
+        // 최종 순서 기준으로 키 재계산 (순서가 유지된 곡은 키 그대로)
+        Long[] currentKeys = edited.stream().map(PlaylistTrackKey::sortKey).toArray(Long[]::new);
+        long[] newKeys = PlaylistTrackOrdering.assignKeys(currentKeys);
+
+        Set<Long> remainingIds = edited.stream()
+                .map(PlaylistTrackKey::id)
+                .filter(id -> id != null)
+                .collect(Collectors.toSet());
+        List<Long> removedIds = current.stream()
+                .map(PlaylistTrackKey::id)
+                .filter(id -> !remainingIds.contains(id))
+                .collect(Collectors.toList());
+
+        List<SortKeyUpdate> updates = new ArrayList<>();
+        List<NewPlaylistTrack> inserts = new ArrayList<>();
+        for (int i = 0; i < edited.size(); i++) {
+            PlaylistTrackKey entry = edited.get(i);
+            if (entry.id() == null) {
+                inserts.add(new NewPlaylistTrack(entry.trackId(), newKeys[i]));
+            } else if (entry.sortKey() != newKeys[i]) {
+                updates.add(new SortKeyUpdate(entry.id(), newKeys[i]));
             }
+        }
 
-            playlistTrackRepository.saveAll(tracksToShift);
-            playlistTrackRepository.flush();
+        // 제거 → 키 변경 → 추가 순서로 묶어서 반영
+        if (!removedIds.isEmpty()) {
+            playlistTrackRepository.deleteByPlaylistIdAndIdIn(playlistId, removedIds);
+        }
+        playlistTrackJdbcRepository.updateSortKeys(updates);
+        playlistTrackJdbcRepository.insertAll(playlistId, inserts);
+        if (!inserts.isEmpty()) {
+            playlistTrendingRanking.record(playlistId, playlist.getVisibility(), PlaylistTrendingRanking.Signal.TRACK_ADD);
         }
+        log.info("곡 일괄 편집 완료 - 제거: {}, 키 변경: {}, 추가: {}", removedIds.size(), updates.size(), inserts.size());
 
-        playlistTrack.setPosition(newPosition);
-        playlistTrackRepository.save(playlistTrack);
-        log.info("곡 순서 변경 완료");
+        if (PlaylistTrackOrdering.isCrowded(newKeys)) {
+            eventPublisher.publishEvent(new PlaylistTrackRebalanceEvent(playlistId));
+        }
 
         playlist.touch();
+        playlistResponseCache.invalidate(playlistId);
         playlistRepository.save(playlist);
-        log.info("플레이리스트 갱신 완료");
 
-        playlist = playlistRepository.findById(playlistId)
+        // 반영 순서(제거 → 이동 → 추가)대로 알림
+        Set<Long> removedIdSet = new HashSet<>(removedIds);
+        publishChange(playlist, PlaylistChangeType.TRACK_REMOVED, current.stream()
+                .filter(key -> removedIdSet.contains(key.id()))
+                .map(PlaylistTrackKey::trackId)
+                .collect(Collectors.toList()));
+        Set<Long> editedTrackIds = edited.stream().map(PlaylistTrackKey::trackId).collect(Collectors.toSet());
+        publishChange(playlist, PlaylistChangeType.TRACK_MOVED, operations.stream()
+                .filter(op -> op.type() == PlaylistEditOperationType.MOVE)
+                .map(PlaylistEditOperationDto::trackId)
+                .filter(editedTrackIds::contains)
+                .distinct()
+                .collect(Collectors.toList()));
+        publishChange(playlist, PlaylistChangeType.TRACK_ADDED,
+                inserts.stream().map(NewPlaylistTrack::trackId).collect(Collectors.toList()));
+
+        return PlaylistResponseDto.from(reloadWithTracks(playlistId), user);
+    }
+
+    /**
+     * 편집 연산을 순서대로 메모리 목록에 적용 (추가된 곡은 id/sortKey가 null)
+     */
+    private List<PlaylistTrackKey> applyEditOperations(List<PlaylistTrackKey> current,
+                                                       List<PlaylistEditOperationDto> operations,
+                                                       Map<Long, Track> insertTracks) {
+        List<PlaylistTrackKey> edited = new ArrayList<>(current);
+
+        for (int i = 0; i < operations.size(); i++) {
+            PlaylistEditOperationDto op = operations.get(i);
+            if (op == null || op.type() == null || op.trackId() == null) {
+                throw new BadRequestException("잘못된 편집 연산입니다. (index: " + i + ")");
+            }
+
+            switch (op.type()) {
+                case MOVE -> {
+                    int from = indexOfTrack(edited, op.trackId(), i);
+                    int to = requirePosition(op.position(), edited.size() - 1, i);
+                    edited.add(to, edited.remove(from));
+                }
+                case REMOVE -> edited.remove(indexOfTrack(edited, op.trackId(), i));
+                case INSERT -> {
+                    Track track = insertTracks.get(op.trackId());
+                    if (track == null) {
+                        throw new BadRequestException("iTunes에서 찾을 수 없는 곡입니다: " + op.trackId());
+                    }
+                    boolean alreadyExists = edited.stream()
+                            .anyMatch(entry -> entry.trackId().equals(track.getId()));
+                    if (alreadyExists) {
+                        throw new BadRequestException("이미 플레이리스트에 추가된 곡입니다: " + op.trackId());
+                    }
+                    int to = op.position() != null
+                            ? requirePosition(op.position(), edited.size(), i)
+                            : edited.size();
+                    edited.add(to, new PlaylistTrackKey(null, track.getId(), null));
+                }
+            }
+        }
+        return edited;
+    }
+
+    private int indexOfTrack(List<PlaylistTrackKey> entries, Long trackId, int operationIndex) {
+        for (int i = 0; i < entries.size(); i++) {
+            if (entries.get(i).trackId().equals(trackId)) {
+                return i;
+            }
+        }
+        throw new BadRequestException("플레이리스트에 해당 곡이 없습니다: " + trackId + " (index: " + operationIndex + ")");
+    }
+
+    private int requirePosition(Integer position, int maxPosition, int operationIndex) {
+        if (position == null || position < 0 || position > maxPosition) {
+            throw new BadRequestException("요청한 position이 유효한 범위를 벗어났습니다. (유효 범위: 0 ~ "
+                    + maxPosition + ", index: " + operationIndex + ")");
+        }
+        return position;
+    }
+
+    /**
+     * DB 저장 정밀도(마이크로초) 차이를 무시하고 버전 비교
+     */
+    private boolean isSameVersion(LocalDateTime current, LocalDateTime base) {
+        return current != null
+                && current.truncatedTo(ChronoUnit.MICROS).equals(base.truncatedTo(ChronoUnit.MICROS));
+    }
+
+    /**
+     * JDBC로 직접 변경한 내용을 반영하기 위해 영속성 컨텍스트를 비우고 다시 조회
+     * 작성자를 함께 조회하므로, 잠금 조회로 얻은 엔티티의 작성자 프록시를 초기화할 때처럼
+     * 공유 대상 User와 각 spotifyToken이 줄줄이 로딩되지 않음
+     */
+    private Playlist reloadWithTracks(Long playlistId) {
+        entityManager.flush();
+        entityManager.clear();
+        return playlistRepository.findByIdWithTracks(playlistId)
                 .orElseThrow(() -> new RuntimeException("플레이리스트를 찾을 수 없습니다."));
-        return PlaylistResponseDto.from(playlist, user);
+    }
+
+    /**
+     * 변경 알림 발행 (커밋 후 구독자에게 전달, 바뀐 곡이 없는 곡 이벤트는 생략)
+     */
+    private void publishChange(Playlist playlist, PlaylistChangeType type, Collection<Long> trackIds) {
+        boolean trackEvent = type == PlaylistChangeType.TRACK_ADDED
+                || type == PlaylistChangeType.TRACK_REMOVED
+                || type == PlaylistChangeType.TRACK_MOVED;
+        if (trackEvent && trackIds.isEmpty()) {
+            return;
+        }
+        playlistChangeFeed.publish(new PlaylistChangeEventDto(
+                playlist.getId(), type, List.copyOf(trackIds), playlist.getUpdatedAt()));
+    }
+
+    /**
+     * 정렬된 키 목록에서 주어진 키보다 앞에 있는 키 개수 (= 현재 position)
+     */
+    private int countKeysBefore(List<Long> sortedKeys, Long sortKey) {
+        int low = 0;
+        int high = sortedKeys.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sortedKeys.get(mid) < sortKey) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
     }
 
     /**
      * 공유 유저 목록 관리
+     * 현재 공유 대상 id와 요청 id를 비교해서 해제는 한 번의 DELETE, 추가는 JDBC 배치 INSERT로 반영
+     * 영속성 컨텍스트의 playlistVisibilities는 갱신하지 않으므로 호출 후 다시 조회해야 함
      */
     private void syncSharedUsers(Playlist playlist, Visibility visibility, List<Long> sharedUserIds, boolean shouldUpdateList) {
-        List<PlaylistVisibility> current = new ArrayList<>(playlist.getPlaylistVisibilities());
+        Long playlistId = playlist.getId();
 
         if (visibility != Visibility.SHARED) {
-            if (!current.isEmpty()) {
-                playlistVisibilityRepository.deleteAll(current);
-                playlist.getPlaylistVisibilities().clear();
-            }
+            playlistVisibilityRepository.deleteByPlaylistId(playlistId);
+            playlistAccessIndex.remove(playlistId);
             return;
         }
 
@@ -378,27 +1063,35 @@ public class PlaylistServiceImpl implements PlaylistService {
         }
 
         Set<Long> desired = new HashSet<>(sharedUserIds != null ? sharedUserIds : Collections.emptyList());
+        desired.remove(null);
         desired.remove(playlist.getUser().getId());
 
-        for (PlaylistVisibility pv : current) {
-            Long userId = pv.getUser().getId();
-            if (!desired.contains(userId)) {
-                playlistVisibilityRepository.delete(pv);
-                playlist.getPlaylistVisibilities().remove(pv);
-            } else {
-                desired.remove(userId);
+        Set<Long> current = new HashSet<>(playlistVisibilityRepository.findUserIdsByPlaylistId(playlistId));
+
+        List<Long> toRemove = current.stream()
+                .filter(userId -> !desired.contains(userId))
+                .collect(Collectors.toList());
+        List<Long> toAdd = desired.stream()
+                .filter(userId -> !current.contains(userId))
+                .sorted()
+                .collect(Collectors.toList());
+
+        if (!toAdd.isEmpty()) {
+            Set<Long> existing = new HashSet<>(userRepository.findExistingIds(toAdd));
+            List<Long> unknown = toAdd.stream()
+                    .filter(userId -> !existing.contains(userId))
+                    .collect(Collectors.toList());
+            if (!unknown.isEmpty()) {
+                throw new BadRequestException("공유 대상 사용자를 찾을 수 없습니다: " + unknown);
             }
         }
 
-        for (Long userId : desired) {
-            User sharedUser = userRepository.findById(userId)
-                    .orElseThrow(() -> new RuntimeException("공유 대상 사용자를 찾을 수 없습니다."));
-            PlaylistVisibility visibilityEntry = PlaylistVisibility.builder()
-                    .playlist(playlist)
-                    .user(sharedUser)
-                    .build();
-            playlist.getPlaylistVisibilities().add(visibilityEntry);
-            playlistVisibilityRepository.save(visibilityEntry);
+        if (!toRemove.isEmpty()) {
+            playlistVisibilityRepository.deleteByPlaylistIdAndUserIdIn(playlistId, toRemove);
         }
+        playlistVisibilityJdbcRepository.insertAll(playlistId, toAdd);
+        log.info("공유 대상 갱신 - playlistId: {}, 추가: {}, 해제: {}", playlistId, toAdd.size(), toRemove.size());
+
+        playlistAccessIndex.replace(playlistId, desired);
     }
 }
\ No newline at end of file
@@ -0,0 +1,44 @@
+package com.mooddy.backend.feature.playlist.service;
+
+import com.mooddy.backend.feature.playlist.repository.PlaylistTombstoneRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보존 기간이 지난 플레이리스트 삭제 기록 정리
+ * 이 기간보다 오래된 시점으로 동기화를 요청하면 삭제 기록이 빠져 있을 수 있으므로 전체 동기화로 처리
+ */
+@Slf4j
+@Component
+class PlaylistTombstoneCleaner {
+
+    private final PlaylistTombstoneRepository playlistTombstoneRepository;
+    private final long retentionDays;
+
+    PlaylistTombstoneCleaner(PlaylistTombstoneRepository playlistTombstoneRepository,
+                             @Value("${playlist.sync.tombstone-retention-days:30}") long retentionDays) {
+        this.playlistTombstoneRepository = playlistTombstoneRepository;
+        this.retentionDays = retentionDays;
+    }
+
+    /**
+     * 삭제 기록이 빠짐없이 남아있는 가장 이른 시점
+     */
+    LocalDateTime retainedSince() {
+        return LocalDateTime.now().minusDays(retentionDays);
+    }
+
+    @Scheduled(cron = "${playlist.sync.tombstone-cleanup-cron:0 30 4 * * *}")
+    @Transactional
+    public void cleanUp() {
+        int deleted = playlistTombstoneRepository.deleteByDeletedAtBefore(retainedSince());
+        if (deleted > 0) {
+            log.info("플레이리스트 삭제 기록 정리 - {}건", deleted);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.mooddy.backend.feature.playlist.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.mooddy.backend.feature.playlist.domain.PlaylistTrack;
+import com.mooddy.backend.feature.playlist.dto.PlaylistExportFormat;
+import com.mooddy.backend.feature.track.domain.Track;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+/**
+ * 플레이리스트 곡을 한 행씩 출력 스트림에 기록 (NDJSON / CSV)
+ * 행을 모아두지 않고 바로 쓰므로 메모리 사용량은 곡 수와 무관하게 버퍼 크기로 고정됨
+ * 닫아도 출력 스트림은 닫지 않음 (응답 스트림은 컨테이너가 닫음)
+ */
+class PlaylistTrackExportWriter implements Closeable {
+
+    private static final String[] COLUMNS = {
+            "position", "trackId", "title", "artist", "album", "durationMs",
+            "releaseDate", "genre", "previewUrl", "addedAt"
+    };
+
+    private final JsonGenerator json;
+    private final Writer csv;
+    private int rows;
+
+    PlaylistTrackExportWriter(PlaylistExportFormat format, OutputStream out, JsonFactory jsonFactory) throws IOException {
+        if (format == PlaylistExportFormat.NDJSON) {
+            this.json = jsonFactory.createGenerator(out)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                    .setRootValueSeparator(new SerializedString("\n"));
+            this.csv = null;
+        } else {
+            this.json = null;
+            this.csv = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            writeCsvRow(COLUMNS);
+        }
+    }
+
+    void write(int position, PlaylistTrack playlistTrack) throws IOException {
+        Track track = playlistTrack.getTrack();
+        rows++;
+        if (json != null) {
+            json.writeStartObject();
+            json.writeNumberField(COLUMNS[0], position);
+            json.writeNumberField(COLUMNS[1], track.getTrackId());
+            json.writeStringField(COLUMNS[2], track.getTitle());
+            json.writeStringField(COLUMNS[3], track.getArtist());
+            json.writeStringField(COLUMNS[4], track.getAlbum());
+            if (track.getDurationMs() != null) {
+                json.writeNumberField(COLUMNS[5], track.getDurationMs());
+            } else {
+                json.writeNullField(COLUMNS[5]);
+            }
+            json.writeStringField(COLUMNS[6], track.getReleaseDate());
+            json.writeStringField(COLUMNS[7], track.getPrimaryGenreName());
+            json.writeStringField(COLUMNS[8], track.getPreviewUrl());
+            json.writeStringField(COLUMNS[9], format(playlistTrack.getAddedAt()));
+            json.writeEndObject();
+        } else {
+            writeCsvRow(new String[]{
+                    String.valueOf(position),
+                    String.valueOf(track.getTrackId()),
+                    track.getTitle(),
+                    track.getArtist(),
+                    track.getAlbum(),
+                    track.getDurationMs() != null ? String.valueOf(track.getDurationMs()) : null,
+                    track.getReleaseDate(),
+                    track.getPrimaryGenreName(),
+                    track.getPreviewUrl(),
+                    format(playlistTrack.getAddedAt())
+            });
+        }
+    }
+
+    /**
+     * 지금까지 쓴 행을 클라이언트로 내보냄
+     */
+    void flush() throws IOException {
+        if (json != null) {
+            json.flush();
+        } else {
+            csv.flush();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (json != null) {
+            // 마지막 행도 줄바꿈으로 끝나도록 (NDJSON)
+            if (rows > 0) {
+                json.writeRaw('\n');
+            }
+            json.close();
+        } else {
+            csv.flush();
+        }
+    }
+
+    private void writeCsvRow(String[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                csv.write(',');
+            }
+            writeCsvValue(values[i]);
+        }
+        csv.write("\r\n");
+    }
+
+    /**
+     * RFC 4180 규칙으로 값 기록 (쉼표/따옴표/줄바꿈이 있으면 따옴표로 감싸고 따옴표는 두 번)
+     */
+    private void writeCsvValue(String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        if (!quote) {
+            csv.write(value);
+            return;
+        }
+        csv.write('"');
+        csv.write(value.replace("\"", "\"\""));
+        csv.write('"');
+    }
+
+    private static String format(LocalDateTime dateTime) {
+        return dateTime != null ? dateTime.toString() : null;
+    }
+}
@@ -0,0 +1,316 @@
+package com.mooddy.backend.feature.playlist.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.mooddy.backend.feature.playlist.dto.PlaylistImportFormat;
+import com.mooddy.backend.global.exception.BadRequestException;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 업로드 파일에서 iTunes trackId를 청크 단위로 읽음 (CSV / M3U / JSON)
+ * 파일 전체를 메모리에 올리지 않고 필요한 만큼만 읽으며, 읽을 수 없는 항목은 건너뛰고 개수만 셈
+ * 한 줄(필드)이 MAX_LINE_LENGTH자를 넘으면 400, 파일 앞의 UTF-8 BOM은 무시
+ * 닫으면 입력 스트림도 닫음
+ */
+class PlaylistTrackImportReader implements Closeable {
+
+    private static final String TRACK_ID_FIELD = "trackid";
+    private static final int MAX_LINE_LENGTH = 8192;
+    private static final char BOM = '\uFEFF';
+
+    // Apple Music 앨범 URL의 곡 파라미터(?i=), 곡 URL(/song/제목/id), iTunes 링크(/id123)
+    private static final Pattern TRACK_PARAM = Pattern.compile("[?&]i=(\\d+)");
+    private static final Pattern SONG_PATH = Pattern.compile("/song/(?:[^/?#]+/)?(\\d+)");
+    private static final Pattern ID_PATH = Pattern.compile("/id(\\d+)");
+
+    private final PlaylistImportFormat format;
+    private final BufferedReader reader;
+    private final JsonParser json;
+
+    private int parsed;
+    private int invalid;
+    private int csvTrackIdColumn = -1;
+
+    PlaylistTrackImportReader(PlaylistImportFormat format, InputStream in, JsonFactory jsonFactory) throws IOException {
+        this.format = format;
+        if (format == PlaylistImportFormat.JSON) {
+            this.json = jsonFactory.createParser(in);
+            this.reader = null;
+        } else {
+            this.json = null;
+            this.reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+            skipBom();
+        }
+    }
+
+    /**
+     * 다음 trackId를 최대 size개 읽음 (파일 끝이면 빈 목록)
+     */
+    List<Long> nextChunk(int size) throws IOException {
+        List<Long> chunk = new ArrayList<>(size);
+        while (chunk.size() < size) {
+            Long trackId = nextTrackId();
+            if (trackId == null) {
+                break;
+            }
+            chunk.add(trackId);
+        }
+        return chunk;
+    }
+
+    /**
+     * 지금까지 읽은 곡 항목 수 (읽을 수 없는 항목 포함)
+     */
+    int parsed() {
+        return parsed;
+    }
+
+    /**
+     * trackId를 읽을 수 없어서 건너뛴 항목 수
+     */
+    int invalid() {
+        return invalid;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (json != null) {
+            json.close();
+        } else {
+            reader.close();
+        }
+    }
+
+    private Long nextTrackId() throws IOException {
+        while (true) {
+            Entry entry = switch (format) {
+                case CSV -> nextCsvEntry();
+                case M3U -> nextM3uEntry();
+                case JSON -> nextJsonEntry();
+            };
+            if (entry == null) {
+                return null;
+            }
+            parsed++;
+            if (entry.trackId() != null) {
+                return entry.trackId();
+            }
+            invalid++;
+        }
+    }
+
+    // ===== CSV =====
+
+    private Entry nextCsvEntry() throws IOException {
+        while (true) {
+            List<String> record = readCsvRecord();
+            if (record == null) {
+                return null;
+            }
+            if (record.size() == 1 && record.get(0).isBlank()) {
+                continue;
+            }
+            if (csvTrackIdColumn < 0) {
+                csvTrackIdColumn = findTrackIdColumn(record);
+                if (csvTrackIdColumn >= 0) {
+                    continue;
+                }
+                // 헤더가 없으면 첫 열을 trackId로 보고 첫 줄부터 데이터로 처리
+                csvTrackIdColumn = 0;
+            }
+            String value = record.size() > csvTrackIdColumn ? record.get(csvTrackIdColumn) : null;
+            return new Entry(parseTrackId(value));
+        }
+    }
+
+    private int findTrackIdColumn(List<String> header) {
+        for (int i = 0; i < header.size(); i++) {
+            String name = header.get(i).trim().toLowerCase(Locale.ROOT).replace("_", "");
+            if (name.equals(TRACK_ID_FIELD)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * RFC 4180 레코드 하나 읽기 (따옴표 안의 쉼표/줄바꿈, 두 번 쓴 따옴표 처리)
+     */
+    private List<String> readCsvRecord() throws IOException {
+        int c = reader.read();
+        if (c == -1) {
+            return null;
+        }
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (c != -1) {
+            if (quoted) {
+                if (c == '"') {
+                    reader.mark(1);
+                    int next = reader.read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        if (next != -1) {
+                            reader.reset();
+                        }
+                    }
+                } else {
+                    append(field, c);
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n') {
+                break;
+            } else if (c != '\r') {
+                append(field, c);
+            }
+            c = reader.read();
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private void append(StringBuilder field, int c) {
+        if (field.length() >= MAX_LINE_LENGTH) {
+            throw new BadRequestException("파일의 한 줄(필드)이 너무 깁니다. (최대 " + MAX_LINE_LENGTH + "자)");
+        }
+        field.append((char) c);
+    }
+
+    /**
+     * 줄 하나 읽기 (readLine과 달리 길이 제한이 있어서 줄바꿈 없는 큰 파일을 통째로 읽지 않음)
+     */
+    private String readLine() throws IOException {
+        int c = reader.read();
+        if (c == -1) {
+            return null;
+        }
+        StringBuilder line = new StringBuilder();
+        while (c != -1 && c != '\n') {
+            if (c != '\r') {
+                append(line, c);
+            }
+            c = reader.read();
+        }
+        return line.toString();
+    }
+
+    private void skipBom() throws IOException {
+        reader.mark(1);
+        if (reader.read() != BOM) {
+            reader.reset();
+        }
+    }
+
+    // ===== M3U =====
+
+    private Entry nextM3uEntry() throws IOException {
+        String line;
+        while ((line = readLine()) != null) {
+            line = line.strip();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            return new Entry(parseM3uTrackId(line));
+        }
+        return null;
+    }
+
+    private Long parseM3uTrackId(String line) {
+        Long trackId = parseTrackId(line);
+        if (trackId != null) {
+            return trackId;
+        }
+        for (Pattern pattern : new Pattern[]{TRACK_PARAM, SONG_PATH, ID_PATH}) {
+            Matcher matcher = pattern.matcher(line);
+            if (matcher.find()) {
+                return parseTrackId(matcher.group(1));
+            }
+        }
+        return null;
+    }
+
+    // ===== JSON =====
+
+    /**
+     * 최상위 배열(여러 겹 가능) 안의 값 또는 최상위 값의 연속(NDJSON)을 하나씩 읽음
+     * 객체는 trackId 필드만 보고 나머지는 건너뜀
+     */
+    private Entry nextJsonEntry() throws IOException {
+        JsonToken token;
+        while ((token = json.nextToken()) != null) {
+            switch (token) {
+                case START_ARRAY, END_ARRAY -> {
+                    // 배열은 풀어서 안의 값을 하나씩 읽음
+                }
+                case START_OBJECT -> {
+                    return new Entry(readJsonObjectTrackId());
+                }
+                case VALUE_NUMBER_INT, VALUE_STRING -> {
+                    return new Entry(parseTrackId(json.getText()));
+                }
+                default -> {
+                    return new Entry(null);
+                }
+            }
+        }
+        return null;
+    }
+
+    private Long readJsonObjectTrackId() throws IOException {
+        Long trackId = null;
+        while (json.nextToken() == JsonToken.FIELD_NAME) {
+            String name = json.currentName().toLowerCase(Locale.ROOT).replace("_", "");
+            JsonToken value = json.nextToken();
+            if (name.equals(TRACK_ID_FIELD)
+                    && (value == JsonToken.VALUE_NUMBER_INT || value == JsonToken.VALUE_STRING)) {
+                trackId = parseTrackId(json.getText());
+            } else {
+                json.skipChildren();
+            }
+        }
+        return trackId;
+    }
+
+    private static Long parseTrackId(String value) {
+        if (value == null) {
+            return null;
+        }
+        String trimmed = value.trim();
+        if (trimmed.isEmpty() || trimmed.length() > 18) {
+            return null;
+        }
+        for (int i = 0; i < trimmed.length(); i++) {
+            char c = trimmed.charAt(i);
+            if (c < '0' || c > '9') {
+                return null;
+            }
+        }
+        long trackId = Long.parseLong(trimmed);
+        return trackId > 0 ? trackId : null;
+    }
+
+    /**
+     * 파일의 곡 항목 하나 (trackId를 읽지 못했으면 null)
+     */
+    private record Entry(Long trackId) {
+    }
+}
@@ -0,0 +1,169 @@
+package com.mooddy.backend.feature.playlist.service;
+
+/**
+ * 플레이리스트 곡 정렬 키 계산
+ * <p>
+ * 곡마다 간격(GAP)을 둔 정렬 키를 부여하고, 이동/삽입 시에는 이웃한 두 키의 중간값을 사용한다.
+ * 이동과 삭제는 한 행만 수정하며, 간격이 소진되면 재정렬(rebalance)로 키를 다시 벌린다.
+ */
+final class PlaylistTrackOrdering {
+
+    /** 재정렬 시 곡 사이에 두는 기본 간격 */
+    static final long GAP = 1L << 16;
+
+    /** 이웃 키 간격이 이 값 이하로 좁아지면 백그라운드 재정렬을 요청 */
+    static final long REBALANCE_THRESHOLD = 1L << 6;
+
+    private PlaylistTrackOrdering() {
+    }
+
+    /**
+     * n번째(0부터) 곡의 재정렬 키
+     */
+    static long keyAt(int index) {
+        return (index + 1) * GAP;
+    }
+
+    /**
+     * 마지막 곡 뒤에 추가할 키
+     */
+    static long after(Long last) {
+        return last == null ? GAP : last + GAP;
+    }
+
+    /**
+     * 두 키 사이의 키 (prev 또는 next가 null이면 양 끝)
+     *
+     * @return 사이에 남은 값이 없으면 null (재정렬 필요)
+     */
+    static Long between(Long prev, Long next) {
+        if (prev == null && next == null) {
+            return GAP;
+        }
+        if (prev == null) {
+            return next - GAP;
+        }
+        if (next == null) {
+            return prev + GAP;
+        }
+        if (next - prev < 2) {
+            return null;
+        }
+        return prev + (next - prev) / 2;
+    }
+
+    /**
+     * 편집 후 순서대로 나열된 곡들의 정렬 키 재계산
+     * <p>
+     * 기존 키가 증가 순서로 남아있는 최장 부분 수열(LIS)은 그대로 두고,
+     * 나머지(이동/추가된 곡)만 이웃 키 사이에 고르게 배치해 수정 행 수를 최소화한다.
+     * 사이 간격이 모자라면 전체를 GAP 단위로 다시 부여한다.
+     *
+     * @param currentKeys 최종 순서의 기존 키 (새로 추가된 곡은 null)
+     * @return 최종 순서의 새 키
+     */
+    static long[] assignKeys(Long[] currentKeys) {
+        int n = currentKeys.length;
+        boolean[] kept = longestIncreasingKeys(currentKeys);
+        long[] keys = new long[n];
+
+        int i = 0;
+        while (i < n) {
+            if (kept[i]) {
+                keys[i] = currentKeys[i];
+                i++;
+                continue;
+            }
+            int runStart = i;
+            while (i < n && !kept[i]) {
+                i++;
+            }
+            int runLength = i - runStart;
+            Long prev = runStart > 0 ? keys[runStart - 1] : null;
+            Long next = i < n ? currentKeys[i] : null;
+
+            for (int j = 0; j < runLength; j++) {
+                if (prev == null && next == null) {
+                    keys[runStart + j] = keyAt(j);
+                } else if (prev == null) {
+                    keys[runStart + j] = next - (runLength - j) * GAP;
+                } else if (next == null) {
+                    keys[runStart + j] = prev + (j + 1) * GAP;
+                } else {
+                    long step = (next - prev) / (runLength + 1);
+                    if (step < 1) {
+                        return renumbered(n);
+                    }
+                    keys[runStart + j] = prev + step * (j + 1);
+                }
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * 인접한 키 사이 간격 중 임계값 이하인 곳이 있는지 여부
+     */
+    static boolean isCrowded(long[] keys) {
+        for (int i = 1; i < keys.length; i++) {
+            if (keys[i] - keys[i - 1] <= REBALANCE_THRESHOLD) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static long[] renumbered(int n) {
+        long[] keys = new long[n];
+        for (int i = 0; i < n; i++) {
+            keys[i] = keyAt(i);
+        }
+        return keys;
+    }
+
+    /**
+     * null이 아닌 키 중 순증가하는 최장 부분 수열에 속하는 위치 표시 (O(n log n))
+     */
+    private static boolean[] longestIncreasingKeys(Long[] keys) {
+        int n = keys.length;
+        int[] tailIndex = new int[n];
+        int[] previous = new int[n];
+        int length = 0;
+
+        for (int i = 0; i < n; i++) {
+            if (keys[i] == null) {
+                continue;
+            }
+            int low = 0;
+            int high = length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (keys[tailIndex[mid]] < keys[i]) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            previous[i] = low > 0 ? tailIndex[low - 1] : -1;
+            tailIndex[low] = i;
+            if (low == length) {
+                length++;
+            }
+        }
+
+        boolean[] kept = new boolean[n];
+        int index = length > 0 ? tailIndex[length - 1] : -1;
+        while (index >= 0) {
+            kept[index] = true;
+            index = previous[index];
+        }
+        return kept;
+    }
+
+    /**
+     * 새 키를 넣은 뒤 이웃 간격이 임계값 이하로 좁아졌는지 여부
+     */
+    static boolean isCrowded(Long prev, Long next) {
+        return prev != null && next != null && next - prev <= REBALANCE_THRESHOLD;
+    }
+}
@@ -0,0 +1,7 @@
+package com.mooddy.backend.feature.playlist.service;
+
+/**
+ * 정렬 키 간격이 좁아진 플레이리스트의 백그라운드 재정렬 요청
+ */
+public record PlaylistTrackRebalanceEvent(Long playlistId) {
+}
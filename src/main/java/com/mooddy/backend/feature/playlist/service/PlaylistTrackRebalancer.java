@@ -0,0 +1,63 @@
+package com.mooddy.backend.feature.playlist.service;
+
+import com.mooddy.backend.feature.playlist.repository.PlaylistRepository;
+import com.mooddy.backend.feature.playlist.repository.PlaylistTrackJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 플레이리스트 곡 정렬 키 재정렬
+ * 곡 순서는 그대로 두고 키 간격만 GAP 단위로 다시 벌림
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PlaylistTrackRebalancer {
+
+    private final PlaylistRepository playlistRepository;
+    private final PlaylistTrackJdbcRepository playlistTrackJdbcRepository;
+
+    // 같은 플레이리스트에 대한 재정렬 요청이 겹쳐서 실행되지 않도록 관리
+    private final Set<Long> running = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 간격이 좁아진 플레이리스트를 요청 트랜잭션 커밋 후 백그라운드에서 재정렬
+     */
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onRebalanceRequested(PlaylistTrackRebalanceEvent event) {
+        if (!running.add(event.playlistId())) {
+            return;
+        }
+        try {
+            rebalance(event.playlistId());
+        } finally {
+            running.remove(event.playlistId());
+        }
+    }
+
+    /**
+     * 현재 트랜잭션 안에서 재정렬 (간격이 완전히 소진된 경우 곡 이동 중에 동기 호출)
+     */
+    @Transactional
+    public void rebalance(Long playlistId) {
+        // 재정렬 중 다른 곡 이동/추가와 섞이지 않도록 플레이리스트 행 잠금
+        if (playlistRepository.findByIdForUpdate(playlistId).isEmpty()) {
+            return;
+        }
+
+        // 곡 행을 엔티티로 읽지 않고 MERGE 한 문장으로 처리 (곡 수와 무관하게 문장 하나)
+        int updated = playlistTrackJdbcRepository.rebalanceSortKeys(playlistId, PlaylistTrackOrdering.GAP);
+        log.info("정렬 키 재정렬 완료 - playlistId: {}, 수정: {}", playlistId, updated);
+    }
+}
@@ -0,0 +1,85 @@
+package com.mooddy.backend.feature.playlist.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * playlist_tracks의 예전 순서 컬럼(position) 정리
+ * <p>
+ * 곡 순서를 position(0부터 연속, (playlist_id, position) 유니크)에서 sort_key로 바꾼 뒤에도
+ * ddl-auto: update는 컬럼/제약을 지우지 않으므로, 예전 스키마가 남은 DB에서는 NOT NULL position 때문에
+ * 곡 추가가 실패한다. 시작 시 position이 남아 있으면 sort_key가 비어 있는 행을 그 순서대로 채우고 NOT NULL로 바꾼 뒤
+ * uk_playlist_track_position 제약과 position 컬럼을 삭제한다. 이미 정리된 DB에서는 아무것도 하지 않음.
+ * <p>
+ * Hibernate 스키마 갱신(sort_key 추가)이 끝난 뒤, 요청을 받기 전에 실행되도록 entityManagerFactory 이후에 초기화
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+class PlaylistTrackSchemaMigration {
+
+    private static final String TABLE = "playlist_tracks";
+    private static final String LEGACY_COLUMN = "position";
+    private static final String LEGACY_CONSTRAINT = "uk_playlist_track_position";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    void migrate() {
+        Set<String> columns = columnNames();
+        if (!columns.contains(LEGACY_COLUMN)) {
+            return;
+        }
+        log.info("playlist_tracks 예전 position 컬럼 정리 시작");
+
+        if (!columns.contains("sort_key")) {
+            jdbcTemplate.execute("ALTER TABLE " + TABLE + " ADD COLUMN sort_key BIGINT");
+        }
+        // 값이 없는 행만 채움 (이미 sort_key로 옮겨졌거나 이동/재정렬된 행은 그대로 둠)
+        int backfilled = jdbcTemplate.update(
+                "UPDATE " + TABLE + " SET sort_key = (" + LEGACY_COLUMN + " + 1) * ? WHERE sort_key IS NULL",
+                PlaylistTrackOrdering.GAP);
+        // 엔티티 매핑(nullable = false)과 맞춤 - 빈 값이 남아 있으면 여기서 실패해서 position을 지우지 않음
+        jdbcTemplate.execute("ALTER TABLE " + TABLE + " ALTER COLUMN sort_key SET NOT NULL");
+
+        try {
+            jdbcTemplate.execute("ALTER TABLE " + TABLE + " DROP CONSTRAINT " + LEGACY_CONSTRAINT);
+        } catch (DataAccessException e) {
+            // 제약 없이 컬럼만 남은 경우
+            log.info("{} 제약이 없어 건너뜀: {}", LEGACY_CONSTRAINT, e.getMostSpecificCause().getMessage());
+        }
+        jdbcTemplate.execute("ALTER TABLE " + TABLE + " DROP COLUMN " + LEGACY_COLUMN);
+
+        log.info("playlist_tracks 예전 position 컬럼 정리 완료 - sort_key 채운 행 수: {}", backfilled);
+    }
+
+    /**
+     * playlist_tracks 컬럼 이름 (소문자)
+     */
+    private Set<String> columnNames() {
+        return jdbcTemplate.execute((ConnectionCallback<Set<String>>) connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            String table = metaData.storesUpperCaseIdentifiers() ? TABLE.toUpperCase(Locale.ROOT) : TABLE;
+            Set<String> names = new HashSet<>();
+            try (ResultSet rs = metaData.getColumns(connection.getCatalog(), null, table, null)) {
+                while (rs.next()) {
+                    names.add(rs.getString("COLUMN_NAME").toLowerCase(Locale.ROOT));
+                }
+            }
+            return names;
+        });
+    }
+}
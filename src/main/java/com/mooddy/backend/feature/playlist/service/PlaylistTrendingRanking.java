@@ -0,0 +1,271 @@
+package com.mooddy.backend.feature.playlist.service;
+
+import com.mooddy.backend.feature.playlist.domain.PlaylistTrendingScore;
+import com.mooddy.backend.feature.playlist.domain.Visibility;
+import com.mooddy.backend.feature.playlist.dto.PlaylistSummaryDto;
+import com.mooddy.backend.feature.playlist.repository.PlaylistRepository;
+import com.mooddy.backend.feature.playlist.repository.PlaylistTrendingScoreJdbcRepository;
+import com.mooddy.backend.feature.playlist.repository.PlaylistTrendingScoreJdbcRepository.ScoreRow;
+import com.mooddy.backend.feature.playlist.repository.PlaylistTrendingScoreRepository;
+import com.mooddy.backend.global.util.TransactionCallbacks;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 인기 플레이리스트 순위 (조회/곡 추가/복제 이벤트의 시간 감쇠 점수)
+ * <p>
+ * 점수는 (마지막 반영 시점의 점수, 반영 시각) 쌍으로 보관하고, 새 이벤트가 오면 그 시각까지 감쇠시킨 뒤 가중치를 더한다.
+ * 반감기마다 점수가 절반이 되므로 최근 활동이 많은 플레이리스트가 위로 올라온다.
+ * <p>
+ * 상위 목록은 주기적으로 미리 계산해 배열로 교체해두므로 조회는 앞에서 K개를 잘라 주기만 한다.
+ * 바뀐 점수는 주기적으로 DB에 스냅샷으로 저장하고, 시작 시 스냅샷에서 복원한다.
+ */
+@Slf4j
+@Component
+class PlaylistTrendingRanking {
+
+    static final int MAX_TRENDING = 100;
+    // 비공개로 바뀌었거나 삭제된 플레이리스트가 걸러져도 MAX_TRENDING을 채울 수 있도록 여유 있게 뽑음
+    private static final int CANDIDATES = MAX_TRENDING * 2;
+    // 이보다 작아진 점수는 순위에 의미가 없으므로 메모리와 스냅샷에서 정리 (조회 1회가 반감기 4~5번 지난 값)
+    private static final double MIN_SCORE = 0.05;
+
+    enum Signal {
+        VIEW(1),
+        TRACK_ADD(3),
+        FORK(5);
+
+        private final double weight;
+
+        Signal(double weight) {
+            this.weight = weight;
+        }
+    }
+
+    private final PlaylistRepository playlistRepository;
+    private final PlaylistTrendingScoreRepository scoreRepository;
+    private final PlaylistTrendingScoreJdbcRepository scoreJdbcRepository;
+    private final double halfLifeMillis;
+
+    private final ConcurrentHashMap<Long, Score> scores = new ConcurrentHashMap<>();
+    // 마지막 스냅샷 이후 점수가 바뀐 / 삭제된 플레이리스트
+    private final Set<Long> dirty = ConcurrentHashMap.newKeySet();
+    private final Set<Long> removed = ConcurrentHashMap.newKeySet();
+
+    // 미리 계산된 상위 목록 (점수 내림차순, 불변 리스트를 통째로 교체)
+    private volatile List<PlaylistSummaryDto> top = Collections.emptyList();
+
+    PlaylistTrendingRanking(PlaylistRepository playlistRepository,
+                            PlaylistTrendingScoreRepository scoreRepository,
+                            PlaylistTrendingScoreJdbcRepository scoreJdbcRepository,
+                            @Value("${playlist.trending.half-life-hours:24}") double halfLifeHours) {
+        this.playlistRepository = playlistRepository;
+        this.scoreRepository = scoreRepository;
+        this.scoreJdbcRepository = scoreJdbcRepository;
+        this.halfLifeMillis = halfLifeHours * 3_600_000d;
+    }
+
+    /**
+     * PUBLIC 플레이리스트 이벤트 반영 (트랜잭션 안이면 커밋 후 반영)
+     */
+    void record(Long playlistId, Visibility visibility, Signal signal) {
+        if (visibility != Visibility.PUBLIC) {
+            return;
+        }
+        TransactionCallbacks.afterCommit(() -> {
+            long now = System.currentTimeMillis();
+            scores.compute(playlistId, (id, score) -> score == null
+                    ? new Score(signal.weight, now)
+                    : new Score(score.decayedTo(now, halfLifeMillis) + signal.weight, now));
+            dirty.add(playlistId);
+        });
+    }
+
+    /**
+     * 삭제되었거나 PUBLIC이 아니게 된 플레이리스트 제거 (트랜잭션 안이면 커밋 후 반영, 스냅샷 행은 다음 스냅샷에서 삭제)
+     * 다음 재계산을 기다리지 않고 상위 목록에서도 바로 뺌
+     */
+    void remove(Long playlistId) {
+        TransactionCallbacks.afterCommit(() -> {
+            scores.remove(playlistId);
+            dirty.remove(playlistId);
+            removed.add(playlistId);
+            removeFromTop(playlistId);
+        });
+    }
+
+    /**
+     * 미리 계산된 상위 size개 (O(size))
+     */
+    List<PlaylistSummaryDto> top(int size) {
+        List<PlaylistSummaryDto> current = top;
+        return current.subList(0, Math.min(size, current.size()));
+    }
+
+    /**
+     * 상위 목록 다시 계산
+     * 전체 점수를 현재 시각까지 감쇠시켜 상위 후보만 힙으로 고른 뒤, PUBLIC 여부와 요약을 한 번에 조회
+     * 제거와 같은 잠금으로 실행해서, 제거 전에 읽은 목록이 제거 뒤에 덮어쓰지 않게 함
+     */
+    @Scheduled(fixedDelayString = "${playlist.trending.refresh-interval-ms:60000}",
+            initialDelayString = "${playlist.trending.refresh-interval-ms:60000}")
+    public synchronized void refresh() {
+        long now = System.currentTimeMillis();
+        PriorityQueue<Candidate> heap = new PriorityQueue<>(CANDIDATES + 1);
+        for (Map.Entry<Long, Score> entry : scores.entrySet()) {
+            double value = entry.getValue().decayedTo(now, halfLifeMillis);
+            if (heap.size() < CANDIDATES) {
+                heap.add(new Candidate(entry.getKey(), value));
+            } else if (value > heap.peek().score()) {
+                heap.poll();
+                heap.add(new Candidate(entry.getKey(), value));
+            }
+        }
+        if (heap.isEmpty()) {
+            top = Collections.emptyList();
+            return;
+        }
+
+        List<Candidate> ranked = new ArrayList<>(heap);
+        ranked.sort(Collections.reverseOrder());
+        Map<Long, PlaylistSummaryDto> summaries = playlistRepository.findPublicSummariesByIdIn(
+                        ranked.stream().map(Candidate::playlistId).collect(Collectors.toList())).stream()
+                .collect(Collectors.toMap(PlaylistSummaryDto::id, Function.identity()));
+
+        List<PlaylistSummaryDto> result = new ArrayList<>(MAX_TRENDING);
+        for (Candidate candidate : ranked) {
+            PlaylistSummaryDto summary = summaries.get(candidate.playlistId());
+            if (summary != null) {
+                result.add(summary);
+                if (result.size() == MAX_TRENDING) {
+                    break;
+                }
+            }
+        }
+        top = List.copyOf(result);
+    }
+
+    /**
+     * 바뀐 점수를 DB에 저장하고, 충분히 감쇠된 점수와 삭제된 플레이리스트의 행을 정리
+     */
+    @Scheduled(fixedDelayString = "${playlist.trending.snapshot-interval-ms:300000}",
+            initialDelayString = "${playlist.trending.snapshot-interval-ms:300000}")
+    public void snapshot() {
+        long now = System.currentTimeMillis();
+        List<Long> deletes = new ArrayList<>(drain(removed));
+        for (Map.Entry<Long, Score> entry : scores.entrySet()) {
+            Score score = entry.getValue();
+            if (score.decayedTo(now, halfLifeMillis) < MIN_SCORE && scores.remove(entry.getKey(), score)) {
+                dirty.remove(entry.getKey());
+                deletes.add(entry.getKey());
+            }
+        }
+
+        List<ScoreRow> rows = new ArrayList<>();
+        for (Long playlistId : drain(dirty)) {
+            Score score = scores.get(playlistId);
+            if (score != null) {
+                rows.add(new ScoreRow(playlistId, score.value(), toDateTime(score.atMillis())));
+            }
+        }
+
+        scoreJdbcRepository.upsertAll(rows);
+        scoreJdbcRepository.deleteAll(deletes);
+        if (!rows.isEmpty() || !deletes.isEmpty()) {
+            log.info("인기 순위 스냅샷 저장 - 저장: {}, 정리: {}", rows.size(), deletes.size());
+        }
+    }
+
+    /**
+     * 시작 시 스냅샷에서 점수를 복원하고 상위 목록 계산
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long started = System.currentTimeMillis();
+        List<PlaylistTrendingScore> snapshots = scoreRepository.findAll();
+        for (PlaylistTrendingScore snapshot : snapshots) {
+            long atMillis = snapshot.getScoredAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+            // 복원 전에 들어온 이벤트가 있으면 그 값을 유지
+            scores.putIfAbsent(snapshot.getPlaylistId(), new Score(snapshot.getScore(), atMillis));
+        }
+        refresh();
+        log.info("인기 순위 복원 완료 - 점수: {}, 소요: {}ms", snapshots.size(), System.currentTimeMillis() - started);
+    }
+
+    /**
+     * 종료 시 마지막 스냅샷 저장 (실패해도 종료는 계속)
+     */
+    @PreDestroy
+    public void flush() {
+        try {
+            snapshot();
+        } catch (RuntimeException e) {
+            log.warn("인기 순위 스냅샷 저장 실패 - {}", e.getMessage());
+        }
+    }
+
+    private synchronized void removeFromTop(Long playlistId) {
+        List<PlaylistSummaryDto> current = top;
+        if (current.stream().anyMatch(summary -> summary.id().equals(playlistId))) {
+            top = current.stream()
+                    .filter(summary -> !summary.id().equals(playlistId))
+                    .collect(Collectors.toUnmodifiableList());
+        }
+    }
+
+    private static List<Long> drain(Set<Long> ids) {
+        List<Long> drained = new ArrayList<>();
+        Iterator<Long> iterator = ids.iterator();
+        while (iterator.hasNext()) {
+            drained.add(iterator.next());
+            iterator.remove();
+        }
+        return drained;
+    }
+
+    private static LocalDateTime toDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+
+    /**
+     * atMillis 시점의 점수 (불변, 갱신 시 새 값으로 교체)
+     */
+    private record Score(double value, long atMillis) {
+
+        double decayedTo(long now, double halfLifeMillis) {
+            long elapsed = Math.max(0, now - atMillis);
+            return value * Math.pow(0.5, elapsed / halfLifeMillis);
+        }
+    }
+
+    /**
+     * 상위 후보 (점수 오름차순, 같으면 최근 플레이리스트 우선)
+     */
+    private record Candidate(Long playlistId, double score) implements Comparable<Candidate> {
+
+        @Override
+        public int compareTo(Candidate other) {
+            int compared = Double.compare(score, other.score);
+            return compared != 0 ? compared : Long.compare(playlistId, other.playlistId);
+        }
+    }
+}
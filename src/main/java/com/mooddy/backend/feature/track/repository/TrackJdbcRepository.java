@@ -0,0 +1,84 @@
+package com.mooddy.backend.feature.track.repository;
+
+import com.mooddy.backend.feature.track.domain.Track;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * tracks 대량 INSERT / 전체 스캔 전용 (JDBC)
+ * Track은 IDENTITY 전략이라 Hibernate가 INSERT를 배치로 묶지 못하므로 JdbcTemplate 사용
+ * 영속성 컨텍스트를 거치지 않으므로 생성된 엔티티가 필요하면 trackId로 다시 조회해야 함
+ */
+@Repository
+@RequiredArgsConstructor
+public class TrackJdbcRepository {
+
+    // 다른 서버/요청이 이미 저장한 trackId는 건너뜀 (H2, PostgreSQL 공통 문법)
+    private static final String INSERT_IF_ABSENT_SQL =
+            "INSERT INTO tracks (track_id, title, artist, album, duration_ms, album_cover_url, " +
+            "release_date, preview_url, primary_genre_name, cached_at) " +
+            "SELECT ?, ?, ?, ?, ?, ?, ?, ?, ?, ? " +
+            "WHERE NOT EXISTS (SELECT 1 FROM tracks WHERE track_id = ?)";
+    private static final int BATCH_SIZE = 500;
+    private static final String SCAN_SEARCH_DOCUMENTS_SQL = "SELECT id, title, artist, album FROM tracks";
+    private static final int SCAN_FETCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 새 곡 저장 (이미 커밋된 trackId는 건너뜀)
+     * 아직 커밋되지 않은 같은 trackId와 부딪히면 unique 제약 위반(DataIntegrityViolationException)이 날 수 있음
+     *
+     * @param tracks id가 없는 새 곡 (cachedAt은 현재 시각으로 저장)
+     */
+    public void insertAllIfAbsent(List<Track> tracks) {
+        if (tracks.isEmpty()) {
+            return;
+        }
+        Timestamp cachedAt = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_IF_ABSENT_SQL, tracks, BATCH_SIZE, (ps, track) -> {
+            ps.setLong(1, track.getTrackId());
+            ps.setString(2, track.getTitle());
+            ps.setString(3, track.getArtist());
+            ps.setString(4, track.getAlbum());
+            if (track.getDurationMs() != null) {
+                ps.setInt(5, track.getDurationMs());
+            } else {
+                ps.setNull(5, Types.INTEGER);
+            }
+            ps.setString(6, track.getAlbumCoverUrl());
+            ps.setString(7, track.getReleaseDate());
+            ps.setString(8, track.getPreviewUrl());
+            ps.setString(9, track.getPrimaryGenreName());
+            ps.setTimestamp(10, cachedAt);
+            ps.setLong(11, track.getTrackId());
+        });
+    }
+
+    /**
+     * 검색 인덱스 적재용으로 tracks 전체를 한 행씩 전달
+     * 결과를 목록으로 모으지 않고 fetch size 단위로 받아오므로 곡 수와 무관하게 메모리 사용량이 일정함
+     */
+    public void scanSearchDocuments(Consumer<TrackSearchDocument> consumer) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(SCAN_SEARCH_DOCUMENTS_SQL,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(SCAN_FETCH_SIZE);
+            return ps;
+        }, (RowCallbackHandler) rs -> consumer.accept(new TrackSearchDocument(
+                rs.getLong("id"),
+                rs.getString("title"),
+                rs.getString("artist"),
+                rs.getString("album"))));
+    }
+}
@@ -4,9 +4,13 @@ import com.mooddy.backend.feature.track.domain.Track;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface TrackRepository extends JpaRepository<Track, Long> {
     Optional<Track> findByTrackId(Long trackId);
+
+    List<Track> findByTrackIdIn(Collection<Long> trackIds);
 }
@@ -0,0 +1,17 @@
+package com.mooddy.backend.feature.track.repository;
+
+/**
+ * 곡 검색 인덱스 적재용 경량 조회 결과 (엔티티를 로딩하지 않음)
+ *
+ * @param id     tracks.id
+ * @param title  제목
+ * @param artist 아티스트 (없으면 null)
+ * @param album  앨범 (없으면 null)
+ */
+public record TrackSearchDocument(
+        Long id,
+        String title,
+        String artist,
+        String album
+) {
+}
@@ -2,7 +2,11 @@ package com.mooddy.backend.feature.user.repository;
 
 import com.mooddy.backend.feature.user.domain.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
@@ -11,4 +15,8 @@ public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByNickname(String username);
     boolean existsByEmail(String email);
 
+    // 존재하는 사용자 id만 조회 (공유 대상 일괄 검증용)
+    @Query("SELECT u.id FROM User u WHERE u.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
 }
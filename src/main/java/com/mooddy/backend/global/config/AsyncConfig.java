@@ -0,0 +1,12 @@
+package com.mooddy.backend.global.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+/**
+ * @Async 백그라운드 작업 활성화 (Spring Boot 기본 applicationTaskExecutor 사용)
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+}
@@ -0,0 +1,12 @@
+package com.mooddy.backend.global.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * @Scheduled 주기 작업 활성화 (인기 플레이리스트 순위 갱신/스냅샷 등)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -3,6 +3,7 @@ package com.mooddy.backend.global.config;
 import com.mooddy.backend.global.OAuth.OAuth2SuccessHandler;
 import com.mooddy.backend.global.security.JwtAuthenticationEntryPoint;
 import com.mooddy.backend.global.security.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -30,6 +31,10 @@ public class SecurityConfig {
                 .headers(headers -> headers.frameOptions().disable()) // h2-console
                 //url별 접근 권한 규칙 정함
                 .authorizeHttpRequests(auth -> auth
+                        // 비동기 응답(내보내기 StreamingResponseBody, 변경 알림 SSE, Mono 등)과
+                        // 에러 응답(/error)의 재디스패치는 최초 요청에서 이미 인가됨
+                        // (JWT 필터는 요청당 한 번만 실행되므로 막으면 응답이 401로 바뀜)
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC, DispatcherType.ERROR).permitAll()
                         .requestMatchers("/api/auth/**",
                                 "/h2-console/**",
                                 "/oauth2/**",
@@ -0,0 +1,16 @@
+package com.mooddy.backend.global.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+// iTunes 호출이 실패했거나 동시 실행 한도에 걸려 바로 처리할 수 없는 경우 503 반환 (클라이언트는 잠시 후 재시도)
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class ItunesUnavailableException extends RuntimeException {
+    public ItunesUnavailableException(String message) {
+        super(message);
+    }
+
+    public ItunesUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
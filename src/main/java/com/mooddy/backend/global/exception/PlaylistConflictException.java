@@ -0,0 +1,12 @@
+package com.mooddy.backend.global.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+// 클라이언트가 보고 있던 버전 이후에 플레이리스트가 변경된 경우 409 반환
+@ResponseStatus(HttpStatus.CONFLICT)
+public class PlaylistConflictException extends RuntimeException {
+    public PlaylistConflictException(String message) {
+        super(message);
+    }
+}
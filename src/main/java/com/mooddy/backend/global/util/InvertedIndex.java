@@ -0,0 +1,543 @@
+package com.mooddy.backend.global.util;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * 메모리 검색 인덱스(플레이리스트, 곡)가 함께 쓰는 역색인 (필드별 단어 -> 정렬된 문서 번호 배열)
+ * <p>
+ * 단어 사전은 정렬된 맵이라 접두어 범위 조회가 trie 탐색과 같은 역할을 한다 ("dyna" -> "dynamite").
+ * 문서마다 증가하는 번호(ordinal)를 붙이고, 수정되면 이전 번호를 죽은 번호로 표시한 뒤 새 번호로 다시 넣는다.
+ * 번호가 항상 증가하므로 각 posting 배열은 뒤에 붙이기만 해도 정렬이 유지되고, 조회는 이진 탐색으로 한다.
+ * 죽은 번호가 많아지면 한 번에 압축한다.
+ * <p>
+ * 점수는 필드별 완전 일치/접두어 일치 가중치의 합이며, 점수가 같으면 id가 큰 문서가 앞에 온다.
+ * 동기화하지 않으므로 호출 측에서 잠금 (search/contains/size는 읽기, put/remove는 쓰기 잠금)
+ */
+@Slf4j
+public final class InvertedIndex {
+
+    private static final int MIN_PREFIX_LENGTH = 2;
+    private static final int MAX_QUERY_TERMS = 5;
+    // 짧은 접두어가 수많은 단어로 펼쳐져 조회가 느려지지 않도록 제한
+    private static final int MAX_PREFIX_EXPANSIONS = 64;
+    private static final int MIN_DEAD_TO_COMPACT = 1024;
+
+    /**
+     * 색인할 필드 하나의 가중치 (완전 일치, 접두어 일치)
+     */
+    public record Field(float exactWeight, float prefixWeight) {
+    }
+
+    /**
+     * 검색 결과 (점수 순 id 목록과 전체 일치 건수)
+     */
+    public record SearchResult(List<Long> ids, int totalHits) {
+        public static final SearchResult EMPTY = new SearchResult(Collections.emptyList(), 0);
+    }
+
+    private final String name;
+    private final Field[] fields;
+    private final List<TreeMap<String, Postings>> terms;
+    // 박싱 없이 문서당 long/int 한두 칸
+    private final LongIntHashMap ordinalById = new LongIntHashMap();
+    private final BitSet live = new BitSet();
+    private long[] idByOrdinal = new long[1024];
+    private int nextOrdinal;
+    private int deadCount;
+
+    /**
+     * @param name   압축 로그에 쓸 인덱스 이름
+     * @param fields put에 넘기는 필드 순서대로의 가중치
+     */
+    public InvertedIndex(String name, Field... fields) {
+        this.name = name;
+        this.fields = fields.clone();
+        this.terms = new ArrayList<>(fields.length);
+        for (int i = 0; i < fields.length; i++) {
+            terms.add(new TreeMap<>());
+        }
+    }
+
+    public boolean contains(long id) {
+        return ordinalById.get(id) != LongIntHashMap.MISSING;
+    }
+
+    /**
+     * 색인된 문서 수
+     */
+    public int size() {
+        return ordinalById.size();
+    }
+
+    /**
+     * 문서 추가 (같은 id가 있으면 교체)
+     *
+     * @param fieldTexts 생성자에 넘긴 필드 순서대로의 원문 (null 가능)
+     */
+    public void put(long id, String... fieldTexts) {
+        remove(id);
+
+        int ordinal = nextOrdinal++;
+        if (ordinal == idByOrdinal.length) {
+            idByOrdinal = Arrays.copyOf(idByOrdinal, ordinal * 2);
+        }
+        idByOrdinal[ordinal] = id;
+        ordinalById.put(id, ordinal);
+        live.set(ordinal);
+
+        for (int i = 0; i < fields.length; i++) {
+            for (String term : SearchTokenizer.tokenize(fieldTexts[i])) {
+                terms.get(i).computeIfAbsent(term, t -> new Postings()).add(ordinal);
+            }
+        }
+    }
+
+    /**
+     * 문서 제거 (posting 배열은 그대로 두고 번호만 죽은 번호로 표시)
+     */
+    public void remove(long id) {
+        int ordinal = ordinalById.remove(id);
+        if (ordinal == LongIntHashMap.MISSING) {
+            return;
+        }
+        live.clear(ordinal);
+        deadCount++;
+        if (deadCount >= MIN_DEAD_TO_COMPACT && deadCount * 4 >= nextOrdinal) {
+            compact();
+        }
+    }
+
+    /**
+     * 검색어의 모든 단어가 어느 필드에든 (접두어로) 포함된 문서를 점수 순으로 offset부터 limit건 조회
+     */
+    public SearchResult search(String query, int offset, int limit) {
+        List<String> queryTerms = SearchTokenizer.tokenize(query);
+        if (queryTerms.isEmpty()) {
+            return SearchResult.EMPTY;
+        }
+        if (queryTerms.size() > MAX_QUERY_TERMS) {
+            queryTerms = queryTerms.subList(0, MAX_QUERY_TERMS);
+        }
+
+        List<TermMatch> matches = new ArrayList<>(queryTerms.size());
+        for (String term : queryTerms) {
+            TermMatch match = match(term);
+            if (match.isEmpty()) {
+                return SearchResult.EMPTY;
+            }
+            matches.add(match);
+        }
+        // 후보가 가장 적은 단어의 목록만 순회하고, 나머지 단어는 후보마다 이진 탐색으로 확인
+        matches.sort(Comparator.comparingLong(TermMatch::estimatedSize));
+        TermMatch driver = matches.get(0);
+
+        TopHits top = new TopHits(offset + limit);
+        BitSet seen = new BitSet(nextOrdinal);
+        int hits = 0;
+        // 목록이 가중치 내림차순이므로 처음 만난 번호의 가중치가 그 단어의 최고 가중치
+        for (int i = 0; i < driver.postings.size(); i++) {
+            Postings list = driver.postings.get(i);
+            float weight = driver.weights.get(i);
+            // 번호가 클수록 최근 문서라 id도 큰 경우가 많으므로 뒤에서부터 보면 힙 교체가 줄어듦
+            for (int j = list.size - 1; j >= 0; j--) {
+                int ordinal = list.ordinals[j];
+                if (!live.get(ordinal) || seen.get(ordinal)) {
+                    continue;
+                }
+                seen.set(ordinal);
+                float score = weight;
+                for (int m = 1; m < matches.size() && score > 0; m++) {
+                    float termScore = matches.get(m).score(ordinal);
+                    score = termScore > 0 ? score + termScore : 0;
+                }
+                if (score > 0) {
+                    hits++;
+                    top.offer(score, idByOrdinal[ordinal]);
+                }
+            }
+        }
+        return new SearchResult(top.page(offset), hits);
+    }
+
+    /**
+     * 죽은 번호를 빼고 살아있는 문서 번호를 0부터 다시 매김
+     * 번호 순서가 유지되므로 posting 배열은 정렬된 상태 그대로 줄어듦
+     */
+    private void compact() {
+        int[] remap = new int[nextOrdinal];
+        int liveCount = 0;
+        for (int ordinal = 0; ordinal < nextOrdinal; ordinal++) {
+            remap[ordinal] = live.get(ordinal) ? liveCount++ : -1;
+        }
+
+        for (TreeMap<String, Postings> fieldTerms : terms) {
+            Iterator<Postings> iterator = fieldTerms.values().iterator();
+            while (iterator.hasNext()) {
+                Postings postings = iterator.next();
+                postings.remap(remap);
+                if (postings.size == 0) {
+                    iterator.remove();
+                }
+            }
+        }
+
+        long[] ids = new long[Math.max(1024, liveCount * 2)];
+        for (int ordinal = 0; ordinal < nextOrdinal; ordinal++) {
+            if (remap[ordinal] >= 0) {
+                ids[remap[ordinal]] = idByOrdinal[ordinal];
+            }
+        }
+        idByOrdinal = ids;
+        ordinalById.replaceValues(remap);
+        live.clear();
+        live.set(0, liveCount);
+        log.info("{} 검색 인덱스 압축 - 제거된 번호: {}, 남은 문서: {}", name, deadCount, liveCount);
+        nextOrdinal = liveCount;
+        deadCount = 0;
+    }
+
+    /**
+     * 한 단어가 일치하는 posting 목록 (필드별 완전 일치/접두어 일치, 가중치 내림차순)
+     */
+    private TermMatch match(String term) {
+        TermMatch match = new TermMatch();
+        for (int i = 0; i < fields.length; i++) {
+            TreeMap<String, Postings> fieldTerms = terms.get(i);
+            match.add(fieldTerms.get(term), fields[i].exactWeight());
+            if (term.length() >= MIN_PREFIX_LENGTH) {
+                NavigableMap<String, Postings> range = fieldTerms.subMap(term, false, term + Character.MAX_VALUE, true);
+                int expanded = 0;
+                for (Postings postings : range.values()) {
+                    if (expanded++ == MAX_PREFIX_EXPANSIONS) {
+                        break;
+                    }
+                    match.add(postings, fields[i].prefixWeight());
+                }
+            }
+        }
+        match.sortByWeight();
+        return match;
+    }
+
+    /**
+     * 오름차순으로만 추가되는 문서 번호 배열
+     */
+    private static final class Postings {
+        private int[] ordinals = new int[2];
+        private int size;
+
+        void add(int ordinal) {
+            if (size == ordinals.length) {
+                ordinals = Arrays.copyOf(ordinals, size * 2);
+            }
+            ordinals[size++] = ordinal;
+        }
+
+        boolean contains(int ordinal) {
+            return Arrays.binarySearch(ordinals, 0, size, ordinal) >= 0;
+        }
+
+        void remap(int[] remap) {
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                int ordinal = remap[ordinals[i]];
+                if (ordinal >= 0) {
+                    ordinals[kept++] = ordinal;
+                }
+            }
+            size = kept;
+            if (ordinals.length > 2 * Math.max(size, 1)) {
+                ordinals = Arrays.copyOf(ordinals, Math.max(size, 2));
+            }
+        }
+    }
+
+    /**
+     * 검색어 한 단어에 일치하는 posting 목록과 가중치 (sortByWeight 후 가중치 내림차순)
+     */
+    private static final class TermMatch {
+        private List<Postings> postings = new ArrayList<>();
+        private List<Float> weights = new ArrayList<>();
+        private long estimatedSize;
+
+        void add(Postings list, float weight) {
+            if (list == null || list.size == 0) {
+                return;
+            }
+            postings.add(list);
+            weights.add(weight);
+            estimatedSize += list.size;
+        }
+
+        /**
+         * 가중치 내림차순으로 정렬 (같은 가중치는 추가한 순서 유지)
+         */
+        void sortByWeight() {
+            Integer[] order = new Integer[postings.size()];
+            for (int i = 0; i < order.length; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, (a, b) -> Float.compare(weights.get(b), weights.get(a)));
+            List<Postings> sortedPostings = new ArrayList<>(order.length);
+            List<Float> sortedWeights = new ArrayList<>(order.length);
+            for (int i : order) {
+                sortedPostings.add(postings.get(i));
+                sortedWeights.add(weights.get(i));
+            }
+            postings = sortedPostings;
+            weights = sortedWeights;
+        }
+
+        boolean isEmpty() {
+            return postings.isEmpty();
+        }
+
+        long estimatedSize() {
+            return estimatedSize;
+        }
+
+        float score(int ordinal) {
+            for (int i = 0; i < postings.size(); i++) {
+                if (postings.get(i).contains(ordinal)) {
+                    return weights.get(i);
+                }
+            }
+            return 0f;
+        }
+    }
+
+    /**
+     * 점수 내림차순(같으면 id 내림차순) 상위 capacity건만 유지하는 최소 힙 (루트가 가장 낮은 순위)
+     */
+    private static final class TopHits {
+        private final float[] scores;
+        private final long[] ids;
+        private int size;
+
+        TopHits(int capacity) {
+            scores = new float[capacity];
+            ids = new long[capacity];
+        }
+
+        void offer(float score, long id) {
+            if (size < scores.length) {
+                scores[size] = score;
+                ids[size] = id;
+                siftUp(size++);
+            } else if (size > 0 && ranksBefore(score, id, scores[0], ids[0])) {
+                scores[0] = score;
+                ids[0] = id;
+                siftDown(size);
+            }
+        }
+
+        /**
+         * 순위대로 정렬한 뒤 offset 이후의 id (힙은 더 이상 사용할 수 없음)
+         */
+        List<Long> page(int offset) {
+            int count = size;
+            long[] ranked = new long[count];
+            // 가장 낮은 순위부터 꺼내 뒤에서부터 채움
+            for (int last = count - 1; last >= 0; last--) {
+                ranked[last] = ids[0];
+                scores[0] = scores[last];
+                ids[0] = ids[last];
+                siftDown(last);
+            }
+            if (offset >= count) {
+                return Collections.emptyList();
+            }
+            List<Long> page = new ArrayList<>(count - offset);
+            for (int i = offset; i < count; i++) {
+                page.add(ranked[i]);
+            }
+            return page;
+        }
+
+        private static boolean ranksBefore(float score, long id, float otherScore, long otherId) {
+            return score != otherScore ? score > otherScore : id > otherId;
+        }
+
+        private boolean ranksBefore(int a, int b) {
+            return ranksBefore(scores[a], ids[a], scores[b], ids[b]);
+        }
+
+        private void siftUp(int index) {
+            while (index > 0) {
+                int parent = (index - 1) >>> 1;
+                if (!ranksBefore(parent, index)) {
+                    break;
+                }
+                swap(parent, index);
+                index = parent;
+            }
+        }
+
+        private void siftDown(int size) {
+            int index = 0;
+            while (true) {
+                int lowest = index;
+                int left = 2 * index + 1;
+                int right = left + 1;
+                if (left < size && ranksBefore(lowest, left)) {
+                    lowest = left;
+                }
+                if (right < size && ranksBefore(lowest, right)) {
+                    lowest = right;
+                }
+                if (lowest == index) {
+                    return;
+                }
+                swap(index, lowest);
+                index = lowest;
+            }
+        }
+
+        private void swap(int i, int j) {
+            float score = scores[i];
+            scores[i] = scores[j];
+            scores[j] = score;
+            long id = ids[i];
+            ids[i] = ids[j];
+            ids[j] = id;
+        }
+    }
+
+    /**
+     * long -> int 맵 (개방 주소법, 선형 탐사, 삭제 시 뒤 칸을 당겨서 탐사 경로 유지)
+     * 0은 빈 칸 표시로 쓰므로 따로 기록하고, 값은 0 이상만 저장 (없으면 MISSING)
+     */
+    static final class LongIntHashMap {
+        static final int MISSING = -1;
+
+        private long[] keys = new long[1024];
+        private int[] values = new int[1024];
+        private int size;
+        private int zeroValue = MISSING;
+
+        int get(long key) {
+            if (key == 0) {
+                return zeroValue;
+            }
+            int mask = keys.length - 1;
+            for (int i = slot(key, mask); keys[i] != 0; i = (i + 1) & mask) {
+                if (keys[i] == key) {
+                    return values[i];
+                }
+            }
+            return MISSING;
+        }
+
+        void put(long key, int value) {
+            if (key == 0) {
+                zeroValue = value;
+                return;
+            }
+            // 채움 비율 1/2 이하 유지
+            if ((size + 1) * 2 > keys.length) {
+                grow();
+            }
+            if (insert(keys, values, key, value)) {
+                size++;
+            }
+        }
+
+        /**
+         * @return 지운 값 (없었으면 MISSING)
+         */
+        int remove(long key) {
+            if (key == 0) {
+                int removed = zeroValue;
+                zeroValue = MISSING;
+                return removed;
+            }
+            int mask = keys.length - 1;
+            int i = slot(key, mask);
+            while (keys[i] != key) {
+                if (keys[i] == 0) {
+                    return MISSING;
+                }
+                i = (i + 1) & mask;
+            }
+            int removed = values[i];
+            // 지운 칸 뒤의 항목 중 원래 칸이 지운 칸 이전인 항목을 당겨옴
+            int hole = i;
+            for (int j = (i + 1) & mask; keys[j] != 0; j = (j + 1) & mask) {
+                int home = slot(keys[j], mask);
+                boolean between = hole <= j ? hole < home && home <= j : hole < home || home <= j;
+                if (!between) {
+                    keys[hole] = keys[j];
+                    values[hole] = values[j];
+                    hole = j;
+                }
+            }
+            keys[hole] = 0;
+            size--;
+            return removed;
+        }
+
+        int size() {
+            return size + (zeroValue != MISSING ? 1 : 0);
+        }
+
+        /**
+         * 모든 값을 remap[값]으로 교체 (압축 후 문서 번호 갱신용)
+         */
+        void replaceValues(int[] remap) {
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] != 0) {
+                    values[i] = remap[values[i]];
+                }
+            }
+            if (zeroValue != MISSING) {
+                zeroValue = remap[zeroValue];
+            }
+        }
+
+        private void grow() {
+            long[] grownKeys = new long[keys.length * 2];
+            int[] grownValues = new int[keys.length * 2];
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] != 0) {
+                    insert(grownKeys, grownValues, keys[i], values[i]);
+                }
+            }
+            keys = grownKeys;
+            values = grownValues;
+        }
+
+        /**
+         * @return 새 키면 true (있던 키면 값만 교체)
+         */
+        private static boolean insert(long[] keys, int[] values, long key, int value) {
+            int mask = keys.length - 1;
+            int i = slot(key, mask);
+            while (keys[i] != 0) {
+                if (keys[i] == key) {
+                    values[i] = value;
+                    return false;
+                }
+                i = (i + 1) & mask;
+            }
+            keys[i] = key;
+            values[i] = value;
+            return true;
+        }
+
+        private static int slot(long key, int mask) {
+            // 연속된 id가 인접한 칸에 몰리지 않도록 섞음
+            long h = key * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32)) & mask;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.mooddy.backend.global.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 메모리 검색 인덱스(플레이리스트, 곡)가 함께 쓰는 단어 분리 규칙
+ * 색인할 때와 검색할 때 같은 규칙을 써야 접두어 일치가 맞으므로 한 곳에 둠
+ */
+public final class SearchTokenizer {
+
+    public static final int MAX_TERM_LENGTH = 32;
+
+    private SearchTokenizer() {
+    }
+
+    /**
+     * 소문자로 바꾼 뒤 글자/숫자가 아닌 문자를 기준으로 나눈 중복 없는 단어 목록 (단어는 최대 MAX_TERM_LENGTH자)
+     */
+    public static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return Collections.emptyList();
+        }
+        Set<String> terms = new LinkedHashSet<>();
+        StringBuilder term = new StringBuilder();
+        String lower = text.toLowerCase(Locale.ROOT);
+        for (int i = 0; i < lower.length(); ) {
+            int codePoint = lower.codePointAt(i);
+            if (Character.isLetterOrDigit(codePoint)) {
+                if (term.length() < MAX_TERM_LENGTH) {
+                    term.appendCodePoint(codePoint);
+                }
+            } else if (!term.isEmpty()) {
+                terms.add(term.toString());
+                term.setLength(0);
+            }
+            i += Character.charCount(codePoint);
+        }
+        if (!term.isEmpty()) {
+            terms.add(term.toString());
+        }
+        return new ArrayList<>(terms);
+    }
+}
@@ -0,0 +1,444 @@
+package com.mooddy.backend;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mooddy.backend.feature.playlist.domain.Playlist;
+import com.mooddy.backend.feature.playlist.domain.PlaylistTrack;
+import com.mooddy.backend.feature.playlist.domain.PlaylistVisibility;
+import com.mooddy.backend.feature.playlist.domain.Visibility;
+import com.mooddy.backend.feature.playlist.dto.AddTrackRequestDto;
+import com.mooddy.backend.feature.playlist.dto.AddTracksRequestDto;
+import com.mooddy.backend.feature.playlist.dto.PlaylistEditOperationDto;
+import com.mooddy.backend.feature.playlist.dto.PlaylistEditOperationType;
+import com.mooddy.backend.feature.playlist.dto.PlaylistEditRequestDto;
+import com.mooddy.backend.feature.playlist.dto.PlaylistExportFormat;
+import com.mooddy.backend.feature.playlist.dto.PlaylistRequestDto;
+import com.mooddy.backend.feature.playlist.dto.PlaylistResponseDto;
+import com.mooddy.backend.feature.playlist.repository.PlaylistRepository;
+import com.mooddy.backend.feature.playlist.service.PlaylistService;
+import com.mooddy.backend.feature.track.domain.Track;
+import com.mooddy.backend.feature.track.repository.TrackRepository;
+import com.mooddy.backend.feature.user.domain.AuthProvider;
+import com.mooddy.backend.feature.user.domain.ListeningHistory;
+import com.mooddy.backend.feature.user.domain.Profile;
+import com.mooddy.backend.feature.user.domain.User;
+import com.mooddy.backend.feature.user.dto.AuthRequest;
+import com.mooddy.backend.feature.user.dto.ProfileRequest;
+import com.mooddy.backend.feature.user.dto.SignupRequest;
+import com.mooddy.backend.feature.user.repository.ListeningHistoryRepository;
+import com.mooddy.backend.feature.user.repository.ProfileRepository;
+import com.mooddy.backend.feature.user.repository.UserRepository;
+import com.mooddy.backend.support.QueryCounter;
+import com.mooddy.backend.support.QueryCountingDataSourceConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultMatcher;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 엔드포인트별 JDBC 문 실행 수 예산 검증 (N+1 회귀 방지)
+ * <p>
+ * 목록형 엔드포인트는 데이터가 예산보다 많은 상태에서 호출해서, 행마다 쿼리가 늘어나면 바로 실패하도록 함.
+ * 외부 API(iTunes 검색, Spotify)는 DB 비용과 무관하므로 제외.
+ * 가져오기는 이미 저장된 곡만 담은 파일로 호출해서 iTunes 없이 청크 단위 조회/INSERT 비용만 봄.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@Import(QueryCountingDataSourceConfig.class)
+class EndpointQueryBudgetTest {
+
+    private static final int PLAYLIST_COUNT = 12;
+    private static final int TRACK_COUNT = 6;
+    private static final int EXTRA_SHARED_USER_COUNT = 5;
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+    @Autowired
+    private PlaylistService playlistService;
+    @Autowired
+    private PlaylistRepository playlistRepository;
+    @Autowired
+    private TrackRepository trackRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ProfileRepository profileRepository;
+    @Autowired
+    private ListeningHistoryRepository listeningHistoryRepository;
+
+    private User owner;
+    private User sharedUser;
+    private List<User> extraSharedUsers;
+    private List<Track> tracks;
+    private Playlist playlist;
+
+    @BeforeEach
+    void setUp() {
+        owner = userRepository.save(newUser("owner"));
+        sharedUser = userRepository.save(newUser("shared"));
+        extraSharedUsers = new ArrayList<>();
+        for (int i = 0; i < EXTRA_SHARED_USER_COUNT; i++) {
+            extraSharedUsers.add(userRepository.save(newUser("extra-" + i)));
+        }
+
+        tracks = new ArrayList<>();
+        for (int i = 0; i < TRACK_COUNT; i++) {
+            tracks.add(trackRepository.save(Track.builder()
+                    .trackId(700_000L + i)
+                    .title("track-" + i)
+                    .artist("artist-" + i)
+                    .durationMs(200_000)
+                    .build()));
+        }
+
+        // 마지막 곡은 추가 테스트용으로 비워둠
+        for (int i = 0; i < PLAYLIST_COUNT; i++) {
+            Playlist saved = savePlaylist("playlist-" + i, i % 2 == 0 ? Visibility.SHARED : Visibility.PUBLIC);
+            if (i == 0) {
+                playlist = saved;
+            }
+        }
+        // 공유 대상이 많아져도 쿼리 수가 늘지 않는지 보기 위해 대표 플레이리스트의 공유 대상을 늘림
+        for (User extra : extraSharedUsers) {
+            playlist.getPlaylistVisibilities().add(PlaylistVisibility.builder()
+                    .playlist(playlist)
+                    .user(extra)
+                    .build());
+        }
+        playlist = playlistRepository.save(playlist);
+    }
+
+    @AfterEach
+    void tearDown() {
+        playlistRepository.deleteAll();
+        trackRepository.deleteAll();
+        listeningHistoryRepository.deleteAll();
+        profileRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    // ===== 플레이리스트 =====
+
+    @Test
+    void createPlaylist() throws Exception {
+        PlaylistRequestDto request = new PlaylistRequestDto(
+                "new", null, null, Visibility.SHARED, List.of(sharedUser.getId()));
+        assertBudget(6, post("/api/playlists").with(user(owner)).contentType(MediaType.APPLICATION_JSON)
+                .content(json(request)), status().isCreated());
+    }
+
+    @Test
+    void importPlaylist() throws Exception {
+        StringBuilder csv = new StringBuilder("trackId\n");
+        for (Track track : tracks) {
+            csv.append(track.getTrackId()).append('\n');
+        }
+        MockMultipartFile file = new MockMultipartFile(
+                "file", "imported.csv", "text/csv", csv.toString().getBytes(StandardCharsets.UTF_8));
+        assertBudget(6, multipart("/api/playlists/import").file(file).param("visibility", "SHARED").with(user(owner)),
+                status().isCreated());
+    }
+
+    @Test
+    void getUserPlaylists() throws Exception {
+        assertBudget(1, get("/api/playlists/user/" + owner.getId()).with(user(owner)), status().isOk());
+        assertBudget(1, get("/api/playlists/user/" + owner.getId()).with(user(sharedUser)), status().isOk());
+    }
+
+    @Test
+    void syncPlaylists() throws Exception {
+        MvcResult full = assertBudget(1, get("/api/playlists/sync").with(user(owner)), status().isOk());
+        assertThat(objectMapper.readTree(full.getResponse().getContentAsString()).get("upserted"))
+                .hasSize(PLAYLIST_COUNT);
+
+        // 바뀐 것이 없으면 변경분 조회 한 번
+        String since = LocalDateTime.now().toString();
+        assertBudget(1, get("/api/playlists/sync").param("since", since).with(user(owner)), status().isOk());
+
+        mockMvc.perform(delete("/api/playlists/" + playlist.getId()).with(user(owner)))
+                .andExpect(status().isNoContent());
+        MvcResult delta = assertBudget(1, get("/api/playlists/sync").param("since", since).with(user(owner)),
+                status().isOk());
+        assertThat(objectMapper.readTree(delta.getResponse().getContentAsString()).get("deletedIds").get(0).asLong())
+                .isEqualTo(playlist.getId());
+    }
+
+    @Test
+    void getPublicPlaylists() throws Exception {
+        assertBudget(1, get("/api/playlists/public").param("size", "50").with(user(sharedUser)), status().isOk());
+    }
+
+    @Test
+    void getSharedWithMe() throws Exception {
+        assertBudget(1, get("/api/playlists/shared-with-me").with(user(sharedUser)), status().isOk());
+    }
+
+    @Test
+    void searchPlaylists() throws Exception {
+        // 검색 인덱스는 쓰기 경로에서 갱신되므로 API로 생성
+        for (int i = 0; i < PLAYLIST_COUNT; i++) {
+            PlaylistRequestDto request = new PlaylistRequestDto(
+                    "드라이브 mix " + i, "주말 드라이브용", null, Visibility.PUBLIC, null);
+            mockMvc.perform(post("/api/playlists").with(user(owner)).contentType(MediaType.APPLICATION_JSON)
+                    .content(json(request))).andExpect(status().isCreated());
+        }
+
+        MvcResult result = assertBudget(1, get("/api/playlists/search").param("q", "드라").param("size", "50")
+                .with(user(sharedUser)), status().isOk());
+        assertThat(objectMapper.readTree(result.getResponse().getContentAsString()).get("content"))
+                .hasSize(PLAYLIST_COUNT);
+    }
+
+    @Test
+    void getTrendingPlaylists() throws Exception {
+        // 상위 목록은 주기적으로 미리 계산되므로 조회 시 DB를 읽지 않음
+        assertBudget(0, get("/api/playlists/trending").with(user(sharedUser)), status().isOk());
+    }
+
+    @Test
+    void getPlaylist() throws Exception {
+        // 버전 조회는 컨트롤러에서 한 번만 하고 서비스에 넘김
+        MvcResult first = assertBudget(3, get("/api/playlists/" + playlist.getId()).with(user(sharedUser)),
+                status().isOk());
+
+        // 캐시된 응답 + 공유 권한 인덱스 (버전 조회만)
+        assertBudget(1, get("/api/playlists/" + playlist.getId()).with(user(sharedUser)), status().isOk());
+
+        String eTag = first.getResponse().getHeader("ETag");
+        assertBudget(1, get("/api/playlists/" + playlist.getId()).with(user(sharedUser))
+                .header("If-None-Match", eTag), status().isNotModified());
+    }
+
+    @Test
+    void subscribePlaylistChanges() throws Exception {
+        // 구독 시점 권한 검사만 (이후 알림은 DB를 거치지 않음): 버전 조회 + 처음 한 번 공유 대상 적재
+        assertBudget(2, get("/api/playlists/" + playlist.getId() + "/changes").with(user(sharedUser)),
+                status().isOk());
+        assertBudget(1, get("/api/playlists/" + playlist.getId() + "/changes").with(user(sharedUser)),
+                status().isOk());
+    }
+
+    @Test
+    void exportPlaylist() throws Exception {
+        // 요청 스레드에서는 권한 검사만, 본문은 비동기 스레드에서 씀
+        assertBudget(2, get("/api/playlists/" + playlist.getId() + "/export").param("format", "csv")
+                .with(user(sharedUser)), status().isOk());
+
+        // 본문: 권한 검사 + 곡 수와 무관하게 스트리밍 쿼리 한 번
+        QueryCounter.reset();
+        int exported = playlistService.exportPlaylistTracks(playlist.getId(), sharedUser, PlaylistExportFormat.NDJSON,
+                OutputStream.nullOutputStream());
+        assertThat(exported).isEqualTo(TRACK_COUNT - 1);
+        assertThat(QueryCounter.count()).as("내보내기 본문 실행 쿼리 수").isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    void forkPlaylist() throws Exception {
+        MvcResult result = assertBudget(7, post("/api/playlists/" + playlist.getId() + "/fork").with(user(sharedUser)),
+                status().isCreated());
+        PlaylistResponseDto fork = objectMapper.readValue(result.getResponse().getContentAsString(),
+                PlaylistResponseDto.class);
+        assertThat(fork.userId()).isEqualTo(sharedUser.getId());
+        assertThat(fork.visibility()).isEqualTo(Visibility.PRIVATE);
+        assertThat(fork.tracks()).hasSize(TRACK_COUNT - 1);
+    }
+
+    @Test
+    void updatePlaylist() throws Exception {
+        PlaylistRequestDto request = new PlaylistRequestDto(
+                "renamed", null, null, Visibility.SHARED, List.of(owner.getId(), sharedUser.getId()));
+        assertBudget(6, put("/api/playlists/" + playlist.getId()).with(user(owner))
+                .contentType(MediaType.APPLICATION_JSON).content(json(request)), status().isOk());
+    }
+
+    @Test
+    void deletePlaylist() throws Exception {
+        // 잠금 + 자식 행 일괄 삭제 2 + 플레이리스트 삭제 + 삭제 기록(tombstone) INSERT (변경분 동기화용)
+        assertBudget(5, delete("/api/playlists/" + playlist.getId()).with(user(owner)), status().isNoContent());
+    }
+
+    @Test
+    void addTrackToPlaylist() throws Exception {
+        Long newTrackId = tracks.get(TRACK_COUNT - 1).getTrackId();
+        // 잠금 + 곡 조회 + 중복 확인 + 마지막 정렬 키 + INSERT + 플레이리스트 갱신 + 응답용 재조회
+        // (곡 컬렉션을 로딩하지 않으므로 곡 수와 무관)
+        assertBudget(8, post("/api/playlists/" + playlist.getId() + "/tracks").with(user(owner))
+                .contentType(MediaType.APPLICATION_JSON).content(json(new AddTrackRequestDto(newTrackId))),
+                status().isOk());
+    }
+
+    @Test
+    void addTracksToPlaylist() throws Exception {
+        List<Long> trackIds = tracks.stream().map(Track::getTrackId).toList();
+        assertBudget(8, post("/api/playlists/" + playlist.getId() + "/tracks:batch").with(user(owner))
+                .contentType(MediaType.APPLICATION_JSON).content(json(new AddTracksRequestDto(trackIds))),
+                status().isOk());
+    }
+
+    @Test
+    void editPlaylistTracks() throws Exception {
+        PlaylistEditRequestDto request = new PlaylistEditRequestDto(currentUpdatedAt(), List.of(
+                new PlaylistEditOperationDto(PlaylistEditOperationType.MOVE, tracks.get(0).getId(), 3),
+                new PlaylistEditOperationDto(PlaylistEditOperationType.REMOVE, tracks.get(1).getId(), null),
+                new PlaylistEditOperationDto(PlaylistEditOperationType.INSERT, tracks.get(TRACK_COUNT - 1).getTrackId(), 0)));
+        assertBudget(9, post("/api/playlists/" + playlist.getId() + "/tracks:edit").with(user(owner))
+                .contentType(MediaType.APPLICATION_JSON).content(json(request)), status().isOk());
+    }
+
+    @Test
+    void removeTrackFromPlaylist() throws Exception {
+        assertBudget(3, delete("/api/playlists/" + playlist.getId() + "/tracks/" + tracks.get(0).getId())
+                .with(user(owner)), status().isNoContent());
+    }
+
+    @Test
+    void updateTrackPosition() throws Exception {
+        assertBudget(8, put("/api/playlists/" + playlist.getId() + "/tracks/" + tracks.get(0).getId() + "/position")
+                .param("newPosition", "3").with(user(owner)), status().isOk());
+    }
+
+    // ===== 인증/사용자 =====
+
+    @Test
+    void signup() throws Exception {
+        SignupRequest request = new SignupRequest();
+        request.setNickname("newbie");
+        request.setEmail("newbie@mooddy.com");
+        request.setPassword("password");
+        request.setBirthDate(LocalDate.of(2000, 1, 1));
+        assertBudget(3, post("/api/auth/signup").contentType(MediaType.APPLICATION_JSON).content(json(request)),
+                status().is2xxSuccessful());
+    }
+
+    @Test
+    void login() throws Exception {
+        AuthRequest request = new AuthRequest();
+        request.setEmail(owner.getEmail());
+        request.setPassword("password");
+        assertBudget(2, post("/api/auth/login").contentType(MediaType.APPLICATION_JSON).content(json(request)),
+                status().isOk());
+    }
+
+    @Test
+    void completeOnboarding() throws Exception {
+        assertBudget(3, patch("/api/users/" + owner.getId() + "/onboarding").with(user(owner)), status().isOk());
+    }
+
+    @Test
+    void profileEndpoints() throws Exception {
+        ProfileRequest request = ProfileRequest.builder()
+                .email(owner.getEmail())
+                .username("owner")
+                .favoriteGenres(List.of("pop", "rock"))
+                .favoriteArtists(List.of("a", "b"))
+                .build();
+        assertBudget(3, post("/api/profiles").with(user(owner))
+                .contentType(MediaType.APPLICATION_JSON).content(json(request)), status().isOk());
+        assertBudget(3, get("/api/profiles/" + owner.getEmail()).with(user(owner)), status().isOk());
+        assertBudget(5, put("/api/profiles/" + owner.getEmail()).with(user(owner))
+                .contentType(MediaType.APPLICATION_JSON).content(json(request)), status().isOk());
+        assertBudget(4, delete("/api/profiles/" + owner.getEmail()).with(user(owner)), status().isOk());
+    }
+
+    @Test
+    void listeningEndpoints() throws Exception {
+        for (int i = 0; i < 15; i++) {
+            listeningHistoryRepository.save(ListeningHistory.builder()
+                    .email(owner.getEmail())
+                    .trackName("track-" + i)
+                    .artist("artist")
+                    .genre(i % 3 == 0 ? "pop" : "rock")
+                    .listenedAt(LocalDateTime.now().minusMinutes(i))
+                    .build());
+        }
+        assertBudget(1, post("/api/listening/track").with(user(owner))
+                .param("email", owner.getEmail())
+                .param("trackName", "new")
+                .param("artist", "artist")
+                .param("genre", "jazz"), status().isOk());
+        assertBudget(1, get("/api/listening/" + owner.getEmail() + "/recent").with(user(owner)), status().isOk());
+        assertBudget(1, get("/api/listening/" + owner.getEmail() + "/stats").with(user(owner)), status().isOk());
+    }
+
+    private MvcResult assertBudget(int budget, MockHttpServletRequestBuilder request, ResultMatcher expectedStatus)
+            throws Exception {
+        QueryCounter.reset();
+        MvcResult result = mockMvc.perform(request).andExpect(expectedStatus).andReturn();
+        long statements = QueryCounter.count();
+
+        assertThat(statements)
+                .as("%s %s 실행 쿼리 수", result.getRequest().getMethod(), result.getRequest().getRequestURI())
+                .isLessThanOrEqualTo(budget);
+        return result;
+    }
+
+    private Playlist savePlaylist(String title, Visibility visibility) {
+        Playlist saved = Playlist.builder()
+                .title(title)
+                .visibility(visibility)
+                .user(owner)
+                .build();
+        for (int position = 0; position < TRACK_COUNT - 1; position++) {
+            saved.getPlaylistTracks().add(PlaylistTrack.builder()
+                    .playlist(saved)
+                    .track(tracks.get(position))
+                    .sortKey((position + 1) * 65_536L)
+                    .build());
+        }
+        if (visibility == Visibility.SHARED) {
+            saved.getPlaylistVisibilities().add(PlaylistVisibility.builder()
+                    .playlist(saved)
+                    .user(sharedUser)
+                    .build());
+        }
+        return playlistRepository.save(saved);
+    }
+
+    private LocalDateTime currentUpdatedAt() {
+        return playlistRepository.findById(playlist.getId()).orElseThrow().getUpdatedAt();
+    }
+
+    private String json(Object value) throws Exception {
+        return objectMapper.writeValueAsString(value);
+    }
+
+    private User newUser(String name) {
+        return User.builder()
+                .nickname(name)
+                .email(name + "@mooddy.com")
+                .password(passwordEncoder.encode("password"))
+                .provider(AuthProvider.LOCAL)
+                .enabled(true)
+                .build();
+    }
+}
@@ -0,0 +1,124 @@
+package com.mooddy.backend.external.itunes.controller;
+
+import com.mooddy.backend.feature.user.domain.AuthProvider;
+import com.mooddy.backend.feature.user.domain.User;
+import com.mooddy.backend.feature.user.repository.UserRepository;
+import com.mooddy.backend.global.security.JwtService;
+import com.mooddy.backend.support.StubItunesConfig;
+import com.mooddy.backend.support.StubItunesConfig.StubItunes;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 곡 검색이 iTunes 응답을 기다리는 동안 Tomcat 스레드를 점유하지 않는지 검증
+ * <p>
+ * Tomcat 스레드를 4개로 줄이고 iTunes 응답을 1초 지연시킨 상태에서 서로 다른 검색어로 동시에 요청한다.
+ * 요청 스레드가 응답을 기다린다면 40건은 최소 10초가 걸리고, 기다리지 않으면 지연 한 번 남짓에 끝난다.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "server.tomcat.threads.max=" + ItunesSearchLoadTest.TOMCAT_THREADS,
+        "itunes.search-cache.max-concurrent-loads=" + ItunesSearchLoadTest.MAX_CONCURRENT_LOADS
+})
+@Import(StubItunesConfig.class)
+class ItunesSearchLoadTest {
+
+    static final int TOMCAT_THREADS = 4;
+    static final int MAX_CONCURRENT_LOADS = 40;
+    private static final Duration ITUNES_LATENCY = Duration.ofSeconds(1);
+
+    @LocalServerPort
+    private int port;
+    @Autowired
+    private StubItunes stubItunes;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private JwtService jwtService;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .executor(Executors.newCachedThreadPool())
+            .build();
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        stubItunes.reset();
+        stubItunes.latency(ITUNES_LATENCY);
+        User user = userRepository.save(User.builder()
+                .nickname("searcher")
+                .email("searcher@mooddy.com")
+                .password("password")
+                .provider(AuthProvider.LOCAL)
+                .enabled(true)
+                .build());
+        token = jwtService.generateToken(user);
+    }
+
+    @AfterEach
+    void tearDown() {
+        stubItunes.latency(Duration.ofMillis(200));
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void slowItunesDoesNotHoldRequestThreads() {
+        int requests = TOMCAT_THREADS * 10;
+        // 첫 요청의 DispatcherServlet/커넥션 초기화 시간은 측정에서 제외
+        searchConcurrently("warm-up", 1);
+        stubItunes.reset();
+
+        long startedAt = System.nanoTime();
+        List<HttpResponse<String>> responses = searchConcurrently("slow", requests);
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+
+        assertThat(responses).allSatisfy(response -> assertThat(response.statusCode()).isEqualTo(200));
+        assertThat(stubItunes.searchCalls()).isEqualTo(requests);
+        // 스레드를 점유했다면 requests / TOMCAT_THREADS * ITUNES_LATENCY = 10초 이상
+        assertThat(elapsed).isLessThan(ITUNES_LATENCY.multipliedBy(5));
+    }
+
+    @Test
+    void searchesOverConcurrencyLimitAreRejected() {
+        int extra = 10;
+        // 모든 요청이 도착할 때까지 먼저 시작한 호출이 끝나지 않도록 지연을 늘림 (검색 타임아웃 5초 이내)
+        stubItunes.latency(ITUNES_LATENCY.multipliedBy(3));
+
+        List<HttpResponse<String>> responses = searchConcurrently("limit", MAX_CONCURRENT_LOADS + extra);
+
+        long ok = responses.stream().filter(response -> response.statusCode() == 200).count();
+        long unavailable = responses.stream().filter(response -> response.statusCode() == 503).count();
+        assertThat(ok).isEqualTo(MAX_CONCURRENT_LOADS);
+        assertThat(unavailable).isEqualTo(extra);
+        assertThat(stubItunes.searchCalls()).isEqualTo(MAX_CONCURRENT_LOADS);
+    }
+
+    private List<HttpResponse<String>> searchConcurrently(String prefix, int requests) {
+        List<CompletableFuture<HttpResponse<String>>> futures = new ArrayList<>();
+        for (int i = 0; i < requests; i++) {
+            HttpRequest request = HttpRequest.newBuilder()
+                    .uri(URI.create("http://localhost:" + port + "/api/itunes/track/search?query=" + prefix + "-" + i))
+                    .header("Authorization", "Bearer " + token)
+                    .timeout(Duration.ofSeconds(30))
+                    .build();
+            futures.add(httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString()));
+        }
+        return futures.stream().map(CompletableFuture::join).toList();
+    }
+}
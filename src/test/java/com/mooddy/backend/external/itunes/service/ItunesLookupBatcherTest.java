@@ -0,0 +1,98 @@
+package com.mooddy.backend.external.itunes.service;
+
+import com.mooddy.backend.feature.track.domain.Track;
+import com.mooddy.backend.feature.track.repository.TrackRepository;
+import com.mooddy.backend.support.StubItunesConfig;
+import com.mooddy.backend.support.StubItunesConfig.StubItunes;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * DB에 없는 서로 다른 곡을 여러 요청이 동시에 조회하면 iTunes lookup 요청 하나로 묶이는지 검증
+ * 전체 테스트를 돌리는 부하에서도 동시 호출이 한 묶음에 들어오도록 모으는 시간을 넉넉히 줌
+ */
+@SpringBootTest(properties = "itunes.lookup-batch.window-ms=500")
+@Import(StubItunesConfig.class)
+class ItunesLookupBatcherTest {
+
+    private static final long FIRST_TRACK_ID = 910_001L;
+    private static final int CALLERS = 8;
+
+    @Autowired
+    private ItunesService itunesService;
+    @Autowired
+    private TrackRepository trackRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private StubItunes stubItunes;
+
+    @BeforeEach
+    void setUp() {
+        stubItunes.reset();
+    }
+
+    @AfterEach
+    void tearDown() {
+        trackRepository.deleteAll();
+    }
+
+    @Test
+    void concurrentMissesShareOneLookup() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+        CountDownLatch start = new CountDownLatch(1);
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        List<Future<Long>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            long trackId = FIRST_TRACK_ID + i;
+            results.add(executor.submit(() -> {
+                start.await();
+                return transaction.execute(status -> itunesService.getOrCreateTrackEntity(trackId).getTrackId());
+            }));
+        }
+        start.countDown();
+
+        for (int i = 0; i < CALLERS; i++) {
+            assertThat(results.get(i).get(30, TimeUnit.SECONDS)).isEqualTo(FIRST_TRACK_ID + i);
+        }
+        executor.shutdown();
+
+        assertThat(stubItunes.lookupCalls()).isEqualTo(1);
+        assertThat(trackRepository.count()).isEqualTo(CALLERS);
+    }
+
+    @Test
+    void bulkCreateSavesAllFetchedTracks() {
+        List<Long> trackIds = LongStream.range(FIRST_TRACK_ID, FIRST_TRACK_ID + 150)
+                .boxed()
+                .collect(Collectors.toList());
+
+        Map<Long, Track> tracks = new TransactionTemplate(transactionManager)
+                .execute(status -> itunesService.getOrCreateTrackEntities(trackIds));
+
+        assertThat(tracks).hasSize(trackIds.size());
+        assertThat(tracks.values()).allSatisfy(track -> assertThat(track.getId()).isNotNull());
+        // batch-size(100)개씩 묶어서 조회
+        assertThat(stubItunes.lookupCalls()).isEqualTo(2);
+    }
+}
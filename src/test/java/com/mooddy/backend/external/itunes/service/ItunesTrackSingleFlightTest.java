@@ -0,0 +1,182 @@
+package com.mooddy.backend.external.itunes.service;
+
+import com.mooddy.backend.feature.track.domain.Track;
+import com.mooddy.backend.feature.track.repository.TrackRepository;
+import com.mooddy.backend.global.exception.ItunesUnavailableException;
+import com.mooddy.backend.support.StubItunesConfig;
+import com.mooddy.backend.support.StubItunesConfig.StubItunes;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 아직 DB에 없는 곡을 여러 요청이 동시에 추가해도 (단건/일괄 모두) iTunes 조회와 INSERT가 한 번만 일어나는지,
+ * 먼저 생성한 요청의 트랜잭션이 끝나지 않아도 기다리는 요청이 새 곡을 바로 받는지,
+ * iTunes 장애가 "없는 곡"이 아니라 503으로 전달되는지 검증
+ */
+@SpringBootTest
+@Import(StubItunesConfig.class)
+class ItunesTrackSingleFlightTest {
+
+    private static final Long TRACK_ID = 900_001L;
+    private static final List<Long> BATCH_TRACK_IDS = LongStream.rangeClosed(900_001L, 900_030L)
+            .boxed()
+            .collect(Collectors.toList());
+    private static final int CALLERS = 16;
+    private static final Duration STALLED_COMMIT = Duration.ofSeconds(15);
+
+    @Autowired
+    private ItunesService itunesService;
+    @Autowired
+    private TrackRepository trackRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private StubItunes stubItunes;
+
+    @BeforeEach
+    void setUp() {
+        stubItunes.reset();
+    }
+
+    @AfterEach
+    void tearDown() {
+        trackRepository.deleteAll();
+    }
+
+    @Test
+    void concurrentCallersShareOneLookupAndInsert() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+        CountDownLatch start = new CountDownLatch(1);
+        // 곡 추가 API처럼 호출 측 트랜잭션 안에서 호출
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        List<Future<Long>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return transaction.execute(status -> itunesService.getOrCreateTrackEntity(TRACK_ID).getId());
+            }));
+        }
+        start.countDown();
+
+        Set<Long> ids = new HashSet<>();
+        for (Future<Long> result : results) {
+            ids.add(result.get(30, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+
+        assertThat(stubItunes.lookupCalls()).isEqualTo(1);
+        assertThat(ids).hasSize(1);
+        assertThat(trackRepository.findByTrackId(TRACK_ID)).isPresent();
+    }
+
+    @Test
+    void concurrentBatchesAndSingleAddsInsertEachTrackOnce() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+        CountDownLatch start = new CountDownLatch(1);
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        // 겹치는 곡 목록을 서로 다른 순서로 일괄 추가하는 요청과 같은 곡을 하나씩 추가하는 요청이 섞임
+        List<Future<Map<Long, Long>>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            int caller = i;
+            results.add(executor.submit(() -> {
+                start.await();
+                return transaction.execute(status -> {
+                    if (caller % 4 == 3) {
+                        Long trackId = BATCH_TRACK_IDS.get(caller);
+                        return Map.of(trackId, itunesService.getOrCreateTrackEntity(trackId).getId());
+                    }
+                    List<Long> trackIds = new ArrayList<>(BATCH_TRACK_IDS.subList(caller, caller + 10));
+                    Collections.shuffle(trackIds);
+                    return itunesService.getOrCreateTrackEntities(trackIds).values().stream()
+                            .collect(Collectors.toMap(Track::getTrackId, Track::getId));
+                });
+            }));
+        }
+        start.countDown();
+
+        Map<Long, Set<Long>> idsByTrackId = new HashMap<>();
+        for (Future<Map<Long, Long>> result : results) {
+            result.get(30, TimeUnit.SECONDS)
+                    .forEach((trackId, id) -> idsByTrackId.computeIfAbsent(trackId, key -> new HashSet<>()).add(id));
+        }
+        executor.shutdown();
+
+        assertThat(idsByTrackId.values()).allSatisfy(ids -> assertThat(ids).hasSize(1));
+        assertThat(trackRepository.findByTrackIdIn(BATCH_TRACK_IDS)).hasSize(idsByTrackId.size());
+    }
+
+    @Test
+    void lookupFailureIsReportedAsUnavailable() {
+        stubItunes.lookupDown(true);
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        assertThatThrownBy(() -> transaction.execute(status -> itunesService.getOrCreateTrackEntities(BATCH_TRACK_IDS)))
+                .isInstanceOf(ItunesUnavailableException.class);
+        assertThatThrownBy(() -> transaction.execute(status -> itunesService.getOrCreateTrackEntity(TRACK_ID)))
+                .isInstanceOf(ItunesUnavailableException.class);
+
+        // 장애가 끝나면 같은 곡을 다시 추가할 수 있어야 함 (생성 중 표시가 남지 않음)
+        stubItunes.lookupDown(false);
+        Map<Long, Track> tracks = transaction.execute(status -> itunesService.getOrCreateTrackEntities(BATCH_TRACK_IDS));
+        assertThat(tracks).hasSize(BATCH_TRACK_IDS.size());
+    }
+
+    @Test
+    void waiterDoesNotWaitForCreatorsTransaction() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        CountDownLatch created = new CountDownLatch(1);
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        // 곡을 만든 뒤 자기 트랜잭션을 오래 붙잡는 요청 (곡 저장은 별도 트랜잭션으로 이미 커밋됨)
+        Future<Long> creator = executor.submit(() -> transaction.execute(status -> {
+            Long id = itunesService.getOrCreateTrackEntity(TRACK_ID).getId();
+            created.countDown();
+            sleep(STALLED_COMMIT);
+            return id;
+        }));
+        assertThat(created.await(10, TimeUnit.SECONDS)).isTrue();
+
+        long startedAt = System.nanoTime();
+        Long id = transaction.execute(status -> itunesService.getOrCreateTrackEntity(TRACK_ID).getId());
+        assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isLessThan(STALLED_COMMIT);
+
+        assertThat(creator.get(30, TimeUnit.SECONDS)).isEqualTo(id);
+        assertThat(stubItunes.lookupCalls()).isEqualTo(1);
+        executor.shutdown();
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.mooddy.backend.external.itunes.service;
+
+import com.mooddy.backend.feature.track.domain.Track;
+import com.mooddy.backend.feature.track.dto.TrackSearchResponseDto;
+import com.mooddy.backend.feature.track.repository.TrackRepository;
+import com.mooddy.backend.support.StubItunesConfig;
+import com.mooddy.backend.support.StubItunesConfig.StubItunes;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 곡 검색이 저장된 곡을 먼저 보여주고, 부족할 때만 iTunes 결과를 겹치지 않게 뒤에 붙이는지 검증
+ */
+@SpringBootTest
+@Import(StubItunesConfig.class)
+class TrackSearchFallbackTest {
+
+    // ItunesServiceImpl.MIN_LOCAL_HITS, SEARCH_LIMIT
+    private static final int MIN_LOCAL_HITS = 5;
+    private static final int SEARCH_LIMIT = 20;
+    // 스텁 iTunes 검색 결과의 첫 trackId
+    private static final long FIRST_ITUNES_TRACK_ID = 1_000_000L;
+
+    @Autowired
+    private ItunesService itunesService;
+    @Autowired
+    private TrackSearchIndex trackSearchIndex;
+    @Autowired
+    private TrackRepository trackRepository;
+    @Autowired
+    private StubItunes stubItunes;
+
+    @BeforeEach
+    void setUp() {
+        stubItunes.reset();
+    }
+
+    @AfterEach
+    void tearDown() {
+        trackRepository.deleteAll();
+    }
+
+    @Test
+    void enoughLocalHitsSkipItunes() {
+        for (int i = 0; i < MIN_LOCAL_HITS; i++) {
+            saveAndIndex(940_000L + i, "Quasar " + i);
+        }
+
+        List<TrackSearchResponseDto> results = itunesService.searchTracks("quasar");
+
+        assertThat(results).hasSize(MIN_LOCAL_HITS);
+        assertThat(stubItunes.searchCalls()).isZero();
+    }
+
+    @Test
+    void fewLocalHitsAreFollowedByDistinctItunesResults() {
+        stubItunes.searchResults(30);
+        // iTunes 검색 결과에도 나오는 곡 하나를 저장된 곡으로 둠
+        saveAndIndex(FIRST_ITUNES_TRACK_ID, "Nebula 0");
+        for (int i = 1; i < MIN_LOCAL_HITS - 1; i++) {
+            saveAndIndex(950_000L + i, "Nebula " + i);
+        }
+
+        List<TrackSearchResponseDto> results = itunesService.searchTracks("nebula");
+
+        assertThat(stubItunes.searchCalls()).isEqualTo(1);
+        assertThat(results).hasSize(SEARCH_LIMIT);
+        // 저장된 곡이 먼저 (최근 저장 순)
+        assertThat(results.subList(0, MIN_LOCAL_HITS - 1)).extracting(TrackSearchResponseDto::trackId)
+                .containsExactly("950003", "950002", "950001", String.valueOf(FIRST_ITUNES_TRACK_ID));
+        // 저장된 곡과 같은 iTunes 결과는 빠지고 다음 결과부터 채움
+        assertThat(results).extracting(TrackSearchResponseDto::trackId)
+                .doesNotHaveDuplicates()
+                .endsWith(String.valueOf(FIRST_ITUNES_TRACK_ID + SEARCH_LIMIT - MIN_LOCAL_HITS + 1));
+    }
+
+    @Test
+    void noLocalHitsReturnItunesResultsAsIs() {
+        List<TrackSearchResponseDto> results = itunesService.searchTracks("zephyrine");
+
+        assertThat(stubItunes.searchCalls()).isEqualTo(1);
+        assertThat(results).extracting(TrackSearchResponseDto::trackId)
+                .containsExactly("1000000", "1000001", "1000002");
+    }
+
+    private void saveAndIndex(long trackId, String title) {
+        Track track = trackRepository.save(Track.builder()
+                .trackId(trackId)
+                .title(title)
+                .artist("artist")
+                .build());
+        trackSearchIndex.index(track);
+    }
+}
@@ -0,0 +1,93 @@
+package com.mooddy.backend.external.itunes.service;
+
+import com.mooddy.backend.feature.track.domain.Track;
+import com.mooddy.backend.feature.track.repository.TrackJdbcRepository;
+import com.mooddy.backend.feature.track.repository.TrackSearchDocument;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 곡 검색 인덱스 검증 (접두어 일치, 필드/일치 종류별 순위, 다중 단어, 중복 반영 무시)
+ */
+class TrackSearchIndexTest {
+
+    private TrackJdbcRepository trackJdbcRepository;
+    private TrackSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        trackJdbcRepository = mock(TrackJdbcRepository.class);
+        index = new TrackSearchIndex(trackJdbcRepository);
+    }
+
+    @Test
+    void prefixMatchesExpandToLongerTerms() {
+        index.index(track(1L, "Dynamite", "BTS", null));
+        index.index(track(2L, "Dynasty", "MIIA", null));
+        index.index(track(3L, "Dancing Queen", "ABBA", null));
+
+        assertThat(index.search("dyna", 10)).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(index.search("DYNAMITE", 10)).containsExactly(1L);
+        // 한 글자는 접두어로 펼치지 않음
+        assertThat(index.search("d", 10)).isEmpty();
+        assertThat(index.search("dynamo", 10)).isEmpty();
+    }
+
+    @Test
+    void ranksTitleOverArtistOverAlbumAndExactOverPrefix() {
+        index.index(track(1L, "Other", "Other", "Love Songs"));   // 앨범 완전 일치
+        index.index(track(2L, "Other", "Lovers", null));          // 아티스트 접두어
+        index.index(track(3L, "Lovely", "Other", null));          // 제목 접두어
+        index.index(track(4L, "Other", "Love", null));            // 아티스트 완전 일치
+        index.index(track(5L, "Love", "Other", null));            // 제목 완전 일치
+        index.index(track(6L, "Love Again", "Other", null));      // 제목 완전 일치 (id가 더 큼)
+
+        assertThat(index.search("love", 10)).containsExactly(6L, 5L, 4L, 3L, 2L, 1L);
+        assertThat(index.search("love", 3)).containsExactly(6L, 5L, 4L);
+    }
+
+    @Test
+    void everyQueryTermMustMatchSomeField() {
+        index.index(track(1L, "Butter", "BTS", null));
+        index.index(track(2L, "Butter", "Other", null));
+        index.index(track(3L, "Dynamite", "BTS", null));
+
+        assertThat(index.search("butter bts", 10)).containsExactly(1L);
+        assertThat(index.search("but bt", 10)).containsExactly(1L);
+        assertThat(index.search("butter polka", 10)).isEmpty();
+    }
+
+    @Test
+    void sameTrackFromWarmUpAndSaveIsIndexedOnce() {
+        // 적재 중에 저장 반영이 먼저 들어온 곡
+        doAnswer(invocation -> {
+            Consumer<TrackSearchDocument> consumer = invocation.getArgument(0);
+            index.index(track(1L, "Hello", "Adele", null));
+            consumer.accept(new TrackSearchDocument(1L, "Hello", "Adele", null));
+            consumer.accept(new TrackSearchDocument(2L, "Hello World", "Other", null));
+            return null;
+        }).when(trackJdbcRepository).scanSearchDocuments(any());
+
+        index.warmUp();
+        index.index(track(2L, "Hello World", "Other", null));
+
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.search("hello", 10)).containsExactly(2L, 1L);
+    }
+
+    private static Track track(Long id, String title, String artist, String album) {
+        return Track.builder()
+                .id(id)
+                .title(title)
+                .artist(artist)
+                .album(album)
+                .build();
+    }
+}
@@ -0,0 +1,146 @@
+package com.mooddy.backend.feature.playlist.controller;
+
+import com.mooddy.backend.feature.playlist.domain.Playlist;
+import com.mooddy.backend.feature.playlist.domain.PlaylistTrack;
+import com.mooddy.backend.feature.playlist.domain.Visibility;
+import com.mooddy.backend.feature.playlist.repository.PlaylistRepository;
+import com.mooddy.backend.feature.playlist.repository.PlaylistTrackRepository;
+import com.mooddy.backend.feature.track.domain.Track;
+import com.mooddy.backend.feature.track.repository.TrackRepository;
+import com.mooddy.backend.feature.user.domain.AuthProvider;
+import com.mooddy.backend.feature.user.domain.User;
+import com.mooddy.backend.feature.user.repository.UserRepository;
+import com.mooddy.backend.global.security.JwtService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 실제 서버에서 플레이리스트 내보내기 스트리밍 검증
+ * <p>
+ * 본문은 StreamingResponseBody로 비동기 디스패치에서 쓰이므로, ASYNC 디스패치가 인가에서 막히면
+ * 인증된 요청도 본문 없이 실패한다. fetch size(500)를 넘는 곡 수로 호출해서 중간 flush 이후도 확인함.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class PlaylistExportTest {
+
+    private static final int TRACK_COUNT = PlaylistTrackRepository.EXPORT_FETCH_SIZE * 2 + 10;
+
+    @LocalServerPort
+    private int port;
+    @Autowired
+    private PlaylistRepository playlistRepository;
+    @Autowired
+    private TrackRepository trackRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private JwtService jwtService;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+    private User owner;
+    private Playlist playlist;
+
+    @BeforeEach
+    void setUp() {
+        owner = userRepository.save(newUser("owner"));
+        List<Track> tracks = new ArrayList<>();
+        for (int i = 0; i < TRACK_COUNT; i++) {
+            tracks.add(Track.builder()
+                    .trackId(800_000L + i)
+                    .title("track-" + i)
+                    .artist("artist, " + i)
+                    .durationMs(200_000)
+                    .build());
+        }
+        tracks = trackRepository.saveAll(tracks);
+
+        Playlist saved = Playlist.builder()
+                .title("export")
+                .visibility(Visibility.PRIVATE)
+                .user(owner)
+                .build();
+        for (int i = 0; i < TRACK_COUNT; i++) {
+            saved.getPlaylistTracks().add(PlaylistTrack.builder()
+                    .playlist(saved)
+                    .track(tracks.get(i))
+                    .sortKey((i + 1) * 65_536L)
+                    .build());
+        }
+        playlist = playlistRepository.save(saved);
+    }
+
+    @AfterEach
+    void tearDown() {
+        playlistRepository.deleteAll();
+        trackRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void streamsNdjsonInPlaylistOrder() throws Exception {
+        HttpResponse<String> response = export("ndjson", owner);
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue("Content-Type")).hasValueSatisfying(
+                type -> assertThat(type).startsWith("application/x-ndjson"));
+        assertThat(response.headers().firstValue("Content-Disposition")).hasValueSatisfying(
+                disposition -> assertThat(disposition).contains("playlist-" + playlist.getId() + ".ndjson"));
+        String[] lines = response.body().split("\n");
+        assertThat(lines).hasSize(TRACK_COUNT);
+        assertThat(lines[0]).contains("\"trackId\":800000");
+        assertThat(lines[TRACK_COUNT - 1]).contains("\"trackId\":" + (800_000L + TRACK_COUNT - 1));
+    }
+
+    @Test
+    void streamsCsvWithHeader() throws Exception {
+        HttpResponse<String> response = export("csv", owner);
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        String[] lines = response.body().split("\r\n");
+        assertThat(lines).hasSize(TRACK_COUNT + 1);
+        assertThat(lines[0]).startsWith("position,trackId,title");
+        assertThat(lines[1]).startsWith("0,800000,track-0,\"artist, 0\",,200000,");
+    }
+
+    @Test
+    void rejectsOtherUsersBeforeStreaming() throws Exception {
+        User other = userRepository.save(newUser("other"));
+
+        HttpResponse<String> response = export("ndjson", other);
+
+        assertThat(response.statusCode()).isNotEqualTo(200);
+        assertThat(response.body()).doesNotContain("trackId");
+    }
+
+    private HttpResponse<String> export(String format, User user) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder()
+                .uri(URI.create("http://localhost:" + port + "/api/playlists/" + playlist.getId()
+                        + "/export?format=" + format))
+                .header("Authorization", "Bearer " + jwtService.generateToken(user))
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private User newUser(String name) {
+        return User.builder()
+                .nickname(name)
+                .email(name + "@mooddy.com")
+                .password("password")
+                .provider(AuthProvider.LOCAL)
+                .enabled(true)
+                .build();
+    }
+}
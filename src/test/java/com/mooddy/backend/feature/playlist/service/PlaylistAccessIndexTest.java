@@ -0,0 +1,160 @@
+package com.mooddy.backend.feature.playlist.service;
+
+import com.mooddy.backend.feature.playlist.domain.Visibility;
+import com.mooddy.backend.feature.playlist.dto.PlaylistRequestDto;
+import com.mooddy.backend.feature.playlist.dto.PlaylistResponseDto;
+import com.mooddy.backend.feature.playlist.repository.PlaylistRepository;
+import com.mooddy.backend.feature.user.domain.AuthProvider;
+import com.mooddy.backend.feature.user.domain.User;
+import com.mooddy.backend.feature.user.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 수천 명에게 공유된 플레이리스트에서 SHARED 접근 검사가 인덱스만으로 처리되는지 검증
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class PlaylistAccessIndexTest {
+
+    private static final int SHARED_USER_COUNT = 3000;
+
+    @Autowired
+    private PlaylistService playlistService;
+    @Autowired
+    private PlaylistAccessIndex playlistAccessIndex;
+    @Autowired
+    private PlaylistRepository playlistRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private User owner;
+    private User outsider;
+    private List<User> sharedUsers;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        owner = userRepository.save(newUser("owner"));
+        outsider = userRepository.save(newUser("outsider"));
+
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < SHARED_USER_COUNT; i++) {
+            users.add(newUser("shared-" + i));
+        }
+        sharedUsers = userRepository.saveAll(users);
+    }
+
+    @AfterEach
+    void tearDown() {
+        playlistRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void sharedAccessChecksDoNotTouchVisibilityRows() {
+        PlaylistResponseDto playlist = playlistService.createPlaylist(owner, new PlaylistRequestDto(
+                "shared", null, null, Visibility.SHARED, userIds(sharedUsers)));
+
+        statistics.clear();
+        for (User sharedUser : sharedUsers) {
+            playlistService.getPlaylistVersion(playlist.id(), sharedUser);
+        }
+        // 공유 대상 확인은 인덱스에서 끝나므로 사용자마다 버전 조회 한 번씩만 실행
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(SHARED_USER_COUNT);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+
+        assertThatThrownBy(() -> playlistService.getPlaylistVersion(playlist.id(), outsider))
+                .hasMessageContaining("권한");
+        assertThat(playlistAccessIndex.isSharedWith(playlist.id(), owner.getId())).isFalse();
+    }
+
+    @Test
+    void indexFollowsSharedUserChanges() {
+        PlaylistResponseDto playlist = playlistService.createPlaylist(owner, new PlaylistRequestDto(
+                "shared", null, null, Visibility.SHARED, userIds(sharedUsers)));
+
+        List<User> kept = sharedUsers.subList(0, SHARED_USER_COUNT / 2);
+        List<User> removed = sharedUsers.subList(SHARED_USER_COUNT / 2, SHARED_USER_COUNT);
+        playlistService.updatePlaylist(playlist.id(), owner, new PlaylistRequestDto(
+                null, null, null, null, userIds(kept)));
+
+        assertThat(kept).allSatisfy(user ->
+                assertThat(playlistAccessIndex.isSharedWith(playlist.id(), user.getId())).isTrue());
+        assertThat(removed).allSatisfy(user ->
+                assertThat(playlistAccessIndex.isSharedWith(playlist.id(), user.getId())).isFalse());
+
+        playlistService.updatePlaylist(playlist.id(), owner, new PlaylistRequestDto(
+                null, null, null, Visibility.PRIVATE, null));
+
+        assertThat(kept).allSatisfy(user ->
+                assertThat(playlistAccessIndex.isSharedWith(playlist.id(), user.getId())).isFalse());
+    }
+
+    @Test
+    void indexKeepsOnlySharedPlaylists() {
+        int before = playlistAccessIndex.size();
+        PlaylistResponseDto shared = playlistService.createPlaylist(owner, new PlaylistRequestDto(
+                "shared", null, null, Visibility.SHARED, userIds(sharedUsers.subList(0, 10))));
+        for (int i = 0; i < 20; i++) {
+            PlaylistResponseDto other = playlistService.createPlaylist(owner, new PlaylistRequestDto(
+                    "public-" + i, null, null, i % 2 == 0 ? Visibility.PUBLIC : Visibility.PRIVATE, null));
+            playlistService.updatePlaylist(other.id(), owner, new PlaylistRequestDto(
+                    "renamed-" + i, null, null, null, null));
+        }
+        assertThat(playlistAccessIndex.size()).isEqualTo(before + 1);
+
+        // SHARED가 아니게 되거나 삭제되면 항목이 빠짐
+        playlistService.updatePlaylist(shared.id(), owner, new PlaylistRequestDto(
+                null, null, null, Visibility.PUBLIC, null));
+        assertThat(playlistAccessIndex.size()).isEqualTo(before);
+
+        playlistService.updatePlaylist(shared.id(), owner, new PlaylistRequestDto(
+                null, null, null, Visibility.SHARED, userIds(sharedUsers.subList(0, 10))));
+        assertThat(playlistAccessIndex.isSharedWith(shared.id(), sharedUsers.get(0).getId())).isTrue();
+        playlistService.deletePlaylist(shared.id(), owner);
+        assertThat(playlistAccessIndex.size()).isEqualTo(before);
+    }
+
+    @Test
+    void indexIsLoadedLazilyFromVisibilityRows() {
+        PlaylistResponseDto playlist = playlistService.createPlaylist(owner, new PlaylistRequestDto(
+                "shared", null, null, Visibility.SHARED, userIds(sharedUsers)));
+        // 재시작 등으로 인덱스가 비어있는 상황
+        playlistAccessIndex.remove(playlist.id());
+
+        statistics.clear();
+        assertThat(sharedUsers).allSatisfy(user ->
+                assertThat(playlistAccessIndex.isSharedWith(playlist.id(), user.getId())).isTrue());
+        assertThat(playlistAccessIndex.isSharedWith(playlist.id(), outsider.getId())).isFalse();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    private List<Long> userIds(List<User> users) {
+        return users.stream().map(User::getId).toList();
+    }
+
+    private User newUser(String name) {
+        return User.builder()
+                .nickname(name)
+                .email(name + "@mooddy.com")
+                .password("password")
+                .provider(AuthProvider.LOCAL)
+                .enabled(true)
+                .build();
+    }
+}
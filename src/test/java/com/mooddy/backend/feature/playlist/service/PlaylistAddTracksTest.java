@@ -0,0 +1,122 @@
+package com.mooddy.backend.feature.playlist.service;
+
+import com.mooddy.backend.feature.playlist.domain.Playlist;
+import com.mooddy.backend.feature.playlist.domain.Visibility;
+import com.mooddy.backend.feature.playlist.dto.PlaylistResponseDto;
+import com.mooddy.backend.feature.playlist.repository.PlaylistRepository;
+import com.mooddy.backend.feature.track.repository.TrackRepository;
+import com.mooddy.backend.feature.user.domain.AuthProvider;
+import com.mooddy.backend.feature.user.domain.User;
+import com.mooddy.backend.feature.user.repository.UserRepository;
+import com.mooddy.backend.global.exception.ItunesUnavailableException;
+import com.mooddy.backend.support.StubItunesConfig;
+import com.mooddy.backend.support.StubItunesConfig.StubItunes;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 곡 일괄 추가 시 DB에 없는 곡을 여러 플레이리스트에 동시에 추가해도 곡이 한 번만 저장되는지,
+ * iTunes 장애가 "찾을 수 없는 곡"(400)이 아니라 503으로 전달되는지 검증
+ */
+@SpringBootTest
+@Import(StubItunesConfig.class)
+class PlaylistAddTracksTest {
+
+    private static final int PLAYLISTS = 6;
+    private static final List<Long> TRACK_IDS = LongStream.rangeClosed(910_001L, 910_020L)
+            .boxed()
+            .collect(Collectors.toList());
+
+    @Autowired
+    private PlaylistService playlistService;
+    @Autowired
+    private PlaylistRepository playlistRepository;
+    @Autowired
+    private TrackRepository trackRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private StubItunes stubItunes;
+
+    private User owner;
+    private List<Playlist> playlists;
+
+    @BeforeEach
+    void setUp() {
+        stubItunes.reset();
+        owner = userRepository.save(User.builder()
+                .nickname("owner")
+                .email("owner@mooddy.com")
+                .password("password")
+                .provider(AuthProvider.LOCAL)
+                .enabled(true)
+                .build());
+        playlists = new ArrayList<>();
+        for (int i = 0; i < PLAYLISTS; i++) {
+            playlists.add(playlistRepository.save(Playlist.builder()
+                    .title("playlist-" + i)
+                    .visibility(Visibility.PRIVATE)
+                    .user(owner)
+                    .build()));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        playlistRepository.deleteAll();
+        trackRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void concurrentBatchAddsShareNewTracks() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(PLAYLISTS);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // 플레이리스트마다 겹치는 새 곡 목록을 동시에 추가
+        List<Future<PlaylistResponseDto>> results = new ArrayList<>();
+        for (int i = 0; i < PLAYLISTS; i++) {
+            Long playlistId = playlists.get(i).getId();
+            List<Long> trackIds = TRACK_IDS.subList(i * 2, i * 2 + 10);
+            results.add(executor.submit(() -> {
+                start.await();
+                return playlistService.addTracksToPlaylist(playlistId, owner, trackIds);
+            }));
+        }
+        start.countDown();
+
+        for (Future<PlaylistResponseDto> result : results) {
+            assertThat(result.get(30, TimeUnit.SECONDS).tracks()).hasSize(10);
+        }
+        executor.shutdown();
+
+        assertThat(trackRepository.findByTrackIdIn(TRACK_IDS)).hasSize(TRACK_IDS.size());
+    }
+
+    @Test
+    void itunesOutageIsNotReportedAsMissingTracks() {
+        stubItunes.lookupDown(true);
+        Long playlistId = playlists.get(0).getId();
+
+        assertThatThrownBy(() -> playlistService.addTracksToPlaylist(playlistId, owner, TRACK_IDS.subList(0, 3)))
+                .isInstanceOf(ItunesUnavailableException.class);
+        assertThat(trackRepository.findByTrackIdIn(TRACK_IDS)).isEmpty();
+    }
+}
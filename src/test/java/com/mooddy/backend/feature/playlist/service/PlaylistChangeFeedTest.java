@@ -0,0 +1,199 @@
+package com.mooddy.backend.feature.playlist.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mooddy.backend.feature.playlist.domain.Playlist;
+import com.mooddy.backend.feature.playlist.domain.Visibility;
+import com.mooddy.backend.feature.playlist.dto.PlaylistChangeEventDto;
+import com.mooddy.backend.feature.playlist.dto.PlaylistChangeType;
+import com.mooddy.backend.feature.playlist.dto.PlaylistRequestDto;
+import com.mooddy.backend.feature.playlist.repository.PlaylistRepository;
+import com.mooddy.backend.feature.user.domain.AuthProvider;
+import com.mooddy.backend.feature.user.domain.User;
+import com.mooddy.backend.feature.user.repository.UserRepository;
+import com.mooddy.backend.global.security.JwtService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 플레이리스트 변경 알림(SSE) 검증
+ * 묶음 전송 시 같은 종류 이벤트 합치기, 대기열이 넘치면 RESYNC 하나로 바꾸기, 구독 시점 권한 검사
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "playlist.changes.coalesce-ms=" + PlaylistChangeFeedTest.COALESCE_MS)
+class PlaylistChangeFeedTest {
+
+    static final int COALESCE_MS = 500;
+    private static final Duration RECEIVE_TIMEOUT = Duration.ofSeconds(5);
+
+    @LocalServerPort
+    private int port;
+    @Autowired
+    private PlaylistChangeFeed playlistChangeFeed;
+    @Autowired
+    private PlaylistService playlistService;
+    @Autowired
+    private PlaylistRepository playlistRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private JwtService jwtService;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+    private final List<Stream<String>> streams = new ArrayList<>();
+    private User owner;
+    private User other;
+    private Playlist playlist;
+
+    @BeforeEach
+    void setUp() {
+        owner = userRepository.save(newUser("owner"));
+        other = userRepository.save(newUser("other"));
+        playlist = playlistRepository.save(Playlist.builder()
+                .title("live")
+                .visibility(Visibility.PUBLIC)
+                .user(owner)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        streams.forEach(Stream::close);
+        playlistRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void coalescesConsecutiveEventsOfTheSameKind() throws Exception {
+        BlockingQueue<String> messages = subscribe(playlist.getId(), other);
+
+        publish(PlaylistChangeType.TRACK_ADDED, 1L);
+        publish(PlaylistChangeType.TRACK_ADDED, 2L);
+        publish(PlaylistChangeType.TRACK_ADDED, 1L, 3L);
+        publish(PlaylistChangeType.METADATA_UPDATED);
+        publish(PlaylistChangeType.METADATA_UPDATED);
+
+        List<PlaylistChangeEventDto> batch = nextBatch(messages);
+        assertThat(batch).extracting(PlaylistChangeEventDto::type)
+                .containsExactly(PlaylistChangeType.TRACK_ADDED, PlaylistChangeType.METADATA_UPDATED);
+        assertThat(batch.get(0).trackIds()).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    void overflowingSubscriberGetsSingleResync() throws Exception {
+        BlockingQueue<String> messages = subscribe(playlist.getId(), other);
+
+        // 서로 합쳐지지 않도록 종류를 번갈아 대기열 한도(64)보다 많이 발행
+        for (long i = 0; i < 100; i++) {
+            publish(i % 2 == 0 ? PlaylistChangeType.TRACK_ADDED : PlaylistChangeType.TRACK_REMOVED, i);
+        }
+
+        List<PlaylistChangeEventDto> batch = nextBatch(messages);
+        assertThat(batch).extracting(PlaylistChangeEventDto::type).containsExactly(PlaylistChangeType.RESYNC);
+
+        // RESYNC 이후에는 다시 변경 단위로 전송
+        publish(PlaylistChangeType.TRACK_MOVED, 7L);
+        assertThat(nextBatch(messages)).extracting(PlaylistChangeEventDto::type)
+                .containsExactly(PlaylistChangeType.TRACK_MOVED);
+    }
+
+    @Test
+    void subscribeChecksReadAccess() {
+        Playlist hidden = playlistRepository.save(Playlist.builder()
+                .title("hidden")
+                .visibility(Visibility.PRIVATE)
+                .user(owner)
+                .build());
+        assertThatThrownBy(() -> playlistService.subscribePlaylistChanges(hidden.getId(), other))
+                .isInstanceOf(RuntimeException.class);
+        assertThatThrownBy(() -> playlistService.subscribePlaylistChanges(hidden.getId(), null))
+                .isInstanceOf(RuntimeException.class);
+        assertThat(playlistService.subscribePlaylistChanges(hidden.getId(), owner)).isNotNull();
+
+        User stranger = userRepository.save(newUser("stranger"));
+        Long sharedId = playlistService.createPlaylist(owner, new PlaylistRequestDto(
+                "shared", null, null, Visibility.SHARED, List.of(other.getId()))).id();
+        assertThat(playlistService.subscribePlaylistChanges(sharedId, other)).isNotNull();
+        assertThatThrownBy(() -> playlistService.subscribePlaylistChanges(sharedId, stranger))
+                .isInstanceOf(RuntimeException.class);
+    }
+
+    /**
+     * SSE 연결을 열고 구독이 등록될 때까지 기다린 뒤 "changes" 이벤트의 data를 차례로 받는 큐를 반환
+     */
+    private BlockingQueue<String> subscribe(Long playlistId, User user) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder()
+                .uri(URI.create("http://localhost:" + port + "/api/playlists/" + playlistId + "/changes"))
+                .header("Authorization", "Bearer " + jwtService.generateToken(user))
+                .header("Accept", "text/event-stream")
+                .build();
+        HttpResponse<Stream<String>> response = httpClient.send(request, HttpResponse.BodyHandlers.ofLines());
+        assertThat(response.statusCode()).isEqualTo(200);
+        Stream<String> lines = response.body();
+        streams.add(lines);
+
+        BlockingQueue<String> subscribed = new LinkedBlockingQueue<>();
+        BlockingQueue<String> messages = new LinkedBlockingQueue<>();
+        Thread reader = new Thread(() -> {
+            try {
+                lines.forEach(line -> {
+                    if (line.startsWith(":subscribed")) {
+                        subscribed.add(line);
+                    } else if (line.startsWith("data:")) {
+                        messages.add(line.substring("data:".length()));
+                    }
+                });
+            } catch (RuntimeException e) {
+                // 테스트 종료 시 연결을 닫음
+            }
+        });
+        reader.setDaemon(true);
+        reader.start();
+        assertThat(subscribed.poll(RECEIVE_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)).isNotNull();
+        return messages;
+    }
+
+    private List<PlaylistChangeEventDto> nextBatch(BlockingQueue<String> messages) throws Exception {
+        String data = messages.poll(RECEIVE_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+        assertThat(data).as("%dms 안에 변경 알림을 받아야 함", RECEIVE_TIMEOUT.toMillis()).isNotNull();
+        return objectMapper.readValue(data, new TypeReference<>() {
+        });
+    }
+
+    private void publish(PlaylistChangeType type, Long... trackIds) {
+        playlistChangeFeed.publish(new PlaylistChangeEventDto(
+                playlist.getId(), type, List.of(trackIds), LocalDateTime.now()));
+    }
+
+    private User newUser(String name) {
+        return User.builder()
+                .nickname(name)
+                .email(name + "@mooddy.com")
+                .password("password")
+                .provider(AuthProvider.LOCAL)
+                .enabled(true)
+                .build();
+    }
+}
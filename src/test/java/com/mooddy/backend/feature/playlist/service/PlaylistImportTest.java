@@ -0,0 +1,117 @@
+package com.mooddy.backend.feature.playlist.service;
+
+import com.mooddy.backend.feature.playlist.domain.Visibility;
+import com.mooddy.backend.feature.playlist.dto.PlaylistImportFormat;
+import com.mooddy.backend.feature.playlist.dto.PlaylistImportResultDto;
+import com.mooddy.backend.feature.playlist.repository.PlaylistRepository;
+import com.mooddy.backend.feature.track.repository.TrackRepository;
+import com.mooddy.backend.feature.user.domain.AuthProvider;
+import com.mooddy.backend.feature.user.domain.User;
+import com.mooddy.backend.feature.user.repository.UserRepository;
+import com.mooddy.backend.support.StubItunesConfig;
+import com.mooddy.backend.support.StubItunesConfig.StubItunes;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 겹치는 새 곡을 담은 파일 두 개를 동시에 가져와도 서로 기다리다 실패하지 않는지 검증
+ * <p>
+ * 두 파일은 같은 곡을 반대 순서로 담고 있어서, 가져오기가 앞 청크의 곡을 생성 중으로 붙잡은 채 다음 청크로 넘어가면
+ * 마지막 청크에서 서로 상대가 붙잡은 곡을 기다리게 된다.
+ */
+@SpringBootTest
+@Import(StubItunesConfig.class)
+class PlaylistImportTest {
+
+    // 청크(200곡) 세 개
+    private static final List<Long> TRACK_IDS = LongStream.range(940_000L, 940_600L)
+            .boxed()
+            .collect(Collectors.toList());
+    // ItunesServiceImpl.AWAIT_TIMEOUT - 서로 기다리면 이 시간이 지나서 503으로 끝남
+    private static final Duration AWAIT_TIMEOUT = Duration.ofSeconds(10);
+
+    @Autowired
+    private PlaylistService playlistService;
+    @Autowired
+    private PlaylistRepository playlistRepository;
+    @Autowired
+    private TrackRepository trackRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private StubItunes stubItunes;
+
+    private User owner;
+
+    @BeforeEach
+    void setUp() {
+        stubItunes.reset();
+        owner = userRepository.save(User.builder()
+                .nickname("owner")
+                .email("owner@mooddy.com")
+                .password("password")
+                .provider(AuthProvider.LOCAL)
+                .enabled(true)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        playlistRepository.deleteAll();
+        trackRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void concurrentImportsWithOverlappingTracksDoNotBlockEachOther() throws Exception {
+        List<Long> reversed = new ArrayList<>(TRACK_IDS);
+        Collections.reverse(reversed);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        CountDownLatch start = new CountDownLatch(1);
+
+        long startedAt = System.nanoTime();
+        List<Future<PlaylistImportResultDto>> results = new ArrayList<>();
+        for (List<Long> trackIds : List.of(TRACK_IDS, reversed)) {
+            byte[] csv = trackIds.stream()
+                    .map(String::valueOf)
+                    .collect(Collectors.joining("\n", "trackId\n", "\n"))
+                    .getBytes(StandardCharsets.UTF_8);
+            results.add(executor.submit(() -> {
+                start.await();
+                return playlistService.importPlaylist(owner, PlaylistImportFormat.CSV, null, Visibility.PRIVATE,
+                        new ByteArrayInputStream(csv));
+            }));
+        }
+        start.countDown();
+
+        for (Future<PlaylistImportResultDto> result : results) {
+            PlaylistImportResultDto imported = result.get(60, TimeUnit.SECONDS);
+            assertThat(imported.imported()).isEqualTo(TRACK_IDS.size());
+            assertThat(imported.chunks()).isEqualTo(3);
+        }
+        executor.shutdown();
+
+        assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isLessThan(AWAIT_TIMEOUT);
+        assertThat(trackRepository.findByTrackIdIn(TRACK_IDS)).hasSize(TRACK_IDS.size());
+    }
+}
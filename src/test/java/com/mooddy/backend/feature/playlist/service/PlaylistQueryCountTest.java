@@ -0,0 +1,225 @@
+package com.mooddy.backend.feature.playlist.service;
+
+import com.mooddy.backend.feature.playlist.domain.Playlist;
+import com.mooddy.backend.feature.playlist.domain.PlaylistTrack;
+import com.mooddy.backend.feature.playlist.domain.PlaylistVisibility;
+import com.mooddy.backend.feature.playlist.domain.Visibility;
+import com.mooddy.backend.feature.playlist.dto.CursorPageResponseDto;
+import com.mooddy.backend.feature.playlist.dto.PlaylistResponseDto;
+import com.mooddy.backend.feature.playlist.dto.PlaylistSummaryDto;
+import com.mooddy.backend.feature.playlist.repository.PlaylistRepository;
+import com.mooddy.backend.feature.track.domain.Track;
+import com.mooddy.backend.feature.track.repository.TrackRepository;
+import com.mooddy.backend.feature.user.domain.AuthProvider;
+import com.mooddy.backend.feature.user.domain.User;
+import com.mooddy.backend.feature.user.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 플레이리스트 목록 조회 시 실행되는 SQL 수가 플레이리스트 개수와 무관하게 고정되는지 검증
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class PlaylistQueryCountTest {
+
+    private static final int TRACKS_PER_PLAYLIST = 5;
+
+    @Autowired
+    private PlaylistService playlistService;
+    @Autowired
+    private PlaylistRepository playlistRepository;
+    @Autowired
+    private TrackRepository trackRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private User owner;
+    private User sharedUser;
+    private List<Track> tracks;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        owner = userRepository.save(newUser("owner"));
+        sharedUser = userRepository.save(newUser("shared"));
+
+        tracks = new ArrayList<>();
+        for (int i = 0; i < TRACKS_PER_PLAYLIST; i++) {
+            tracks.add(trackRepository.save(Track.builder()
+                    .trackId(900_000L + i)
+                    .title("track-" + i)
+                    .artist("artist-" + i)
+                    .durationMs(180_000)
+                    .build()));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        playlistRepository.deleteAll();
+        trackRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void getUserPlaylists_statementCountDoesNotGrowWithPlaylistCount() {
+        createPlaylists(3);
+        long few = countStatements(() -> playlistService.getUserPlaylists(owner.getId(), owner));
+
+        createPlaylists(20);
+        List<PlaylistSummaryDto> result = new ArrayList<>();
+        long many = countStatements(() -> result.addAll(playlistService.getUserPlaylists(owner.getId(), owner)));
+
+        assertThat(result).hasSize(23);
+        assertThat(result).allSatisfy(dto -> {
+            assertThat(dto.trackCount()).isEqualTo(TRACKS_PER_PLAYLIST);
+            assertThat(dto.totalDurationMs()).isEqualTo(TRACKS_PER_PLAYLIST * 180_000L);
+            assertThat(dto.userNickname()).isEqualTo(owner.getNickname());
+        });
+        assertThat(many).isEqualTo(few);
+        assertThat(many).isEqualTo(1);
+    }
+
+    @Test
+    void getUserPlaylists_nonOwnerSeesPublicAndSharedWithThem() {
+        createPlaylists(4);
+
+        assertThat(playlistService.getUserPlaylists(owner.getId(), sharedUser)).hasSize(4);
+        assertThat(playlistService.getUserPlaylists(owner.getId(), null))
+                .allSatisfy(dto -> assertThat(dto.visibility()).isEqualTo(Visibility.PUBLIC))
+                .hasSize(2);
+    }
+
+    @Test
+    void getPublicPlaylists_statementCountDoesNotGrowWithPlaylistCount() {
+        createPlaylists(3);
+        long few = countStatements(() -> playlistService.getPublicPlaylists(null, 50));
+
+        createPlaylists(20);
+        long many = countStatements(() -> playlistService.getPublicPlaylists(null, 50));
+
+        assertThat(many).isEqualTo(few);
+        assertThat(many).isEqualTo(1);
+    }
+
+    @Test
+    void getPublicPlaylists_walksEveryPageWithSameCost() {
+        createPlaylists(24);
+
+        Set<Long> seen = new HashSet<>();
+        List<Long> costs = new ArrayList<>();
+        String cursor = null;
+        do {
+            String current = cursor;
+            List<CursorPageResponseDto<PlaylistSummaryDto>> holder = new ArrayList<>();
+            costs.add(countStatements(() -> holder.add(playlistService.getPublicPlaylists(current, 5))));
+            CursorPageResponseDto<PlaylistSummaryDto> page = holder.get(0);
+            page.content().forEach(dto -> assertThat(seen.add(dto.id())).isTrue());
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        assertThat(seen).hasSize(12);
+        assertThat(costs).allSatisfy(cost -> assertThat(cost).isEqualTo(1L));
+    }
+
+    @Test
+    void getSharedWithMe_walksEveryPageWithOneStatement() {
+        createPlaylists(10);
+
+        Set<Long> seen = new HashSet<>();
+        List<Long> costs = new ArrayList<>();
+        String cursor = null;
+        do {
+            String current = cursor;
+            List<CursorPageResponseDto<PlaylistSummaryDto>> holder = new ArrayList<>();
+            costs.add(countStatements(() -> holder.add(playlistService.getSharedWithMe(sharedUser, current, 2))));
+            CursorPageResponseDto<PlaylistSummaryDto> page = holder.get(0);
+            page.content().forEach(dto -> {
+                assertThat(dto.visibility()).isEqualTo(Visibility.SHARED);
+                assertThat(dto.trackCount()).isEqualTo(TRACKS_PER_PLAYLIST);
+                assertThat(seen.add(dto.id())).isTrue();
+            });
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        assertThat(seen).hasSize(5);
+        assertThat(costs).allSatisfy(cost -> assertThat(cost).isEqualTo(1L));
+        assertThat(playlistService.getSharedWithMe(owner, null, 20).content()).isEmpty();
+    }
+
+    @Test
+    void updateTrackPosition_rewritesOnlyTheMovedRow() {
+        createPlaylists(1);
+        Playlist playlist = playlistRepository.findAll().get(0);
+        Long movedTrackId = tracks.get(0).getId();
+
+        List<PlaylistResponseDto> holder = new ArrayList<>();
+        statistics.clear();
+        holder.add(playlistService.updateTrackPosition(playlist.getId(), owner, movedTrackId, 3));
+
+        // 이동한 곡 한 행 + 플레이리스트 updatedAt 갱신
+        assertThat(statistics.getEntityUpdateCount()).isEqualTo(2);
+        List<Long> order = holder.get(0).tracks().stream().map(pt -> pt.track().id()).toList();
+        assertThat(order).containsExactly(
+                tracks.get(1).getId(), tracks.get(2).getId(), tracks.get(3).getId(),
+                movedTrackId, tracks.get(4).getId());
+        assertThat(holder.get(0).tracks()).extracting(pt -> pt.position()).containsExactly(0, 1, 2, 3, 4);
+    }
+
+    private long countStatements(Runnable call) {
+        statistics.clear();
+        call.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private void createPlaylists(int count) {
+        for (int i = 0; i < count; i++) {
+            Visibility visibility = i % 2 == 0 ? Visibility.PUBLIC : Visibility.SHARED;
+            Playlist playlist = Playlist.builder()
+                    .title("playlist-" + i)
+                    .visibility(visibility)
+                    .user(owner)
+                    .build();
+            for (int position = 0; position < tracks.size(); position++) {
+                playlist.getPlaylistTracks().add(PlaylistTrack.builder()
+                        .playlist(playlist)
+                        .track(tracks.get(position))
+                        .sortKey(PlaylistTrackOrdering.keyAt(position))
+                        .build());
+            }
+            if (visibility == Visibility.SHARED) {
+                playlist.getPlaylistVisibilities().add(PlaylistVisibility.builder()
+                        .playlist(playlist)
+                        .user(sharedUser)
+                        .build());
+            }
+            playlistRepository.save(playlist);
+        }
+    }
+
+    private User newUser(String name) {
+        return User.builder()
+                .nickname(name)
+                .email(name + "@mooddy.com")
+                .password("password")
+                .provider(AuthProvider.LOCAL)
+                .enabled(true)
+                .build();
+    }
+}
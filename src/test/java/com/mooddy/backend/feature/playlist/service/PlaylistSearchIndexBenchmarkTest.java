@@ -0,0 +1,93 @@
+package com.mooddy.backend.feature.playlist.service;
+
+import com.mooddy.backend.feature.playlist.domain.Playlist;
+import com.mooddy.backend.feature.playlist.domain.Visibility;
+import com.mooddy.backend.feature.playlist.repository.PlaylistRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 플레이리스트 100만 건 검색 지연 측정 (오래 걸려서 기본 빌드에서는 제외)
+ * PLAYLIST_SEARCH_BENCHMARK=true gradle test --tests '*PlaylistSearchIndexBenchmarkTest'
+ * <p>
+ * 검색어의 절반은 말뭉치의 큰 부분과 일치하는 두 글자 접두어, 나머지는 한두 단어 완전 일치
+ */
+@EnabledIfEnvironmentVariable(named = "PLAYLIST_SEARCH_BENCHMARK", matches = "true")
+class PlaylistSearchIndexBenchmarkTest {
+
+    private static final int PLAYLISTS = 1_000_000;
+    private static final int VOCABULARY = 20_000;
+    private static final int WARM_UP_QUERIES = 2_000;
+    private static final int QUERIES = 10_000;
+    private static final int PAGE_SIZE = 20;
+    private static final long P99_LIMIT_NANOS = 10_000_000L;
+
+    @Test
+    void p99StaysWithinAFewMillisecondsAtOneMillionPlaylists() {
+        Random random = new Random(42);
+        String[] words = new String[VOCABULARY];
+        for (int i = 0; i < VOCABULARY; i++) {
+            words[i] = word(i);
+        }
+
+        PlaylistSearchIndex index = new PlaylistSearchIndex(mock(PlaylistRepository.class));
+        for (long id = 1; id <= PLAYLISTS; id++) {
+            index.index(Playlist.builder()
+                    .id(id)
+                    .title(words[skewed(random)] + " " + words[skewed(random)] + " " + words[random.nextInt(VOCABULARY)])
+                    .description(words[skewed(random)] + " " + words[random.nextInt(VOCABULARY)])
+                    .visibility(Visibility.PUBLIC)
+                    .build());
+        }
+
+        for (int i = 0; i < WARM_UP_QUERIES; i++) {
+            index.search(query(random, words), 0, PAGE_SIZE);
+        }
+        long[] nanos = new long[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            String query = query(random, words);
+            long started = System.nanoTime();
+            index.search(query, 0, PAGE_SIZE);
+            nanos[i] = System.nanoTime() - started;
+        }
+        Arrays.sort(nanos);
+        long p50 = nanos[QUERIES / 2];
+        long p99 = nanos[QUERIES * 99 / 100];
+        System.out.printf("playlist search @%d: p50 %.2f ms, p99 %.2f ms%n", PLAYLISTS, p50 / 1e6, p99 / 1e6);
+
+        assertThat(p99).isLessThan(P99_LIMIT_NANOS);
+    }
+
+    private static String query(Random random, String[] words) {
+        if (random.nextBoolean()) {
+            return words[skewed(random)].substring(0, 2);
+        }
+        return random.nextBoolean()
+                ? words[skewed(random)]
+                : words[skewed(random)] + " " + words[skewed(random)];
+    }
+
+    /**
+     * 자주 쓰이는 단어에 치우친 단어 번호 (실제 제목처럼 일부 단어가 많이 등장)
+     */
+    private static int skewed(Random random) {
+        double u = random.nextDouble();
+        return (int) (VOCABULARY * u * u * u);
+    }
+
+    private static String word(int index) {
+        StringBuilder word = new StringBuilder();
+        int value = index;
+        do {
+            word.append((char) ('a' + value % 26));
+            value /= 26;
+        } while (value > 0);
+        return word.append("x").toString();
+    }
+}
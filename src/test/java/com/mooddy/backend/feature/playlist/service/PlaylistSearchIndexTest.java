@@ -0,0 +1,158 @@
+package com.mooddy.backend.feature.playlist.service;
+
+import com.mooddy.backend.feature.playlist.domain.Playlist;
+import com.mooddy.backend.feature.playlist.domain.Visibility;
+import com.mooddy.backend.feature.playlist.repository.PlaylistRepository;
+import com.mooddy.backend.feature.playlist.repository.PlaylistSearchDocument;
+import com.mooddy.backend.global.util.InvertedIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 플레이리스트 검색 인덱스 검증 (순위, 접두어/다중 단어 일치, 페이지 경계, 수정/삭제와 압축, 적재 중 변경)
+ */
+class PlaylistSearchIndexTest {
+
+    private PlaylistRepository playlistRepository;
+    private PlaylistSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        playlistRepository = mock(PlaylistRepository.class);
+        index = new PlaylistSearchIndex(playlistRepository);
+    }
+
+    @Test
+    void ranksTitleOverDescriptionAndExactOverPrefix() {
+        index.index(playlist(1L, "Rock Anthem", null));
+        index.index(playlist(2L, "Rocket Man", null));
+        index.index(playlist(3L, "Mix", "rock classics"));
+        index.index(playlist(4L, "Other", "rockabilly"));
+        index.index(playlist(5L, "rock", null));
+        index.index(playlist(6L, "jazz", "smooth"));
+
+        InvertedIndex.SearchResult result = index.search("ROCK", 0, 10);
+
+        // 같은 점수(1, 5)는 id 큰 순
+        assertThat(result.ids()).containsExactly(5L, 1L, 2L, 3L, 4L);
+        assertThat(result.totalHits()).isEqualTo(5);
+    }
+
+    @Test
+    void everyQueryTermMustMatch() {
+        index.index(playlist(10L, "rock ballad", null));
+        index.index(playlist(11L, "rock", "ballads and hits"));
+        index.index(playlist(12L, "ballad", null));
+        index.index(playlist(13L, "rock", null));
+
+        assertThat(index.search("rock ballad", 0, 10).ids()).containsExactly(10L, 11L);
+        assertThat(index.search("ro ba", 0, 10).ids()).containsExactlyInAnyOrder(10L, 11L);
+        assertThat(index.search("rock polka", 0, 10).ids()).isEmpty();
+        // 한 글자는 접두어로 펼치지 않음
+        assertThat(index.search("r", 0, 10).ids()).isEmpty();
+    }
+
+    @Test
+    void pagesAcrossTopHitsBoundaryWithoutGapsOrDuplicates() {
+        for (long id = 100; id < 130; id++) {
+            index.index(playlist(id, "jazz " + id, null));
+        }
+
+        List<Long> walked = new ArrayList<>();
+        for (int offset = 0; offset < 30; offset += 7) {
+            InvertedIndex.SearchResult page = index.search("jazz", offset, 7);
+            assertThat(page.totalHits()).isEqualTo(30);
+            walked.addAll(page.ids());
+        }
+
+        assertThat(walked).containsExactlyElementsOf(
+                LongStream.iterate(129, id -> id - 1).limit(30).boxed().collect(Collectors.toList()));
+        assertThat(index.search("jazz", 30, 7).ids()).isEmpty();
+    }
+
+    @Test
+    void updatesAndDeletesReplaceOldTerms() {
+        index.index(playlist(1L, "old title", null));
+        index.index(playlist(1L, "new title", null));
+
+        assertThat(index.search("old", 0, 10).ids()).isEmpty();
+        assertThat(index.search("new", 0, 10).ids()).containsExactly(1L);
+        assertThat(index.search("title", 0, 10).totalHits()).isEqualTo(1);
+
+        // PUBLIC이 아니게 되면 제외
+        Playlist hidden = playlist(1L, "new title", null);
+        hidden.setVisibility(Visibility.PRIVATE);
+        index.index(hidden);
+        assertThat(index.search("new", 0, 10).ids()).isEmpty();
+
+        index.index(playlist(2L, "gone", null));
+        index.remove(2L);
+        assertThat(index.search("gone", 0, 10).ids()).isEmpty();
+    }
+
+    @Test
+    void compactionKeepsSurvivorsSearchable() {
+        for (long id = 1; id <= 1500; id++) {
+            index.index(playlist(id, "bulk t" + id, null));
+        }
+        // 죽은 번호가 압축 기준(1024개, 전체의 1/4)을 넘도록 삭제
+        for (long id = 1; id <= 1100; id++) {
+            index.remove(id);
+        }
+        index.index(playlist(1300L, "bulk moved", null));
+        index.index(playlist(2000L, "bulk t2000", null));
+
+        InvertedIndex.SearchResult all = index.search("bulk", 0, 1000);
+        assertThat(all.totalHits()).isEqualTo(401);
+        assertThat(new HashSet<>(all.ids())).hasSize(401).contains(1101L, 1300L, 1500L, 2000L);
+        assertThat(index.search("t1200", 0, 10).ids()).containsExactly(1200L);
+        assertThat(index.search("t1300", 0, 10).ids()).isEmpty();
+        assertThat(index.search("moved", 0, 10).ids()).containsExactly(1300L);
+        assertThat(index.search("t5", 0, 10).ids()).isEmpty();
+    }
+
+    @Test
+    void warmUpDoesNotOverwriteChangesAppliedWhileLoading() {
+        when(playlistRepository.findSearchDocuments(eq(Visibility.PUBLIC), eq(0L), any())).thenAnswer(invocation -> {
+            // 적재 쿼리가 실행되는 동안 커밋된 수정/삭제
+            index.index(playlist(7L, "fresh", null));
+            index.remove(8L);
+            return List.of(
+                    new PlaylistSearchDocument(7L, "stale", null),
+                    new PlaylistSearchDocument(8L, "stale", null),
+                    new PlaylistSearchDocument(9L, "stale", null));
+        });
+
+        index.warmUp();
+
+        assertThat(index.search("stale", 0, 10).ids()).containsExactly(9L);
+        assertThat(index.search("fresh", 0, 10).ids()).containsExactly(7L);
+
+        // 적재가 끝난 뒤의 변경은 그대로 반영
+        index.index(playlist(9L, "fresh again", null));
+        Set<Long> fresh = new HashSet<>(index.search("fresh", 0, 10).ids());
+        assertThat(fresh).containsExactlyInAnyOrder(7L, 9L);
+    }
+
+    private static Playlist playlist(Long id, String title, String description) {
+        return Playlist.builder()
+                .id(id)
+                .title(title)
+                .description(description)
+                .visibility(Visibility.PUBLIC)
+                .build();
+    }
+}
@@ -0,0 +1,111 @@
+package com.mooddy.backend.feature.playlist.service;
+
+import com.mooddy.backend.feature.playlist.domain.Playlist;
+import com.mooddy.backend.feature.playlist.domain.Visibility;
+import com.mooddy.backend.feature.playlist.dto.PlaylistSummaryDto;
+import com.mooddy.backend.feature.playlist.dto.PlaylistSyncResponseDto;
+import com.mooddy.backend.feature.playlist.repository.PlaylistRepository;
+import com.mooddy.backend.feature.user.domain.AuthProvider;
+import com.mooddy.backend.feature.user.domain.User;
+import com.mooddy.backend.feature.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 변경분 동기화 커서 검증 (같은 시각에 바뀐 플레이리스트가 한 페이지보다 많아도 빠짐없이 이어지는지)
+ */
+@SpringBootTest
+class PlaylistSyncTest {
+
+    // 한 페이지(500건)보다 많게
+    private static final int PLAYLIST_COUNT = 520;
+
+    @Autowired
+    private PlaylistService playlistService;
+    @Autowired
+    private PlaylistRepository playlistRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User owner;
+
+    @BeforeEach
+    void setUp() {
+        owner = userRepository.save(User.builder()
+                .nickname("owner")
+                .email("owner@mooddy.com")
+                .password("password")
+                .provider(AuthProvider.LOCAL)
+                .enabled(true)
+                .build());
+        List<Playlist> playlists = new ArrayList<>();
+        for (int i = 0; i < PLAYLIST_COUNT; i++) {
+            playlists.add(Playlist.builder()
+                    .title("playlist-" + i)
+                    .visibility(Visibility.PRIVATE)
+                    .user(owner)
+                    .build());
+        }
+        playlistRepository.saveAll(playlists);
+    }
+
+    @AfterEach
+    void tearDown() {
+        playlistRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void pagesThroughChangesThatShareOneTimestamp() {
+        LocalDateTime changedAt = LocalDateTime.now().minusHours(1).truncatedTo(ChronoUnit.SECONDS);
+        jdbcTemplate.update("UPDATE playlists SET updated_at = ? WHERE user_id = ?",
+                Timestamp.valueOf(changedAt), owner.getId());
+
+        Set<Long> received = new HashSet<>();
+        LocalDateTime since = changedAt.minusSeconds(1);
+        Long sinceId = null;
+        int pages = 0;
+        PlaylistSyncResponseDto page;
+        do {
+            page = playlistService.syncPlaylists(owner, since, sinceId);
+            page.upserted().forEach(dto -> assertThat(received.add(dto.id())).isTrue());
+            since = page.watermark();
+            sinceId = page.watermarkId();
+            pages++;
+        } while (page.hasMore() && pages < 10);
+
+        assertThat(pages).isEqualTo(2);
+        assertThat(received).hasSize(PLAYLIST_COUNT);
+
+        // 마지막 watermark로 다시 요청하면 받을 것이 없음
+        assertThat(playlistService.syncPlaylists(owner, since, sinceId).upserted()).isEmpty();
+    }
+
+    @Test
+    void fullSyncIsOldestFirst() {
+        PlaylistSyncResponseDto full = playlistService.syncPlaylists(owner, null, null);
+
+        assertThat(full.reset()).isTrue();
+        assertThat(full.upserted())
+                .hasSize(PLAYLIST_COUNT)
+                .isSortedAccordingTo(Comparator.comparing(PlaylistSummaryDto::updatedAt)
+                        .thenComparing(PlaylistSummaryDto::id));
+    }
+}
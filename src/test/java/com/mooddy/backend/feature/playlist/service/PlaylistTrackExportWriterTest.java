@@ -0,0 +1,100 @@
+package com.mooddy.backend.feature.playlist.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mooddy.backend.feature.playlist.domain.PlaylistTrack;
+import com.mooddy.backend.feature.playlist.dto.PlaylistExportFormat;
+import com.mooddy.backend.feature.track.domain.Track;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 내보내기 형식 검증 (NDJSON 한 줄에 한 곡, CSV 헤더/RFC 4180 이스케이프)
+ */
+class PlaylistTrackExportWriterTest {
+
+    private static final LocalDateTime ADDED_AT = LocalDateTime.of(2025, 3, 1, 12, 30);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void ndjsonWritesOneObjectPerLine() throws IOException {
+        String output = export(PlaylistExportFormat.NDJSON, List.of(
+                playlistTrack(track(101L, "Song \"One\"", 180_000)),
+                playlistTrack(track(102L, "두 번째\n곡", null))));
+
+        assertThat(output).endsWith("\n");
+        String[] lines = output.split("\n");
+        assertThat(lines).hasSize(2);
+
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertThat(first.get("position").asInt()).isZero();
+        assertThat(first.get("trackId").asLong()).isEqualTo(101L);
+        assertThat(first.get("title").asText()).isEqualTo("Song \"One\"");
+        assertThat(first.get("durationMs").asInt()).isEqualTo(180_000);
+        assertThat(first.get("addedAt").asText()).isEqualTo(ADDED_AT.toString());
+
+        JsonNode second = objectMapper.readTree(lines[1]);
+        assertThat(second.get("position").asInt()).isEqualTo(1);
+        assertThat(second.get("title").asText()).isEqualTo("두 번째\n곡");
+        assertThat(second.get("durationMs").isNull()).isTrue();
+        assertThat(second.get("album").isNull()).isTrue();
+    }
+
+    @Test
+    void ndjsonWithoutTracksIsEmpty() throws IOException {
+        assertThat(export(PlaylistExportFormat.NDJSON, List.of())).isEmpty();
+    }
+
+    @Test
+    void csvEscapesSeparatorsQuotesAndLineBreaks() throws IOException {
+        Track track = track(201L, "Hello, \"World\"", 200_000);
+        track.setArtist("Line\r\nBreak");
+        track.setAlbum("Plain");
+
+        String output = export(PlaylistExportFormat.CSV, List.of(playlistTrack(track)));
+
+        assertThat(output).isEqualTo(
+                "position,trackId,title,artist,album,durationMs,releaseDate,genre,previewUrl,addedAt\r\n"
+                        + "0,201,\"Hello, \"\"World\"\"\",\"Line\r\nBreak\",Plain,200000,,,,"
+                        + ADDED_AT + "\r\n");
+    }
+
+    @Test
+    void csvWithoutTracksHasOnlyHeader() throws IOException {
+        assertThat(export(PlaylistExportFormat.CSV, List.of())).isEqualTo(
+                "position,trackId,title,artist,album,durationMs,releaseDate,genre,previewUrl,addedAt\r\n");
+    }
+
+    private String export(PlaylistExportFormat format, List<PlaylistTrack> tracks) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (PlaylistTrackExportWriter writer = new PlaylistTrackExportWriter(format, out, objectMapper.getFactory())) {
+            for (int i = 0; i < tracks.size(); i++) {
+                writer.write(i, tracks.get(i));
+            }
+        }
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private static Track track(Long trackId, String title, Integer durationMs) {
+        return Track.builder()
+                .trackId(trackId)
+                .title(title)
+                .durationMs(durationMs)
+                .build();
+    }
+
+    private static PlaylistTrack playlistTrack(Track track) {
+        return PlaylistTrack.builder()
+                .track(track)
+                .addedAt(ADDED_AT)
+                .build();
+    }
+}
@@ -0,0 +1,129 @@
+package com.mooddy.backend.feature.playlist.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.mooddy.backend.feature.playlist.dto.PlaylistImportFormat;
+import com.mooddy.backend.global.exception.BadRequestException;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 가져오기 파일 파서 검증 (잘못된 항목, BOM, 주석 줄, 너무 긴 입력)
+ */
+class PlaylistTrackImportReaderTest {
+
+    private static final String BOM = "\uFEFF";
+
+    @Test
+    void csvUsesTrackIdHeaderColumnAndCountsMalformedRows() throws IOException {
+        String csv = "title,track_id\n" +
+                "\"Hello, \"\"World\"\"\",101\n" +
+                "no id,\n" +
+                "bad,12ab\n" +
+                "\n" +
+                "\"multi\nline\",102\r\n" +
+                "negative,-5\n";
+
+        Result result = readAll(PlaylistImportFormat.CSV, csv);
+
+        assertThat(result.trackIds()).containsExactly(101L, 102L);
+        assertThat(result.parsed()).isEqualTo(5);
+        assertThat(result.invalid()).isEqualTo(3);
+    }
+
+    @Test
+    void csvWithoutHeaderReadsFirstColumn() throws IOException {
+        Result result = readAll(PlaylistImportFormat.CSV, "201,extra\n202\n");
+
+        assertThat(result.trackIds()).containsExactly(201L, 202L);
+        assertThat(result.invalid()).isZero();
+    }
+
+    @Test
+    void bomIsIgnored() throws IOException {
+        assertThat(readAll(PlaylistImportFormat.CSV, BOM + "trackId\n301\n").trackIds()).containsExactly(301L);
+        assertThat(readAll(PlaylistImportFormat.M3U, BOM + "#EXTM3U\n302\n").trackIds()).containsExactly(302L);
+        assertThat(readAll(PlaylistImportFormat.JSON, BOM + "[303]").trackIds()).containsExactly(303L);
+    }
+
+    @Test
+    void m3uSkipsCommentLinesAndReadsTrackUrls() throws IOException {
+        String m3u = "#EXTM3U\n" +
+                "#EXTINF:200,artist - title\n" +
+                "https://music.apple.com/kr/album/some-album/1?i=401\n" +
+                "  \n" +
+                "https://music.apple.com/kr/song/some-song/402\n" +
+                "https://itunes.apple.com/kr/id403\r\n" +
+                "/music/local/file.mp3\n" +
+                "404";
+
+        Result result = readAll(PlaylistImportFormat.M3U, m3u);
+
+        assertThat(result.trackIds()).containsExactly(401L, 402L, 403L, 404L);
+        assertThat(result.parsed()).isEqualTo(5);
+        assertThat(result.invalid()).isEqualTo(1);
+    }
+
+    @Test
+    void jsonReadsArraysObjectsAndNdjson() throws IOException {
+        String json = "[{\"trackId\": 501, \"title\": {\"nested\": [1, 2]}}, \"502\", {\"title\": \"no id\"}, true]\n" +
+                "{\"track_id\": \"503\"}\n" +
+                "[[504]]";
+
+        Result result = readAll(PlaylistImportFormat.JSON, json);
+
+        assertThat(result.trackIds()).containsExactly(501L, 502L, 503L, 504L);
+        assertThat(result.invalid()).isEqualTo(2);
+    }
+
+    @Test
+    void oversizeLineIsRejected() {
+        String longLine = "1".repeat(10_000);
+
+        assertThatThrownBy(() -> readAll(PlaylistImportFormat.CSV, "trackId\n" + longLine + "\n"))
+                .isInstanceOf(BadRequestException.class);
+        // 줄바꿈이 없는 큰 M3U도 통째로 읽지 않고 거절
+        assertThatThrownBy(() -> readAll(PlaylistImportFormat.M3U, "#EXTM3U\n" + longLine))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    void readsInChunks() throws IOException {
+        StringBuilder csv = new StringBuilder();
+        for (int i = 1; i <= 7; i++) {
+            csv.append(i).append('\n');
+        }
+        try (PlaylistTrackImportReader reader = reader(PlaylistImportFormat.CSV, csv.toString())) {
+            assertThat(reader.nextChunk(3)).containsExactly(1L, 2L, 3L);
+            assertThat(reader.nextChunk(3)).containsExactly(4L, 5L, 6L);
+            assertThat(reader.nextChunk(3)).containsExactly(7L);
+            assertThat(reader.nextChunk(3)).isEmpty();
+        }
+    }
+
+    private static Result readAll(PlaylistImportFormat format, String content) throws IOException {
+        try (PlaylistTrackImportReader reader = reader(format, content)) {
+            List<Long> trackIds = new ArrayList<>();
+            List<Long> chunk;
+            while (!(chunk = reader.nextChunk(2)).isEmpty()) {
+                trackIds.addAll(chunk);
+            }
+            return new Result(trackIds, reader.parsed(), reader.invalid());
+        }
+    }
+
+    private static PlaylistTrackImportReader reader(PlaylistImportFormat format, String content) throws IOException {
+        return new PlaylistTrackImportReader(format,
+                new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), new JsonFactory());
+    }
+
+    private record Result(List<Long> trackIds, int parsed, int invalid) {
+    }
+}
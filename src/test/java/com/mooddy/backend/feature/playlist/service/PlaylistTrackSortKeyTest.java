@@ -0,0 +1,167 @@
+package com.mooddy.backend.feature.playlist.service;
+
+import com.mooddy.backend.feature.playlist.domain.Playlist;
+import com.mooddy.backend.feature.playlist.domain.PlaylistTrack;
+import com.mooddy.backend.feature.playlist.domain.Visibility;
+import com.mooddy.backend.feature.playlist.dto.PlaylistResponseDto;
+import com.mooddy.backend.feature.playlist.repository.PlaylistRepository;
+import com.mooddy.backend.feature.playlist.repository.PlaylistTrackRepository;
+import com.mooddy.backend.feature.track.domain.Track;
+import com.mooddy.backend.feature.track.repository.TrackRepository;
+import com.mooddy.backend.feature.user.domain.AuthProvider;
+import com.mooddy.backend.feature.user.domain.User;
+import com.mooddy.backend.feature.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 정렬 키 재정렬(순서 유지, 간격 소진 시 즉시 재정렬)과 예전 position 컬럼 정리 검증
+ */
+@SpringBootTest
+class PlaylistTrackSortKeyTest {
+
+    private static final int TRACK_COUNT = 5;
+    private static final long GAP = PlaylistTrackOrdering.GAP;
+
+    @Autowired
+    private PlaylistService playlistService;
+    @Autowired
+    private PlaylistTrackRebalancer playlistTrackRebalancer;
+    @Autowired
+    private PlaylistTrackSchemaMigration playlistTrackSchemaMigration;
+    @Autowired
+    private PlaylistRepository playlistRepository;
+    @Autowired
+    private PlaylistTrackRepository playlistTrackRepository;
+    @Autowired
+    private TrackRepository trackRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User owner;
+    private List<Track> tracks;
+
+    @BeforeEach
+    void setUp() {
+        owner = userRepository.save(User.builder()
+                .nickname("owner")
+                .email("owner@mooddy.com")
+                .password("password")
+                .provider(AuthProvider.LOCAL)
+                .enabled(true)
+                .build());
+        tracks = new ArrayList<>();
+        for (int i = 0; i < TRACK_COUNT; i++) {
+            tracks.add(trackRepository.save(Track.builder()
+                    .trackId(930_000L + i)
+                    .title("track-" + i)
+                    .build()));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        playlistRepository.deleteAll();
+        trackRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void rebalanceKeepsOrderAndSpreadsKeys() {
+        // 간격이 다 좁혀진 상태, 같은 키는 id 순
+        Playlist playlist = savePlaylist(new long[]{5, 3, 3, 4, 1});
+
+        playlistTrackRebalancer.rebalance(playlist.getId());
+
+        List<PlaylistTrack> rebalanced = playlistTrackRepository.findByPlaylistIdOrderBySortKeyAscIdAsc(playlist.getId());
+        assertThat(rebalanced).extracting(pt -> pt.getTrack().getId())
+                .containsExactly(trackIds(4, 1, 2, 3, 0));
+        assertThat(rebalanced).extracting(PlaylistTrack::getSortKey)
+                .containsExactly(GAP, 2 * GAP, 3 * GAP, 4 * GAP, 5 * GAP);
+    }
+
+    @Test
+    void moveIntoExhaustedGapRebalancesInline() {
+        // 이웃 키 사이에 남은 값이 없음
+        Playlist playlist = savePlaylist(new long[]{1, 2, 3, 4, 5});
+
+        PlaylistResponseDto moved = playlistService.updateTrackPosition(
+                playlist.getId(), owner, tracks.get(4).getId(), 1);
+
+        assertThat(moved.tracks()).extracting(pt -> pt.track().trackId())
+                .containsExactly(930_000L, 930_004L, 930_001L, 930_002L, 930_003L);
+        List<Long> keys = playlistTrackRepository.findByPlaylistIdOrderBySortKeyAscIdAsc(playlist.getId()).stream()
+                .map(PlaylistTrack::getSortKey)
+                .collect(Collectors.toList());
+        assertThat(keys).doesNotHaveDuplicates().isSorted();
+    }
+
+    @Test
+    void legacyPositionColumnIsBackfilledAndDropped() {
+        Playlist playlist = savePlaylist(new long[]{0, 0, 0, 0, 0});
+        // 예전 스키마: 0부터 연속된 position과 (playlist_id, position) 유니크 제약, 아직 채워지지 않은 sort_key
+        jdbcTemplate.execute("ALTER TABLE playlist_tracks ALTER COLUMN sort_key SET NULL");
+        jdbcTemplate.update("UPDATE playlist_tracks SET sort_key = NULL WHERE playlist_id = ?", playlist.getId());
+        jdbcTemplate.execute("ALTER TABLE playlist_tracks ADD COLUMN position INT");
+        jdbcTemplate.update("UPDATE playlist_tracks SET position = ? - track_id WHERE playlist_id = ?",
+                tracks.get(TRACK_COUNT - 1).getId(), playlist.getId());
+        jdbcTemplate.execute("ALTER TABLE playlist_tracks ADD CONSTRAINT uk_playlist_track_position "
+                + "UNIQUE (playlist_id, position)");
+
+        playlistTrackSchemaMigration.migrate();
+
+        Integer legacyColumns = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM INFORMATION_SCHEMA.COLUMNS "
+                        + "WHERE TABLE_NAME = 'PLAYLIST_TRACKS' AND COLUMN_NAME = 'POSITION'", Integer.class);
+        assertThat(legacyColumns).isZero();
+        String nullable = jdbcTemplate.queryForObject(
+                "SELECT IS_NULLABLE FROM INFORMATION_SCHEMA.COLUMNS "
+                        + "WHERE TABLE_NAME = 'PLAYLIST_TRACKS' AND COLUMN_NAME = 'SORT_KEY'", String.class);
+        assertThat(nullable).isEqualTo("NO");
+        // position 역순으로 넣었으므로 마지막 곡이 맨 앞
+        List<PlaylistTrack> migrated = playlistTrackRepository.findByPlaylistIdOrderBySortKeyAscIdAsc(playlist.getId());
+        assertThat(migrated).extracting(pt -> pt.getTrack().getId())
+                .containsExactly(trackIds(4, 3, 2, 1, 0));
+        assertThat(migrated).extracting(PlaylistTrack::getSortKey)
+                .containsExactly(GAP, 2 * GAP, 3 * GAP, 4 * GAP, 5 * GAP);
+
+        // 이미 정리된 DB에서는 아무것도 하지 않음
+        playlistTrackSchemaMigration.migrate();
+    }
+
+    private Long[] trackIds(int... indexes) {
+        Long[] ids = new Long[indexes.length];
+        for (int i = 0; i < indexes.length; i++) {
+            ids[i] = tracks.get(indexes[i]).getId();
+        }
+        return ids;
+    }
+
+    private Playlist savePlaylist(long[] sortKeys) {
+        Playlist playlist = Playlist.builder()
+                .title("ordered")
+                .visibility(Visibility.PRIVATE)
+                .user(owner)
+                .build();
+        for (int i = 0; i < TRACK_COUNT; i++) {
+            playlist.getPlaylistTracks().add(PlaylistTrack.builder()
+                    .playlist(playlist)
+                    .track(tracks.get(i))
+                    .sortKey(sortKeys[i])
+                    .build());
+        }
+        return playlistRepository.save(playlist);
+    }
+}
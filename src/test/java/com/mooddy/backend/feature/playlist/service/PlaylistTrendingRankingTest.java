@@ -0,0 +1,203 @@
+package com.mooddy.backend.feature.playlist.service;
+
+import com.mooddy.backend.feature.playlist.domain.PlaylistTrendingScore;
+import com.mooddy.backend.feature.playlist.domain.Visibility;
+import com.mooddy.backend.feature.playlist.dto.PlaylistSummaryDto;
+import com.mooddy.backend.feature.playlist.repository.PlaylistRepository;
+import com.mooddy.backend.feature.playlist.repository.PlaylistTrendingScoreJdbcRepository;
+import com.mooddy.backend.feature.playlist.repository.PlaylistTrendingScoreJdbcRepository.ScoreRow;
+import com.mooddy.backend.feature.playlist.repository.PlaylistTrendingScoreRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 인기 순위 검증 (감쇠 계산, 상위 K개 순서, 스냅샷 저장/복원, 삭제/비공개 플레이리스트 제외)
+ */
+class PlaylistTrendingRankingTest {
+
+    private static final double HALF_LIFE_HOURS = 24;
+
+    private PlaylistRepository playlistRepository;
+    private PlaylistTrendingScoreRepository scoreRepository;
+    private PlaylistTrendingScoreJdbcRepository scoreJdbcRepository;
+    private PlaylistTrendingRanking ranking;
+    // findPublicSummariesByIdIn이 PUBLIC으로 돌려줄 플레이리스트 (나머지는 비공개로 바뀌었거나 삭제된 것으로 봄)
+    private final Set<Long> publicIds = new HashSet<>();
+
+    @BeforeEach
+    void setUp() {
+        playlistRepository = mock(PlaylistRepository.class);
+        scoreRepository = mock(PlaylistTrendingScoreRepository.class);
+        scoreJdbcRepository = mock(PlaylistTrendingScoreJdbcRepository.class);
+        when(playlistRepository.findPublicSummariesByIdIn(anyCollection())).thenAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            return ids.stream()
+                    .filter(publicIds::contains)
+                    .map(PlaylistTrendingRankingTest::summary)
+                    .collect(Collectors.toList());
+        });
+        ranking = newRanking();
+    }
+
+    @Test
+    void scoresDecayByHalfEveryHalfLife() {
+        when(scoreRepository.findAll()).thenReturn(List.of(
+                snapshot(1L, 8, LocalDateTime.now().minusHours(24)),
+                snapshot(2L, 8, LocalDateTime.now().minusHours(48)),
+                // 반감기 두 번 지나면 MIN_SCORE(0.05)보다 작아짐
+                snapshot(3L, 0.1, LocalDateTime.now().minusHours(48))));
+        ranking.load();
+
+        // 8점이 하루 지나 4점이 되고, 조회 1점이 더해짐
+        ranking.record(1L, Visibility.PUBLIC, PlaylistTrendingRanking.Signal.VIEW);
+        ranking.record(2L, Visibility.PUBLIC, PlaylistTrendingRanking.Signal.VIEW);
+        ranking.snapshot();
+
+        List<ScoreRow> rows = capturedUpserts();
+        assertThat(score(rows, 1L)).isCloseTo(5.0, within(0.01));
+        assertThat(score(rows, 2L)).isCloseTo(3.0, within(0.01));
+        assertThat(capturedDeletes()).containsExactly(3L);
+    }
+
+    @Test
+    void topIsOrderedByWeightedScore() {
+        publicIds.addAll(List.of(1L, 2L, 3L, 4L, 5L));
+        ranking.record(1L, Visibility.PUBLIC, PlaylistTrendingRanking.Signal.VIEW);
+        ranking.record(2L, Visibility.PUBLIC, PlaylistTrendingRanking.Signal.FORK);
+        ranking.record(3L, Visibility.PUBLIC, PlaylistTrendingRanking.Signal.TRACK_ADD);
+        ranking.record(4L, Visibility.PUBLIC, PlaylistTrendingRanking.Signal.VIEW);
+        ranking.record(4L, Visibility.PUBLIC, PlaylistTrendingRanking.Signal.VIEW);
+        ranking.record(5L, Visibility.PUBLIC, PlaylistTrendingRanking.Signal.VIEW);
+
+        ranking.refresh();
+
+        assertThat(ids(ranking.top(3))).containsExactly(2L, 3L, 4L);
+        // 같은 점수(1, 5)는 최근 플레이리스트 우선
+        assertThat(ids(ranking.top(10))).containsExactly(2L, 3L, 4L, 5L, 1L);
+    }
+
+    @Test
+    void topKeepsOnlyMaxTrending() {
+        for (long id = 1; id <= PlaylistTrendingRanking.MAX_TRENDING + 50; id++) {
+            publicIds.add(id);
+            ranking.record(id, Visibility.PUBLIC, PlaylistTrendingRanking.Signal.VIEW);
+        }
+        ranking.record(7L, Visibility.PUBLIC, PlaylistTrendingRanking.Signal.FORK);
+
+        ranking.refresh();
+
+        assertThat(ranking.top(Integer.MAX_VALUE)).hasSize(PlaylistTrendingRanking.MAX_TRENDING);
+        assertThat(ranking.top(1).get(0).id()).isEqualTo(7L);
+    }
+
+    @Test
+    void deletedAndNonPublicPlaylistsAreLeftOut() {
+        publicIds.addAll(List.of(1L, 3L));
+        ranking.record(1L, Visibility.PUBLIC, PlaylistTrendingRanking.Signal.VIEW);
+        ranking.record(2L, Visibility.PUBLIC, PlaylistTrendingRanking.Signal.FORK);
+        // 이벤트 시점에 비공개면 기록하지 않음
+        ranking.record(4L, Visibility.PRIVATE, PlaylistTrendingRanking.Signal.FORK);
+        // 기록 후 비공개로 바뀜 (요약 조회에서 걸러짐)
+        ranking.record(5L, Visibility.PUBLIC, PlaylistTrendingRanking.Signal.FORK);
+        ranking.record(3L, Visibility.PUBLIC, PlaylistTrendingRanking.Signal.TRACK_ADD);
+        ranking.remove(2L);
+
+        ranking.refresh();
+        assertThat(ids(ranking.top(10))).containsExactly(3L, 1L);
+
+        ranking.snapshot();
+        assertThat(capturedUpserts()).extracting(ScoreRow::playlistId).containsExactlyInAnyOrder(1L, 3L, 5L);
+        assertThat(capturedDeletes()).containsExactly(2L);
+    }
+
+    @Test
+    void removedPlaylistLeavesTopWithoutRefresh() {
+        publicIds.addAll(List.of(1L, 2L, 3L));
+        ranking.record(1L, Visibility.PUBLIC, PlaylistTrendingRanking.Signal.VIEW);
+        ranking.record(2L, Visibility.PUBLIC, PlaylistTrendingRanking.Signal.FORK);
+        ranking.record(3L, Visibility.PUBLIC, PlaylistTrendingRanking.Signal.TRACK_ADD);
+        ranking.refresh();
+
+        // 삭제/비공개 전환 직후, 다음 재계산 전에도 상위 목록에서 빠짐
+        ranking.remove(2L);
+
+        assertThat(ids(ranking.top(10))).containsExactly(3L, 1L);
+    }
+
+    @Test
+    void snapshotRoundTripRestoresRanking() {
+        publicIds.addAll(List.of(1L, 2L, 3L));
+        ranking.record(1L, Visibility.PUBLIC, PlaylistTrendingRanking.Signal.VIEW);
+        ranking.record(2L, Visibility.PUBLIC, PlaylistTrendingRanking.Signal.FORK);
+        ranking.record(3L, Visibility.PUBLIC, PlaylistTrendingRanking.Signal.TRACK_ADD);
+        ranking.snapshot();
+        List<ScoreRow> rows = capturedUpserts();
+
+        // 재시작: 저장된 행으로 복원
+        PlaylistTrendingRanking restarted = newRanking();
+        when(scoreRepository.findAll()).thenReturn(rows.stream()
+                .map(row -> snapshot(row.playlistId(), row.score(), row.scoredAt()))
+                .collect(Collectors.toList()));
+        restarted.load();
+
+        assertThat(ids(restarted.top(10))).containsExactly(2L, 3L, 1L);
+    }
+
+    private PlaylistTrendingRanking newRanking() {
+        return new PlaylistTrendingRanking(playlistRepository, scoreRepository, scoreJdbcRepository, HALF_LIFE_HOURS);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<ScoreRow> capturedUpserts() {
+        ArgumentCaptor<List<ScoreRow>> captor = ArgumentCaptor.forClass(List.class);
+        verify(scoreJdbcRepository).upsertAll(captor.capture());
+        return captor.getValue();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Collection<Long> capturedDeletes() {
+        ArgumentCaptor<Collection<Long>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(scoreJdbcRepository).deleteAll(captor.capture());
+        return captor.getValue();
+    }
+
+    private static double score(List<ScoreRow> rows, Long playlistId) {
+        return rows.stream()
+                .filter(row -> row.playlistId().equals(playlistId))
+                .findFirst()
+                .orElseThrow()
+                .score();
+    }
+
+    private static List<Long> ids(List<PlaylistSummaryDto> summaries) {
+        return summaries.stream().map(PlaylistSummaryDto::id).collect(Collectors.toList());
+    }
+
+    private static PlaylistTrendingScore snapshot(Long playlistId, double score, LocalDateTime scoredAt) {
+        return PlaylistTrendingScore.builder()
+                .playlistId(playlistId)
+                .score(score)
+                .scoredAt(scoredAt)
+                .build();
+    }
+
+    private static PlaylistSummaryDto summary(Long id) {
+        return new PlaylistSummaryDto(id, "playlist-" + id, null, Visibility.PUBLIC, 1L, "owner",
+                0, 0, LocalDateTime.now(), LocalDateTime.now());
+    }
+}
@@ -0,0 +1,96 @@
+package com.mooddy.backend.feature.playlist.service;
+
+import com.mooddy.backend.feature.playlist.domain.Playlist;
+import com.mooddy.backend.feature.playlist.domain.Visibility;
+import com.mooddy.backend.feature.playlist.dto.PlaylistRequestDto;
+import com.mooddy.backend.feature.playlist.dto.PlaylistSummaryDto;
+import com.mooddy.backend.feature.playlist.repository.PlaylistRepository;
+import com.mooddy.backend.feature.playlist.repository.PlaylistTombstoneRepository;
+import com.mooddy.backend.feature.user.domain.AuthProvider;
+import com.mooddy.backend.feature.user.domain.User;
+import com.mooddy.backend.feature.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 인기 목록에 오른 플레이리스트를 삭제하거나 비공개로 바꾸면 다음 재계산을 기다리지 않고 바로 빠지는지 검증
+ */
+@SpringBootTest
+class PlaylistTrendingRemovalTest {
+
+    private static final int PLAYLIST_COUNT = 3;
+
+    @Autowired
+    private PlaylistService playlistService;
+    @Autowired
+    private PlaylistTrendingRanking playlistTrendingRanking;
+    @Autowired
+    private PlaylistRepository playlistRepository;
+    @Autowired
+    private PlaylistTombstoneRepository playlistTombstoneRepository;
+    @Autowired
+    private UserRepository userRepository;
+
+    private User owner;
+    private List<Playlist> playlists;
+
+    @BeforeEach
+    void setUp() {
+        owner = userRepository.save(User.builder()
+                .nickname("owner")
+                .email("owner@mooddy.com")
+                .password("password")
+                .provider(AuthProvider.LOCAL)
+                .enabled(true)
+                .build());
+        playlists = new ArrayList<>();
+        for (int i = 0; i < PLAYLIST_COUNT; i++) {
+            Playlist playlist = playlistRepository.save(Playlist.builder()
+                    .title("trending-" + i)
+                    .visibility(Visibility.PUBLIC)
+                    .user(owner)
+                    .build());
+            playlistTrendingRanking.record(playlist.getId(), Visibility.PUBLIC, PlaylistTrendingRanking.Signal.FORK);
+            playlists.add(playlist);
+        }
+        playlistTrendingRanking.refresh();
+    }
+
+    @AfterEach
+    void tearDown() {
+        playlistRepository.deleteAll();
+        playlistTombstoneRepository.deleteAll();
+        userRepository.deleteAll();
+        playlistTrendingRanking.refresh();
+    }
+
+    @Test
+    void deletedAndPrivatizedPlaylistsLeaveTrendingImmediately() {
+        assertThat(trendingIds()).containsAll(playlists.stream().map(Playlist::getId).collect(Collectors.toList()));
+
+        Playlist deleted = playlists.get(0);
+        Playlist privatized = playlists.get(1);
+        playlistService.deletePlaylist(deleted.getId(), owner);
+        playlistService.updatePlaylist(privatized.getId(), owner,
+                new PlaylistRequestDto(privatized.getTitle(), null, null, Visibility.PRIVATE, null));
+
+        assertThat(trendingIds())
+                .doesNotContain(deleted.getId(), privatized.getId())
+                .contains(playlists.get(2).getId());
+    }
+
+    private List<Long> trendingIds() {
+        return playlistService.getTrendingPlaylists(PlaylistTrendingRanking.MAX_TRENDING).stream()
+                .map(PlaylistSummaryDto::id)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,62 @@
+package com.mooddy.backend.global.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 역색인의 id -> 문서 번호 맵 검증 (확장, 삭제 후 탐사 경로 유지, 압축 후 번호 갱신)
+ */
+class InvertedIndexTest {
+
+    @Test
+    void longIntHashMapKeepsEntriesAcrossGrowthAndRemoval() {
+        InvertedIndex.LongIntHashMap map = new InvertedIndex.LongIntHashMap();
+        List<Long> keys = LongStream.concat(
+                        LongStream.rangeClosed(1, 5000),
+                        LongStream.of(0L, -1L, Integer.MAX_VALUE + 1L, Long.MAX_VALUE))
+                .boxed()
+                .collect(Collectors.toList());
+
+        for (int i = 0; i < keys.size(); i++) {
+            map.put(keys.get(i), i);
+        }
+        assertThat(map.size()).isEqualTo(keys.size());
+        for (int i = 0; i < keys.size(); i++) {
+            assertThat(map.get(keys.get(i))).isEqualTo(i);
+        }
+        assertThat(map.get(5001L)).isEqualTo(InvertedIndex.LongIntHashMap.MISSING);
+
+        // 짝수 번째만 지워도 남은 키는 모두 찾아져야 함
+        for (int i = 0; i < keys.size(); i += 2) {
+            assertThat(map.remove(keys.get(i))).isEqualTo(i);
+        }
+        assertThat(map.remove(keys.get(0))).isEqualTo(InvertedIndex.LongIntHashMap.MISSING);
+        assertThat(map.size()).isEqualTo(keys.size() / 2);
+        for (int i = 0; i < keys.size(); i++) {
+            int expected = i % 2 == 0 ? InvertedIndex.LongIntHashMap.MISSING : i;
+            assertThat(map.get(keys.get(i))).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void searchStillFindsDocumentsAfterCompaction() {
+        InvertedIndex index = new InvertedIndex("테스트", new InvertedIndex.Field(1f, 0.5f));
+        for (long id = 1; id <= 3000; id++) {
+            index.put(id, "song " + id);
+        }
+        // 죽은 번호가 충분히 쌓여 압축이 일어나도록 삭제
+        for (long id = 1; id <= 2000; id++) {
+            index.remove(id);
+        }
+
+        assertThat(index.size()).isEqualTo(1000);
+        assertThat(index.search("song", 0, 3).ids()).containsExactly(3000L, 2999L, 2998L);
+        assertThat(index.search("song 2500", 0, 10).ids()).containsExactly(2500L);
+        assertThat(index.search("song 1500", 0, 10).totalHits()).isZero();
+    }
+}
@@ -0,0 +1,26 @@
+package com.mooddy.backend.support;
+
+/**
+ * 현재 스레드에서 실행된 JDBC 문 수 카운터
+ * MockMvc 요청은 테스트 스레드에서 처리되므로 비동기 재정렬 등 다른 스레드의 쿼리는 섞이지 않음
+ * JDBC 배치는 executeBatch 한 번을 한 문으로 셈
+ */
+public final class QueryCounter {
+
+    private static final ThreadLocal<long[]> COUNT = ThreadLocal.withInitial(() -> new long[1]);
+
+    private QueryCounter() {
+    }
+
+    public static void reset() {
+        COUNT.get()[0] = 0;
+    }
+
+    public static long count() {
+        return COUNT.get()[0];
+    }
+
+    static void increment() {
+        COUNT.get()[0]++;
+    }
+}
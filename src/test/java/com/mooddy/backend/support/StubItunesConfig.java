@@ -0,0 +1,132 @@
+package com.mooddy.backend.support;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * iTunes API 대신 응답하는 WebClient (외부 호출 없이 호출 수를 세기 위함)
+ * lookup은 요청한 id마다 곡 하나를, search는 검색어로 만든 곡 몇 개를 지연 후 응답
+ */
+@TestConfiguration
+public class StubItunesConfig {
+
+    @Bean
+    StubItunes stubItunes() {
+        return new StubItunes();
+    }
+
+    @Bean
+    @Primary
+    WebClient stubItunesWebClient(StubItunes stubItunes) {
+        return WebClient.builder()
+                .exchangeFunction(stubItunes::exchange)
+                .build();
+    }
+
+    public static class StubItunes {
+
+        private static final int DEFAULT_SEARCH_RESULTS = 3;
+
+        private final ObjectMapper objectMapper = new ObjectMapper();
+        private final AtomicInteger lookupCalls = new AtomicInteger();
+        private final AtomicInteger searchCalls = new AtomicInteger();
+        private volatile Duration latency = Duration.ofMillis(200);
+        private volatile boolean lookupDown;
+        private volatile int searchResults = DEFAULT_SEARCH_RESULTS;
+
+        public int lookupCalls() {
+            return lookupCalls.get();
+        }
+
+        public int searchCalls() {
+            return searchCalls.get();
+        }
+
+        public void latency(Duration latency) {
+            this.latency = latency;
+        }
+
+        /**
+         * true면 lookup 요청에 503 응답 (iTunes 장애)
+         */
+        public void lookupDown(boolean lookupDown) {
+            this.lookupDown = lookupDown;
+        }
+
+        /**
+         * search 응답 곡 수 (trackId는 1000000부터 차례로)
+         */
+        public void searchResults(int searchResults) {
+            this.searchResults = searchResults;
+        }
+
+        public void reset() {
+            lookupCalls.set(0);
+            searchCalls.set(0);
+            lookupDown = false;
+            searchResults = DEFAULT_SEARCH_RESULTS;
+        }
+
+        private Mono<ClientResponse> exchange(ClientRequest request) {
+            MultiValueMap<String, String> params = UriComponentsBuilder.fromUri(request.url()).build().getQueryParams();
+            ArrayNode results = objectMapper.createArrayNode();
+            if (request.url().getPath().endsWith("/lookup")) {
+                lookupCalls.incrementAndGet();
+                if (lookupDown) {
+                    return Mono.delay(latency)
+                            .thenReturn(ClientResponse.create(HttpStatus.SERVICE_UNAVAILABLE).build());
+                }
+                for (String id : decode(params.getFirst("id")).split(",")) {
+                    results.add(track(Long.parseLong(id.trim()), "track-" + id.trim()));
+                }
+            } else {
+                searchCalls.incrementAndGet();
+                String term = decode(params.getFirst("term"));
+                for (int i = 0; i < searchResults; i++) {
+                    results.add(track(1_000_000L + i, term + " " + i));
+                }
+            }
+
+            ObjectNode body = objectMapper.createObjectNode();
+            body.put("resultCount", results.size());
+            body.set("results", results);
+            ClientResponse response = ClientResponse.create(HttpStatus.OK)
+                    .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                    .body(body.toString())
+                    .build();
+            return Mono.delay(latency).thenReturn(response);
+        }
+
+        private ObjectNode track(long trackId, String name) {
+            ObjectNode track = objectMapper.createObjectNode();
+            track.put("trackId", trackId);
+            track.put("trackName", name);
+            track.put("artistName", "artist");
+            track.put("collectionName", "album");
+            track.put("trackTimeMillis", 200_000);
+            return track;
+        }
+
+        private static String decode(String value) {
+            return value == null ? "" : URLDecoder.decode(value, StandardCharsets.UTF_8);
+        }
+    }
+}